@@ -53,10 +53,17 @@ tasks.test {
     dependsOn(gradle.includedBuild("siesta-jackson").task(":test"))
 }
 
+tasks.register("benchmark") {
+    description = "Runs the JMH benchmarks."
+    group = "verification"
+    dependsOn(gradle.includedBuild("siesta-benchmarks").task(":jmh"))
+}
+
 tasks.clean {
     dependsOn(gradle.includedBuild("siesta").task(":clean"))
     dependsOn(gradle.includedBuild("siesta-kotlin").task(":clean"))
     dependsOn(gradle.includedBuild("siesta-jackson").task(":clean"))
+    dependsOn(gradle.includedBuild("siesta-benchmarks").task(":clean"))
     dependsOn(gradle.includedBuild("siesta-db2").task(":clean"))
     dependsOn(gradle.includedBuild("siesta-firebird").task(":clean"))
     dependsOn(gradle.includedBuild("siesta-mariadb").task(":clean"))
@@ -33,3 +33,4 @@ includeBuild ("siesta-postgres")
 includeBuild ("siesta-sqlserver")
 includeBuild ("siesta-kotlin")
 includeBuild ("siesta-jackson")
+includeBuild ("siesta-benchmarks")
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+group = "com.cadenzauk"
+version = libs.versions.siesta.get()
+
+repositories {
+    mavenCentral()
+    mavenLocal()
+}
+
+dependencies {
+    jmhImplementation(libs.siesta)
+    jmhImplementation(testFixtures(libs.siesta))
+    jmhImplementation(libs.h2)
+
+    jmhRuntimeOnly(libs.logbackClassic)
+}
+
+java {
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    jvmArgsAppend.add("-Dlogback.configurationFile=logback-benchmark.xml")
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.benchmarks;
+
+import com.cadenzauk.core.util.UtilityClass;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.ddl.SchemaGenerator;
+import com.cadenzauk.siesta.ddl.TestSchema;
+import com.cadenzauk.siesta.dialect.H2Dialect;
+import com.cadenzauk.siesta.jdbc.JdbcSqlExecutor;
+import com.cadenzauk.siesta.model.MoneyAmount;
+import com.cadenzauk.siesta.model.PartRow;
+import com.cadenzauk.siesta.model.TestDatabase;
+import com.cadenzauk.siesta.model.WidgetRow;
+import org.h2.jdbcx.JdbcDataSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+
+final class BenchmarkDatabase extends UtilityClass {
+    private static final AtomicInteger DATABASE_NO = new AtomicInteger();
+
+    static JdbcDataSource dataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:benchmark" + DATABASE_NO.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    static Database h2() {
+        return h2(dataSource());
+    }
+
+    static Database h2(JdbcDataSource dataSource) {
+        JdbcSqlExecutor.of(dataSource).update("create schema if not exists SIESTA");
+        Database database = TestDatabase.testDatabase(dataSource, new H2Dialect());
+        new SchemaGenerator(false, database.dialect()).generate(database, new TestSchema(database.dialect()).schemaDefinition());
+        return database;
+    }
+
+    static List<WidgetRow> widgets(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+            .mapToObj(id -> WidgetRow.newBuilder()
+                .widgetId(id)
+                .name("Widget " + id)
+                .manufacturerId(id % 17)
+                .description(Optional.of("Description of widget " + id))
+                .build())
+            .collect(toList());
+    }
+
+    static List<PartRow> parts(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+            .mapToObj(id -> PartRow.newBuilder()
+                .partId(id)
+                .widgetId(id % 101)
+                .description("Part " + id)
+                .purchasePrice(new MoneyAmount(BigDecimal.valueOf(id, 2), "GBP"))
+                .retailPrice(Optional.of(new MoneyAmount(BigDecimal.valueOf(id * 2, 2), "EUR")))
+                .build())
+            .collect(toList());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.benchmarks;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.siesta.Alias;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.model.PartRow;
+import com.cadenzauk.siesta.model.WidgetRow;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    private Connection connection;
+    private ResultSet narrowRows;
+    private ResultSet wideRows;
+    private RowMapper<WidgetRow> narrowMapper;
+    private RowMapper<PartRow> wideMapper;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        JdbcDataSource dataSource = BenchmarkDatabase.dataSource();
+        Database database = BenchmarkDatabase.h2(dataSource);
+        database.insert(BenchmarkDatabase.widgets(1, rows).toArray(new WidgetRow[0]));
+        database.insert(BenchmarkDatabase.parts(1, rows).toArray(new PartRow[0]));
+
+        Alias<WidgetRow> widget = database.table(WidgetRow.class).as("w");
+        Alias<PartRow> part = database.table(PartRow.class).as("p");
+        connection = dataSource.getConnection();
+        narrowRows = scrollable(database.from(widget).sql());
+        wideRows = scrollable(database.from(part).sql());
+        narrowMapper = widget.rowMapperFactory().rowMapper(Optional.empty());
+        wideMapper = part.rowMapperFactory().rowMapper(Optional.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void narrowRows(Blackhole blackhole) throws SQLException {
+        map(narrowRows, narrowMapper, blackhole);
+    }
+
+    @Benchmark
+    public void wideRows(Blackhole blackhole) throws SQLException {
+        map(wideRows, wideMapper, blackhole);
+    }
+
+    private static <T> void map(ResultSet resultSet, RowMapper<T> rowMapper, Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet));
+        }
+    }
+
+    private ResultSet scrollable(String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        return statement.executeQuery();
+    }
+}
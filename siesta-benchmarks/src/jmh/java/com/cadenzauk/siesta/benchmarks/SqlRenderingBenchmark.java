@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.benchmarks;
+
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.dialect.H2Dialect;
+import com.cadenzauk.siesta.model.TestDatabase;
+import com.cadenzauk.siesta.model.WidgetRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlRenderingBenchmark {
+    private Database database;
+
+    @Setup
+    public void setup() {
+        database = TestDatabase.testDatabase(new H2Dialect());
+    }
+
+    @Benchmark
+    public String simpleSelect() {
+        return database.from(WidgetRow.class, "w")
+            .where(WidgetRow::name).isEqualTo("Dodacky")
+            .and(WidgetRow::manufacturerId).isGreaterThan(10L)
+            .orderBy(WidgetRow::widgetId)
+            .sql();
+    }
+
+    @Benchmark
+    public String tenWayJoin() {
+        return database.from(WidgetRow.class, "w1")
+            .join(WidgetRow.class, "w2").on("w2", WidgetRow::widgetId).isEqualTo("w1", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w3").on("w3", WidgetRow::widgetId).isEqualTo("w2", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w4").on("w4", WidgetRow::widgetId).isEqualTo("w3", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w5").on("w5", WidgetRow::widgetId).isEqualTo("w4", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w6").on("w6", WidgetRow::widgetId).isEqualTo("w5", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w7").on("w7", WidgetRow::widgetId).isEqualTo("w6", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w8").on("w8", WidgetRow::widgetId).isEqualTo("w7", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w9").on("w9", WidgetRow::widgetId).isEqualTo("w8", WidgetRow::widgetId)
+            .join(WidgetRow.class, "w10").on("w10", WidgetRow::widgetId).isEqualTo("w9", WidgetRow::widgetId)
+            .where("w1", WidgetRow::name).isEqualTo("Dodacky")
+            .sql();
+    }
+}
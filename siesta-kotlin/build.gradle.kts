@@ -39,6 +39,7 @@ repositories {
 
 dependencies {
     api(libs.siesta)
+    api(libs.kotlinxCoroutinesCore)
     implementation(libs.kotlinReflect)
     implementation(libs.kotlinStdlib)
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.kotlin
+
+import com.cadenzauk.siesta.Database
+import com.cadenzauk.siesta.SqlExecutor
+import com.cadenzauk.siesta.Transaction
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.withContext
+
+suspend fun <R : Any> Database.awaitInsert(vararg rows: R, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { insert(*rows) }
+
+suspend fun <R : Any> Database.awaitInsert(sqlExecutor: SqlExecutor, vararg rows: R, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { insert(sqlExecutor, *rows) }
+
+suspend fun <R : Any> Database.awaitInsert(transaction: Transaction, vararg rows: R): Int =
+    insertAsync(transaction, *rows).await()
+
+suspend fun <R : Any> Database.awaitUpdateRow(row: R, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { updateRow(row) }
+
+suspend fun <R : Any> Database.awaitUpdateRow(sqlExecutor: SqlExecutor, row: R, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { updateRow(sqlExecutor, row) }
+
+suspend fun <R : Any> Database.awaitUpdateRow(transaction: Transaction, row: R): Int =
+    updateRowAsync(transaction, row).await()
+
+suspend fun <R : Any> Database.awaitUpsertRows(rows: List<R>, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { upsertRows(rows) }
+
+suspend fun <R : Any> Database.awaitUpsertRows(sqlExecutor: SqlExecutor, rows: List<R>, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Int =
+    withContext(dispatcher) { upsertRows(sqlExecutor, rows) }
+
+suspend fun <R : Any> Database.awaitUpsertRows(transaction: Transaction, rows: List<R>): Int =
+    upsertRowsAsync(transaction, rows).await()
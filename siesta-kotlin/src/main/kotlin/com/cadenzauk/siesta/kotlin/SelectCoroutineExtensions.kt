@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.kotlin
+
+import com.cadenzauk.core.lang.CompositeAutoCloseable
+import com.cadenzauk.siesta.SqlExecutor
+import com.cadenzauk.siesta.Transaction
+import com.cadenzauk.siesta.grammar.select.Select
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.withContext
+import java.util.Optional
+import java.util.stream.Stream
+
+suspend fun <RT> Select<RT>.awaitList(dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): List<RT> =
+    withContext(dispatcher) { list() }
+
+suspend fun <RT> Select<RT>.awaitList(sqlExecutor: SqlExecutor, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): List<RT> =
+    withContext(dispatcher) { list(sqlExecutor) }
+
+suspend fun <RT> Select<RT>.awaitList(transaction: Transaction): List<RT> =
+    listAsync(transaction).await()
+
+suspend fun <RT> Select<RT>.awaitOptional(dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Optional<RT> =
+    withContext(dispatcher) { optional() }
+
+suspend fun <RT> Select<RT>.awaitOptional(sqlExecutor: SqlExecutor, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Optional<RT> =
+    withContext(dispatcher) { optional(sqlExecutor) }
+
+suspend fun <RT> Select<RT>.awaitOptional(transaction: Transaction): Optional<RT> =
+    optionalAsync(transaction).await()
+
+suspend fun <RT> Select<RT>.awaitSingle(dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): RT =
+    withContext(dispatcher) { single() }
+
+suspend fun <RT> Select<RT>.awaitSingle(sqlExecutor: SqlExecutor, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): RT =
+    withContext(dispatcher) { single(sqlExecutor) }
+
+suspend fun <RT> Select<RT>.awaitSingle(transaction: Transaction): RT =
+    singleAsync(transaction).await()
+
+fun <RT> Select<RT>.flow(dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Flow<RT> =
+    streamFlow(dispatcher) { stream(it) }
+
+fun <RT> Select<RT>.flow(sqlExecutor: SqlExecutor, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Flow<RT> =
+    streamFlow(dispatcher) { stream(sqlExecutor, it) }
+
+fun <RT> Select<RT>.flow(transaction: Transaction, dispatcher: CoroutineDispatcher = SiestaDispatchers.IO): Flow<RT> =
+    streamFlow(dispatcher) { stream(transaction, it) }
+
+private fun <RT> streamFlow(dispatcher: CoroutineDispatcher, open: (CompositeAutoCloseable) -> Stream<RT>): Flow<RT> =
+    flow {
+        CompositeAutoCloseable().use { closeable ->
+            val rows = open(closeable).iterator()
+            while (rows.hasNext()) {
+                emit(rows.next())
+            }
+        }
+    }.flowOn(dispatcher)
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.kotlin
+
+import com.cadenzauk.siesta.IntegrationTest
+import com.cadenzauk.siesta.model.TestDatabase
+import com.natpryce.hamkrest.assertion.assertThat
+import com.natpryce.hamkrest.equalTo
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.Test
+import java.util.Optional
+
+class CoroutineExtensionsTest : IntegrationTest() {
+    @Test
+    fun canInsertAndSelectFromCoroutine() = runBlocking {
+        val database = TestDatabase.testDatabase(dataSource, dialect)
+        val aWidget = KWidgetRow(
+            widgetId = newId(),
+            manufacturerId = newId(),
+            name = "Sprocket",
+            description = "Sprocket for a thingy"
+        )
+
+        val inserted = database.awaitInsert(aWidget)
+        val theSame = database.from(KWidgetRow::class)
+            .where(KWidgetRow::widgetId).isEqualTo(aWidget.widgetId)
+            .awaitOptional()
+
+        assertThat(inserted, equalTo(1))
+        assertThat(theSame, equalTo(Optional.of(aWidget)))
+    }
+
+    @Test
+    fun canFlowRows() = runBlocking {
+        val database = TestDatabase.testDatabase(dataSource, dialect)
+        val manufacturerId = newId()
+        val widgets = (1..5).map {
+            KWidgetRow(
+                widgetId = newId(),
+                manufacturerId = manufacturerId,
+                name = "Widget $it",
+                description = null
+            )
+        }
+        database.awaitInsert(*widgets.toTypedArray())
+
+        val all = database.from(KWidgetRow::class)
+            .where(KWidgetRow::manufacturerId).isEqualTo(manufacturerId)
+            .orderBy(KWidgetRow::widgetId)
+            .flow()
+            .toList()
+        val firstTwo = database.from(KWidgetRow::class)
+            .where(KWidgetRow::manufacturerId).isEqualTo(manufacturerId)
+            .orderBy(KWidgetRow::widgetId)
+            .flow()
+            .take(2)
+            .toList()
+
+        assertThat(all, equalTo(widgets))
+        assertThat(firstTwo, equalTo(widgets.take(2)))
+    }
+}
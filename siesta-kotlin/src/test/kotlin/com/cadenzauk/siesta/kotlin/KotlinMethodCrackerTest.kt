@@ -23,6 +23,9 @@
 package com.cadenzauk.siesta.kotlin
 
 import co.unruly.matchers.OptionalMatchers.contains
+import com.cadenzauk.core.function.Function1 as SiestaFunction1
+import com.cadenzauk.core.reflect.MethodInfo
+import com.cadenzauk.core.reflect.util.MethodUtil
 import org.hamcrest.MatcherAssert.assertThat
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
@@ -30,6 +33,7 @@ import java.util.Optional
 
 open class Widget {
     var id: String = "WIDG-101"
+    var name: String = "Sprocket"
 
     fun widgetDescription(): String {
         return "Widget"
@@ -39,6 +43,8 @@ open class Widget {
 class SpecialWidget : Widget() {
 }
 
+private fun <T, V> wrap(function: (T) -> V): SiestaFunction1<T, V> = SiestaFunction1(function)
+
 internal class KotlinMethodCrackerTest {
     @Test
     fun fromReferenceToGetter() {
@@ -69,4 +75,23 @@ internal class KotlinMethodCrackerTest {
 
         assertThat(referringClass, contains(SpecialWidget::class.java as Class<*>));
     }
+
+    @Test
+    fun methodUtilDoesNotShareResultsBetweenReferencesWithTheSameWrapperClass() {
+        val idReference = wrap(Widget::id)
+        val nameReference = wrap(Widget::name)
+
+        assertEquals(idReference.javaClass, nameReference.javaClass)
+        assertEquals("getId", MethodUtil.fromReference(idReference).name)
+        assertEquals("getName", MethodUtil.fromReference(nameReference).name)
+    }
+
+    @Test
+    fun methodInfoDoesNotShareResultsBetweenReferencesWithTheSameWrapperClass() {
+        val idReference = wrap(Widget::id)
+        val nameReference = wrap(Widget::name)
+
+        assertEquals("getId", MethodInfo.of(idReference).method().name)
+        assertEquals("getName", MethodInfo.of(nameReference).method().name)
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.concurrent;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class MergingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+    private static final Object END = new Object();
+    private static final Object NULL = new Object();
+
+    private final List<Supplier<Stream<T>>> sources;
+    private final List<BlockingQueue<Object>> queues;
+    private final boolean ordered;
+    private final Executor executor;
+    private volatile boolean cancelled;
+    private boolean started;
+    private int current;
+    private int remaining;
+
+    private MergingSpliterator(List<Supplier<Stream<T>>> sources, boolean ordered, int bufferSize, Executor executor) {
+        super(Long.MAX_VALUE, ordered ? ORDERED : 0);
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be at least 1.");
+        }
+        this.sources = ImmutableList.copyOf(sources);
+        this.queues = IntStream.range(0, ordered ? sources.size() : Math.min(1, sources.size()))
+            .mapToObj(i -> new ArrayBlockingQueue<>(bufferSize))
+            .collect(ImmutableList.toImmutableList());
+        this.ordered = ordered;
+        this.executor = executor;
+        this.remaining = sources.size();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        start();
+        while (remaining > 0 && !cancelled) {
+            Object item = take(queues.get(current));
+            if (item == END) {
+                remaining--;
+                if (ordered) {
+                    current++;
+                }
+            } else if (item instanceof Failure) {
+                cancel();
+                Throwable exception = ((Failure) item).exception;
+                Throwables.throwIfUnchecked(exception);
+                throw new RuntimeException(exception);
+            } else {
+                action.accept(unwrap(item));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        queues.forEach(BlockingQueue::clear);
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        for (int i = 0; i < sources.size(); i++) {
+            BlockingQueue<Object> queue = queues.get(ordered ? i : 0);
+            Supplier<Stream<T>> source = sources.get(i);
+            executor.execute(() -> produce(queue, source));
+        }
+    }
+
+    private void produce(BlockingQueue<Object> queue, Supplier<Stream<T>> source) {
+        try {
+            try (Stream<T> stream = source.get()) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    T next = iterator.next();
+                    put(queue, next == null ? NULL : next);
+                }
+            } catch (Throwable e) {
+                if (!cancelled) {
+                    put(queue, new Failure(e));
+                }
+            } finally {
+                put(queue, END);
+            }
+        } catch (CancellationException e) {
+            queue.clear();
+        }
+    }
+
+    private void put(BlockingQueue<Object> queue, Object item) {
+        try {
+            while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    throw new CancellationException();
+                }
+            }
+            if (cancelled) {
+                throw new CancellationException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+    }
+
+    private Object take(BlockingQueue<Object> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new CancellationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unwrap(Object item) {
+        return item == NULL ? null : (T) item;
+    }
+
+    public static <T> Stream<T> merge(List<Supplier<Stream<T>>> sources, boolean ordered, int bufferSize, Executor executor) {
+        MergingSpliterator<T> spliterator = new MergingSpliterator<>(sources, ordered, bufferSize, executor);
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::cancel);
+    }
+
+    private static class Failure {
+        private final Throwable exception;
+
+        private Failure(Throwable exception) {
+            this.exception = exception;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.concurrent;
+
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class StreamPublisher<T> implements Flow.Publisher<T> {
+    private final Supplier<Stream<T>> streamSupplier;
+    private final Executor executor;
+
+    public StreamPublisher(Supplier<Stream<T>> streamSupplier, Executor executor) {
+        this.streamSupplier = streamSupplier;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        StreamSubscription subscription = new StreamSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class StreamSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile RuntimeException invalidRequest;
+        private boolean terminated;
+        private boolean delivering;
+        private Stream<T> stream;
+        private Spliterator<T> spliterator;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Subscribers must request a positive number of items, not " + n + ".");
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (cancelled) {
+                finish(null, false);
+                return;
+            }
+            if (invalidRequest != null) {
+                finish(invalidRequest, true);
+                return;
+            }
+            try {
+                while (demand.get() > 0 && !cancelled) {
+                    if (spliterator == null) {
+                        stream = streamSupplier.get();
+                        spliterator = stream.spliterator();
+                    }
+                    if (!spliterator.tryAdvance(this::deliver)) {
+                        finish(null, true);
+                        return;
+                    }
+                    demand.decrementAndGet();
+                }
+                if (cancelled) {
+                    finish(null, false);
+                }
+            } catch (Throwable e) {
+                if (delivering) {
+                    delivering = false;
+                    cancelled = true;
+                    finish(null, false);
+                } else {
+                    finish(e, true);
+                }
+            }
+        }
+
+        private void deliver(T item) {
+            delivering = true;
+            subscriber.onNext(item);
+            delivering = false;
+        }
+
+        private void finish(Throwable error, boolean signal) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            Throwable failure = error;
+            if (stream != null) {
+                try {
+                    stream.close();
+                } catch (Throwable e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else if (failure != e) {
+                        failure.addSuppressed(e);
+                    }
+                }
+                stream = null;
+                spliterator = null;
+            }
+            if (signal && !cancelled) {
+                signal(failure);
+            }
+        }
+
+        private void signal(Throwable failure) {
+            try {
+                if (failure == null) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(failure);
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.reflect;
+
+import com.cadenzauk.core.function.ThrowingFunction;
+import com.cadenzauk.core.util.UtilityClass;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.cadenzauk.core.reflect.util.TypeUtil.boxedType;
+
+public final class Accessor extends UtilityClass {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    public static <T> Function<T,Object> getter(Method method) {
+        return Accessor.<Function<Object,Object>>metafactory(
+            method.getDeclaringClass(),
+            lookup -> lookup.unreflect(method),
+            Function.class,
+            "apply",
+            GETTER_TYPE,
+            MethodType.methodType(boxedType(method.getReturnType()), method.getDeclaringClass()))
+            .<Function<T,Object>>map(function -> t -> {
+                try {
+                    return function.apply(t);
+                } catch (Throwable e) {
+                    throw invocationException(e);
+                }
+            })
+            .orElseGet(() -> {
+                MethodHandle handle = handle(method, lookup -> lookup.unreflect(method)).asType(GETTER_TYPE);
+                return t -> {
+                    try {
+                        return (Object) handle.invokeExact(t);
+                    } catch (Throwable e) {
+                        throw invocationException(e);
+                    }
+                };
+            });
+    }
+
+    public static <T> BiConsumer<T,Object> setter(Method method) {
+        return Accessor.<BiConsumer<Object,Object>>metafactory(
+            method.getDeclaringClass(),
+            lookup -> lookup.unreflect(method),
+            BiConsumer.class,
+            "accept",
+            SETTER_TYPE,
+            MethodType.methodType(void.class, method.getDeclaringClass(), boxedType(method.getParameterTypes()[0])))
+            .<BiConsumer<T,Object>>map(consumer -> (t, v) -> {
+                try {
+                    consumer.accept(t, v);
+                } catch (Throwable e) {
+                    throw invocationException(e);
+                }
+            })
+            .orElseGet(() -> {
+                MethodHandle handle = handle(method, lookup -> lookup.unreflect(method));
+                MethodHandle generic = handle.asType(handle.type().changeReturnType(void.class)).asType(SETTER_TYPE);
+                return (t, v) -> {
+                    try {
+                        generic.invokeExact(t, v);
+                    } catch (Throwable e) {
+                        throw invocationException(e);
+                    }
+                };
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> constructor(Constructor<T> ctor) {
+        return Accessor.<Supplier<Object>>metafactory(
+            ctor.getDeclaringClass(),
+            lookup -> lookup.unreflectConstructor(ctor),
+            Supplier.class,
+            "get",
+            FACTORY_TYPE,
+            MethodType.methodType(ctor.getDeclaringClass()))
+            .<Supplier<T>>map(supplier -> () -> {
+                try {
+                    return (T) supplier.get();
+                } catch (Throwable e) {
+                    throw invocationException(e);
+                }
+            })
+            .orElseGet(() -> {
+                MethodHandle handle = handle(ctor, lookup -> lookup.unreflectConstructor(ctor)).asType(FACTORY_TYPE);
+                return () -> {
+                    try {
+                        return (T) (Object) handle.invokeExact();
+                    } catch (Throwable e) {
+                        throw invocationException(e);
+                    }
+                };
+            });
+    }
+
+    public static <T> Function<T,Object> getter(Field field) {
+        MethodHandle handle = handle(field, lookup -> lookup.unreflectGetter(field)).asType(GETTER_TYPE);
+        return t -> {
+            try {
+                return (Object) handle.invokeExact(t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    public static <T> BiConsumer<T,Object> setter(Field field) {
+        MethodHandle handle = handle(field, lookup -> lookup.unreflectSetter(field)).asType(SETTER_TYPE);
+        return (t, v) -> {
+            try {
+                handle.invokeExact(t, v);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static <A extends AccessibleObject> MethodHandle handle(A member, ThrowingFunction<MethodHandles.Lookup,MethodHandle,IllegalAccessException> unreflect) {
+        try {
+            member.setAccessible(true);
+            return unreflect.apply(MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> Optional<F> metafactory(Class<?> targetClass, ThrowingFunction<MethodHandles.Lookup,MethodHandle,IllegalAccessException> unreflect,
+                                               Class<?> interfaceClass, String methodName, MethodType samType, MethodType instantiatedType) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+            return Optional.of((F) LambdaMetafactory
+                .metafactory(lookup, methodName, MethodType.methodType(interfaceClass), samType, unreflect.apply(lookup), instantiatedType)
+                .getTarget()
+                .invoke());
+        } catch (Throwable e) {
+            return Optional.empty();
+        }
+    }
+
+    private static RuntimeException invocationException(Throwable e) {
+        return new RuntimeException(new InvocationTargetException(e));
+    }
+}
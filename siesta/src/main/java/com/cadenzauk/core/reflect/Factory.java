@@ -23,7 +23,6 @@
 package com.cadenzauk.core.reflect;
 
 import com.cadenzauk.core.reflect.util.ClassUtil;
-import com.cadenzauk.core.reflect.util.ConstructorUtil;
 import com.cadenzauk.core.util.UtilityClass;
 import com.google.common.reflect.TypeToken;
 import org.objenesis.ObjenesisHelper;
@@ -46,6 +45,6 @@ public final class Factory extends UtilityClass {
     }
 
     private static <T> Supplier<T> invoke(Constructor<T> ctor) {
-        return () -> ConstructorUtil.newInstance(ctor);
+        return Accessor.constructor(ctor);
     }
 }
@@ -25,8 +25,6 @@ package com.cadenzauk.core.reflect;
 import com.cadenzauk.core.function.FunctionOptional1;
 import com.cadenzauk.core.lang.StringUtil;
 import com.cadenzauk.core.reflect.util.ClassUtil;
-import com.cadenzauk.core.reflect.util.FieldUtil;
-import com.cadenzauk.core.reflect.util.MethodUtil;
 import com.cadenzauk.core.util.UtilityClass;
 import com.google.common.reflect.TypeToken;
 import org.apache.commons.lang3.StringUtils;
@@ -103,11 +101,14 @@ public final class Getter extends UtilityClass {
     @NotNull
     private static <T, V> FunctionOptional1<T,V> fromMethod(TypeToken<T> targetClass, Class<V> argType, Method method) {
         if (argType.isAssignableFrom(method.getReturnType())) {
-            return t -> Optional.ofNullable(boxedType(argType).cast(MethodUtil.invoke(method, t)));
+            Function<T,Object> getter = Accessor.getter(method);
+            Class<V> boxedType = boxedType(argType);
+            return t -> Optional.ofNullable(boxedType.cast(getter.apply(t)));
         }
         if (method.getReturnType() == Optional.class && argType.isAssignableFrom(actualTypeArgument((ParameterizedType) method.getGenericReturnType(), 0))) {
+            Function<T,Object> getter = Accessor.getter(method);
             return t -> {
-                Optional<Object> fieldValue = (Optional<Object>) MethodUtil.invoke(method, t);
+                Optional<Object> fieldValue = (Optional<Object>) getter.apply(t);
                 return Optional.ofNullable(fieldValue).flatMap(o -> o.map(argType::cast));
             };
         }
@@ -118,11 +119,14 @@ public final class Getter extends UtilityClass {
     @NotNull
     private static <T, V> FunctionOptional1<T,V> fromField(TypeToken<T> targetClass, Class<V> argType, Field field) {
         if (argType.isAssignableFrom(field.getType())) {
-            return t -> Optional.ofNullable(boxedType(argType).cast(FieldUtil.get(field, t)));
+            Function<T,Object> getter = Accessor.getter(field);
+            Class<V> boxedType = boxedType(argType);
+            return t -> Optional.ofNullable(boxedType.cast(getter.apply(t)));
         }
         if (field.getType() == Optional.class && argType.isAssignableFrom(actualTypeArgument((ParameterizedType) field.getGenericType(), 0))) {
+            Function<T,Object> getter = Accessor.getter(field);
             return t -> {
-                Optional<Object> fieldValue = (Optional<Object>) FieldUtil.get(field, t);
+                Optional<Object> fieldValue = (Optional<Object>) getter.apply(t);
                 return Optional.ofNullable(fieldValue).flatMap(o -> o.map(argType::cast));
             };
         }
@@ -41,8 +41,17 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class MethodInfo<C, R> {
+    private static final ClassValue<AtomicReference<MethodInfo<?,?>>> FROM_REFERENCE = new ClassValue<>() {
+        @Override
+        protected AtomicReference<MethodInfo<?,?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
     private final TypeToken<? super C> declaringType;
     private final TypeToken<C> referringType;
     private final Method method;
@@ -178,36 +187,56 @@ public class MethodInfo<C, R> {
 
     @SuppressWarnings("unchecked")
     public static <C, F> MethodInfo<C,F> of(Function1<C,F> getter) {
-        Method method = MethodUtil.fromReference(getter);
-        return new MethodInfo<>(
-            TypeToken.of((Class<C>) method.getDeclaringClass()),
-            TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
-            method,
-            method.getReturnType(),
-            (Class<F>) method.getReturnType());
+        return fromReference(getter, () -> {
+            Method method = MethodUtil.fromReference(getter);
+            return new MethodInfo<>(
+                TypeToken.of((Class<C>) method.getDeclaringClass()),
+                TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
+                method,
+                method.getReturnType(),
+                (Class<F>) method.getReturnType());
+        });
     }
 
     @SuppressWarnings("unchecked")
     public static <C> MethodInfo<C,Integer> of(FunctionInt<C> getter) {
-        Method method = MethodUtil.fromReference(getter);
-        return new MethodInfo<>(
-            TypeToken.of((Class<C>) method.getDeclaringClass()),
-            TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
-            method,
-            method.getReturnType(),
-            Integer.TYPE);
+        return fromReference(getter, () -> {
+            Method method = MethodUtil.fromReference(getter);
+            return new MethodInfo<>(
+                TypeToken.of((Class<C>) method.getDeclaringClass()),
+                TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
+                method,
+                method.getReturnType(),
+                Integer.TYPE);
+        });
     }
 
     @SuppressWarnings("unchecked")
     public static <C, F> MethodInfo<C,F> of(FunctionOptional1<C,F> getter) {
-        Method method = MethodUtil.fromReference(getter);
-        ParameterizedType genericType = (ParameterizedType) method.getGenericReturnType();
-        Type argType = genericType.getActualTypeArguments()[0];
-        return new MethodInfo<>(
-            TypeToken.of((Class<C>) method.getDeclaringClass()),
-            TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
-            method,
-            method.getReturnType(),
-            (Class<F>) argType);
+        return fromReference(getter, () -> {
+            Method method = MethodUtil.fromReference(getter);
+            ParameterizedType genericType = (ParameterizedType) method.getGenericReturnType();
+            Type argType = genericType.getActualTypeArguments()[0];
+            return new MethodInfo<>(
+                TypeToken.of((Class<C>) method.getDeclaringClass()),
+                TypeToken.of((Class<C>) MethodUtil.referringClass(getter)),
+                method,
+                method.getReturnType(),
+                (Class<F>) argType);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C, F> MethodInfo<C,F> fromReference(Object getter, Supplier<MethodInfo<C,F>> crack) {
+        AtomicReference<MethodInfo<?,?>> cached = FROM_REFERENCE.get(getter.getClass());
+        MethodInfo<C,F> methodInfo = (MethodInfo<C,F>) cached.get();
+        if (methodInfo != null) {
+            return methodInfo;
+        }
+        methodInfo = crack.get();
+        if (MethodUtil.isCacheable(getter)) {
+            cached.compareAndSet(null, methodInfo);
+        }
+        return methodInfo;
     }
 }
@@ -23,8 +23,6 @@
 package com.cadenzauk.core.reflect;
 
 import com.cadenzauk.core.reflect.util.ClassUtil;
-import com.cadenzauk.core.reflect.util.FieldUtil;
-import com.cadenzauk.core.reflect.util.MethodUtil;
 import com.cadenzauk.core.util.UtilityClass;
 import com.google.common.reflect.TypeToken;
 
@@ -66,20 +64,24 @@ public final class Setter extends UtilityClass {
     private static <T, V> BiConsumer<T, Optional<V>> fromMethod(Class<T> targetClass, Class<V> argType, Method method) {
         Class<?> parameterType = method.getParameterTypes()[0];
         if (argType.isAssignableFrom(parameterType)) {
-            return (t, v) -> MethodUtil.invoke(method, t, v.orElse(null));
+            BiConsumer<T,Object> setter = Accessor.setter(method);
+            return (t, v) -> setter.accept(t, v.orElse(null));
         }
         if (parameterType == Optional.class && actualTypeArgument((ParameterizedType) method.getGenericParameterTypes()[0], 0).isAssignableFrom(argType)) {
-            return (t, v) -> MethodUtil.invoke(method, t, v);
+            BiConsumer<T,Object> setter = Accessor.setter(method);
+            return setter::accept;
         }
         throw new IllegalArgumentException(String.format("Cannot convert %s into a BiConsumer<%s,Optional<%s>>.", method, targetClass, argType));
     }
 
     private static <T, V> BiConsumer<T, Optional<V>> fromField(Class<T> targetClass, Class<V> argType, Field field) {
         if (argType.isAssignableFrom(field.getType())) {
-            return (t, v) -> FieldUtil.set(field, t, v.orElse(null));
+            BiConsumer<T,Object> setter = Accessor.setter(field);
+            return (t, v) -> setter.accept(t, v.orElse(null));
         }
         if (field.getType() == Optional.class && actualTypeArgument((ParameterizedType) field.getGenericType(), 0).isAssignableFrom(argType)) {
-            return (t, v) -> FieldUtil.set(field, t, v);
+            BiConsumer<T,Object> setter = Accessor.setter(field);
+            return setter::accept;
         }
         throw new IllegalArgumentException(String.format("Cannot convert %s into a BiConsumer<%s,Optional<%s>>.", field, targetClass, argType));
     }
@@ -36,6 +36,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -44,6 +45,12 @@ import java.util.stream.Stream;
 public final class MethodUtil extends UtilityClass {
     private static final Lazy<Optional<MethodCracker>> KOTLIN_CRACKER = new Lazy<>(MethodUtil::loadKotlinCracker);
     private static final Pattern INSTANTIATED_METHOD_PATTERN = Pattern.compile("\\(L([^;]+);.*");
+    private static final ClassValue<AtomicReference<CrackedReference>> CRACKED_REFERENCES = new ClassValue<>() {
+        @Override
+        protected AtomicReference<CrackedReference> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
 
     public static Object invoke(Method method, Object target, Object... args) {
         try {
@@ -60,39 +67,65 @@ public final class MethodUtil extends UtilityClass {
     }
 
     public static <T, V> Method fromReference(Function1<T,V> methodReference) {
-        return OptionalUtil.orGet(fromJavaFunction(methodReference), () -> fromKotlinFunction(methodReference))
-            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+        return methodOf(methodReference);
     }
 
     public static <T> Method fromReference(FunctionInt<T> methodReference) {
-        return OptionalUtil.orGet(fromJavaFunction(methodReference), () -> fromKotlinFunction(methodReference))
-            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+        return methodOf(methodReference);
     }
 
     public static <T, V> Method fromReference(FunctionOptional1<T,V> methodReference) {
-        return OptionalUtil.orGet(fromJavaFunction(methodReference), () -> fromKotlinFunction(methodReference))
-            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+        return methodOf(methodReference);
     }
 
     public static <T, V> Class<?> referringClass(Function1<T,V> methodReference) {
-        return OptionalUtil.orGet(referringJavaClass(methodReference), () -> referringKotlinClass(methodReference))
-            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+        return referringClassOf(methodReference);
     }
 
     public static <T> Class<?> referringClass(FunctionInt<T> methodReference) {
-        return OptionalUtil.orGet(referringJavaClass(methodReference), () -> referringKotlinClass(methodReference))
-            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+        return referringClassOf(methodReference);
     }
 
     public static <T, V> Class<?> referringClass(FunctionOptional1<T,V> methodReference) {
-        return OptionalUtil.orGet(referringJavaClass(methodReference), () -> referringKotlinClass(methodReference))
+        return referringClassOf(methodReference);
+    }
+
+    public static boolean isCacheable(Object methodReference) {
+        return crack(methodReference).cacheable;
+    }
+
+    private static Method methodOf(Object methodReference) {
+        return crack(methodReference).method
+            .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
+    }
+
+    private static Class<?> referringClassOf(Object methodReference) {
+        return crack(methodReference).referringClass
             .orElseThrow(() -> new RuntimeException("Failed to find writeReplace method in " + methodReference.getClass()));
     }
 
-    private static <T> Optional<Class<?>> referringJavaClass(Object methodReference) {
+    private static CrackedReference crack(Object methodReference) {
+        AtomicReference<CrackedReference> cached = CRACKED_REFERENCES.get(methodReference.getClass());
+        CrackedReference cracked = cached.get();
+        if (cracked != null) {
+            return cracked;
+        }
+        Optional<SerializedLambda> lambda = serializedLambda(methodReference);
+        Optional<Method> method = lambda.flatMap(MethodUtil::fromJavaFunction);
+        Optional<Class<?>> referringClass = lambda.flatMap(MethodUtil::fromInstantiatedMethodType);
+        if (method.isPresent() && referringClass.isPresent()) {
+            cached.compareAndSet(null, new CrackedReference(method, referringClass, true));
+            return cached.get();
+        }
+        return new CrackedReference(
+            OptionalUtil.orGet(method, () -> fromKotlinFunction(methodReference)),
+            OptionalUtil.orGet(referringClass, () -> referringKotlinClass(methodReference)),
+            false);
+    }
+
+    private static Optional<SerializedLambda> serializedLambda(Object methodReference) {
         return ClassUtil.declaredMethod(methodReference.getClass(), "writeReplace")
-            .map(writeReplace -> (SerializedLambda) invoke(writeReplace, methodReference))
-            .flatMap(MethodUtil::fromInstantiatedMethodType);
+            .map(writeReplace -> (SerializedLambda) invoke(writeReplace, methodReference));
     }
 
     private static <T> Optional<Class<?>> referringKotlinClass(Object methodReference) {
@@ -116,12 +149,10 @@ public final class MethodUtil extends UtilityClass {
             .flatMap(x -> x.fromReference(methodReference));
     }
 
-    private static Optional<Method> fromJavaFunction(Object methodReference) {
-        return ClassUtil.declaredMethod(methodReference.getClass(), "writeReplace")
-            .map(writeReplace -> (SerializedLambda) invoke(writeReplace, methodReference))
-            .flatMap(lambda -> ClassUtil.forName(lambda.getImplClass().replaceAll("/", "."))
-                .filter(implClass -> ClassUtil.hasDeclaredMethod(implClass, lambda.getImplMethodName()))
-                .map(implClass -> ClassUtil.getDeclaredMethod(implClass, lambda.getImplMethodName())));
+    private static Optional<Method> fromJavaFunction(SerializedLambda lambda) {
+        return ClassUtil.forName(lambda.getImplClass().replaceAll("/", "."))
+            .filter(implClass -> ClassUtil.hasDeclaredMethod(implClass, lambda.getImplMethodName()))
+            .map(implClass -> ClassUtil.getDeclaredMethod(implClass, lambda.getImplMethodName()));
     }
 
     private static Optional<Class<?>> fromInstantiatedMethodType(SerializedLambda lambda) {
@@ -131,6 +162,18 @@ public final class MethodUtil extends UtilityClass {
             : Optional.empty();
     }
 
+    private static final class CrackedReference {
+        private final Optional<Method> method;
+        private final Optional<Class<?>> referringClass;
+        private final boolean cacheable;
+
+        private CrackedReference(Optional<Method> method, Optional<Class<?>> referringClass, boolean cacheable) {
+            this.method = method;
+            this.referringClass = referringClass;
+            this.cacheable = cacheable;
+        }
+    }
+
     public interface MethodCracker {
         Optional<Method> fromReference(Object methodReference);
         Optional<Class<?>> referringClass(Object methodReference);
@@ -45,6 +45,22 @@ public class PreparedStatementUtil extends UtilityClass {
         }
     }
 
+    public static void addBatch(PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.addBatch();
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+    public static int[] executeBatch(PreparedStatement preparedStatement) {
+        try {
+            return preparedStatement.executeBatch();
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
     public static boolean execute(PreparedStatement preparedStatement) {
         try {
             return preparedStatement.execute();
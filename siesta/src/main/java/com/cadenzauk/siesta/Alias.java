@@ -84,6 +84,12 @@ public abstract class Alias<R> {
 
     public abstract Stream<Alias<?>> as(Scope scope, ColumnSpecifier<?> columnSpecifier, Optional<String> requiredAlias);
 
+    public abstract Stream<String> referencedTables();
+
+    protected boolean mayResolve(Class<?> referringClass) {
+        return referringClass.isAssignableFrom(type().getRawType());
+    }
+
     @SuppressWarnings("unchecked")
     protected <R2> Stream<Alias<R2>> as(Class<R2> requiredRowClass, String requiredAlias) {
         if (Objects.equals(Optional.of(requiredAlias), aliasName())) {
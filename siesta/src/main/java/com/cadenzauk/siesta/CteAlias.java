@@ -74,6 +74,11 @@ public class CteAlias<RT> extends Alias<RT> {
         return aliasName;
     }
 
+    @Override
+    public Stream<String> referencedTables() {
+        return commonTableExpression.referencedTables();
+    }
+
     @Override
     public RowMapperFactory<RT> rowMapperFactory() {
         return commonTableExpression.table().rowMapperFactory(this, Optional.empty());
@@ -94,14 +94,22 @@ public class DataType<T> {
     }
 
     public Optional<T> get(ResultSet rs, int colNo, Database database) {
+        return Optional.ofNullable(getOrNull(rs, colNo, database));
+    }
+
+    public T getOrNull(ResultSet rs, int colNo, Database database) {
         try {
             T value = dbType(database).getColumnValue(database, rs, colNo);
-            return value == null || rs.wasNull() ? Optional.empty() : Optional.of(value);
+            return value == null || rs.wasNull() ? null : value;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
     }
 
+    public String sqlType(Database database) {
+        return dbType(database).sqlType(database);
+    }
+
     public String literal(Database database, T value) {
         return dbType(database).literal(database, value);
     }
@@ -114,6 +122,14 @@ public class DataType<T> {
         return dbType(database).castParameter(database, value);
     }
 
+    public boolean parameterSqlDependsOnValue(Database database) {
+        return dbType(database).parameterDependsOnValue(database);
+    }
+
+    public boolean castParameterSqlDependsOnValue(Database database) {
+        return dbType(database).castParameterDependsOnValue(database);
+    }
+
     private DbType<T> dbType(Database database) {
         return database.dialect().type(dbTypeId);
     }
@@ -57,6 +57,8 @@ import com.cadenzauk.siesta.type.DbTypeAdapter;
 import com.cadenzauk.siesta.type.DbTypeId;
 import com.cadenzauk.siesta.type.EnumByName;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.reflect.TypeToken;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -74,6 +76,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
 
@@ -89,6 +92,9 @@ public class Database {
     private final Optional<SqlExecutor> defaultSqlExecutor;
     private final ZoneId databaseTimeZone;
     private final DatabaseOptions options;
+    private final int batchSize;
+    private final int largeInListThreshold;
+    private final QueryCache queryCache;
 
     private Database(Builder builder) {
         dataTypeRegistry = new DataTypeRegistry();
@@ -99,6 +105,9 @@ public class Database {
         defaultSqlExecutor = builder.defaultSqlExecutor;
         databaseTimeZone = builder.databaseTimeZone;
         options = builder.options;
+        batchSize = builder.batchSize;
+        largeInListThreshold = builder.largeInListThreshold;
+        queryCache = new QueryCache(builder.queryCacheSize);
 
         builder.customizations.forEach(c -> c.accept(dialect));
         builder.dataTypes.forEach(d -> d.accept(dataTypeRegistry));
@@ -178,6 +187,18 @@ public class Database {
         return databaseTimeZone;
     }
 
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public int largeInListThreshold() {
+        return largeInListThreshold;
+    }
+
+    public QueryCache queryCache() {
+        return queryCache;
+    }
+
     public boolean isSet(DatabaseOptions.Option option) {
         return options.isSet(option);
     }
@@ -404,6 +425,30 @@ public class Database {
         return table(rowClass).insert(transaction, rows);
     }
 
+    public <R> long insertAll(Stream<R> rows) {
+        return insertAll(getDefaultSqlExecutor(), rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> long insertAll(SqlExecutor sqlExecutor, Stream<R> rows) {
+        PeekingIterator<R> iterator = Iterators.peekingIterator(rows.iterator());
+        if (!iterator.hasNext()) {
+            return 0;
+        }
+        Class<R> rowClass = (Class<R>) iterator.peek().getClass();
+        return table(rowClass).insertAll(sqlExecutor, iterator);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> long insertAll(Transaction transaction, Stream<R> rows) {
+        PeekingIterator<R> iterator = Iterators.peekingIterator(rows.iterator());
+        if (!iterator.hasNext()) {
+            return 0;
+        }
+        Class<R> rowClass = (Class<R>) iterator.peek().getClass();
+        return table(rowClass).insertAll(transaction, iterator);
+    }
+
     @SuppressWarnings("unchecked")
     public <R> CompletableFuture<Integer> insertAsync(Transaction transaction, R... rows) {
         if (rows.length == 0) {
@@ -426,6 +471,7 @@ public class Database {
             tempTable.qualifiedTableName(),
             tempTable.columnDefinitions().map(TempTableColumn::columnName).collect(joining(", ")),
             select.sql());
+        queryCache.invalidate(transaction, tempTable.qualifiedTableName());
         return execute(sql, () -> transaction.update(sql, select.args(new Scope(this)).toArray()));
     }
 
@@ -526,6 +572,15 @@ public class Database {
         return table(rowClass).upsert(transaction, rows);
     }
 
+    @SuppressWarnings("unchecked")
+    public <R> int upsertRowsStaged(Transaction transaction, List<R> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Class<R> rowClass = (Class<R>) rows.get(0).getClass();
+        return table(rowClass).upsertStaged(transaction, rows);
+    }
+
     @SuppressWarnings("unchecked")
     public <R> CompletableFuture<Integer> upsertRowsAsync(Transaction transaction, List<R> rows) {
         if (rows.isEmpty()) {
@@ -605,6 +660,9 @@ public class Database {
         private Optional<SqlExecutor> defaultSqlExecutor = Optional.empty();
         private ZoneId databaseTimeZone = ZoneId.systemDefault();
         private DatabaseOptions options = DatabaseOptions.None;
+        private int batchSize = 1000;
+        private int largeInListThreshold = 1000;
+        private int queryCacheSize = 1000;
         private final List<Consumer<Dialect>> customizations = new ArrayList<>();
         private final List<Consumer<DataTypeRegistry>> dataTypes = new ArrayList<>();
         private final Map<TypeToken<?>,TableInitializer<?,?>> tables = new HashMap<>();
@@ -642,6 +700,30 @@ public class Database {
             return this;
         }
 
+        public Builder batchSize(int val) {
+            if (val < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1.");
+            }
+            batchSize = val;
+            return this;
+        }
+
+        public Builder largeInListThreshold(int val) {
+            if (val < 1) {
+                throw new IllegalArgumentException("The large IN list threshold must be at least 1.");
+            }
+            largeInListThreshold = val;
+            return this;
+        }
+
+        public Builder queryCacheSize(int val) {
+            if (val < 0) {
+                throw new IllegalArgumentException("The query cache size cannot be negative.");
+            }
+            queryCacheSize = val;
+            return this;
+        }
+
         public Builder function(FunctionName functionName, FunctionSpec functionSpec) {
             customizations.add(dialect -> dialect.registerFunction(functionName, functionSpec));
             return this;
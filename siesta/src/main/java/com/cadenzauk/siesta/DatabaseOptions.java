@@ -30,7 +30,11 @@ public class DatabaseOptions {
     public enum Option {
         // Prior to 0.13.0, SIESTA used binary(16) as the UUID type in all databases.  Now it uses the database uuid type in
         // those database that support it.  Use this database option for the old behaviour.
-        UuidAsBinary
+        UuidAsBinary,
+
+        // Prior to 1.0.0, SIESTA looked up every column of a mapped row by label on every row.  Now it resolves the
+        // column ordinals once per result set.  Use this database option for the old behaviour.
+        LabelRowMapping
     }
     private final EnumSet<Option> set;
 
@@ -27,6 +27,7 @@ import com.cadenzauk.core.sql.exception.SqlExceptionConstructor;
 import com.cadenzauk.core.sql.exception.SqlExceptionTranslator;
 import com.cadenzauk.siesta.dialect.function.FunctionName;
 import com.cadenzauk.siesta.dialect.function.FunctionSpec;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.type.DbType;
 import com.cadenzauk.siesta.type.DbTypeId;
 
@@ -72,6 +73,10 @@ public interface Dialect {
 
     String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks);
 
+    default void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
+        sql.transform(s -> isolationLevelSql(s, level, keepLocks));
+    }
+
     boolean supportsLockTimeout();
 
     String setLockTimeout(long time, TimeUnit unit);
@@ -84,6 +89,8 @@ public interface Dialect {
 
     boolean supportsMultipleValueIn();
 
+    boolean supportsRowValueComparison();
+
     boolean supportsJsonFunctions();
 
     boolean requiresOrderByInRowNumber();
@@ -110,6 +117,10 @@ public interface Dialect {
         return fetchFirst(sql, n);
     }
 
+    default void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
+        sql.transform(s -> fetchFirst(s, n, offset));
+    }
+
     String nextFromSequence(String catalog, String schema, String sequenceName);
 
     SequenceInfo sequenceInfo();
@@ -129,4 +140,8 @@ public interface Dialect {
     default boolean requiresInValues() {
         return false;
     }
+
+    default InListStrategy largeInListStrategy() {
+        return InListStrategy.CHUNKED;
+    }
 }
@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta;
 
 import com.cadenzauk.siesta.grammar.InvalidJoinException;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpression;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpressionChain;
 import com.cadenzauk.siesta.grammar.expression.ForeignKeyExpression;
@@ -36,6 +37,10 @@ public abstract class From {
 
     public abstract Stream<Object> args(Scope scope);
 
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append(sql(scope)).args(args(scope));
+    }
+
     public abstract void on(BooleanExpression expression, boolean validate);
 
     public abstract <L> void onForeignKey(Optional<String> name, Alias<L> lhs, ForeignKeyExpression.Direction direction);
@@ -120,6 +125,17 @@ public abstract class From {
             return sql;
         }
 
+        @Override
+        public void render(SqlWriter writer, Scope scope) {
+            lhs.render(writer, scope);
+            writer.append(' ').append(join.sql()).append(' ').append(next.inFromClauseSql()).append(" on ");
+            AtomicBoolean used = new AtomicBoolean(false);
+            onClause.render(writer, scope.tracker(next, used));
+            if (validate && !used.get()) {
+                throw new InvalidJoinException(next);
+            }
+        }
+
         @Override
         public Stream<Object> args(Scope scope) {
             return Stream.concat(lhs.args(scope), onClause.args(scope));
@@ -30,6 +30,9 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 
 public class HiLoGenerator {
     private static final Logger LOG = LoggerFactory.getLogger(HiLoGenerator.class);
@@ -43,10 +46,7 @@ public class HiLoGenerator {
     private final long threshold;
     private final Executor executor;
 
-    private final Object lock = new Object();
-    private long loValue = 0;
-    private CompletableFuture<Long> currHi;
-    private CompletableFuture<Long> nextHi = null;
+    private final AtomicReference<Block> current = new AtomicReference<>();
 
     private HiLoGenerator(Builder builder) {
         sequence = builder.sequence;
@@ -61,9 +61,10 @@ public class HiLoGenerator {
     }
 
     private void initialize() {
-        currHi = nextHiAsync();
-        if (loValue >= threshold) {
-            nextHi = nextHiAsync();
+        Block first = new Block(nextHiAsync(new CompletableFuture<>()));
+        current.set(first);
+        if (threshold <= 0) {
+            first.prefetch();
         }
     }
 
@@ -72,8 +73,8 @@ public class HiLoGenerator {
         return String.format("HiLoGenerator[%s]", sequence.name());
     }
 
-    private CompletableFuture<Long> nextHiAsync() {
-        return CompletableFuture.supplyAsync(() -> {
+    private CompletableFuture<Long> nextHiAsync(CompletableFuture<Long> future) {
+        return future.completeAsync(() -> {
             long nextVal = sequence.single();
             LOG.debug("{} <= {}", this, nextVal);
             return nextVal;
@@ -81,25 +82,92 @@ public class HiLoGenerator {
     }
 
     public long single() {
-        long hi, lo;
-        synchronized (lock) {
-            hi = currHi.join() - 1;
-            lo = loValue;
-            loValue += increment;
-            if ((loValue >= threshold || loValue >= loSize) && nextHi == null) {
-                nextHi = nextHiAsync();
+        while (true) {
+            Block block = current.get();
+            long lo = block.claim(increment);
+            if (lo < loSize) {
+                long result = block.base() + lo;
+                LOG.trace("{} => {}", this, result);
+                return result;
             }
-            if (loValue >= loSize) {
-                loValue = 0;
-                currHi = nextHi;
-                nextHi = loValue >= threshold
-                    ? nextHiAsync()
-                    : null;
+            advance(block);
+        }
+    }
+
+    public LongStream reserve(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Cannot reserve a negative number of ids.");
+        }
+        long[] ids = new long[n];
+        int count = 0;
+        while (count < n) {
+            Block block = current.get();
+            long lo = block.claim((n - count) * increment);
+            if (lo >= loSize) {
+                advance(block);
+                continue;
+            }
+            long base = block.base();
+            for (; lo < loSize && count < n; lo += increment) {
+                ids[count++] = base + lo;
+            }
+        }
+        LOG.trace("{} => {} ids", this, n);
+        return LongStream.of(ids);
+    }
+
+    private void advance(Block block) {
+        Block successor = block.successor();
+        if (current.compareAndSet(block, successor) && threshold <= 0) {
+            successor.prefetch();
+        }
+    }
+
+    private final class Block {
+        private final CompletableFuture<Long> hi;
+        private final AtomicLong nextLo = new AtomicLong();
+        private final AtomicReference<CompletableFuture<Long>> nextHi = new AtomicReference<>();
+        private final AtomicReference<Block> successor = new AtomicReference<>();
+
+        private Block(CompletableFuture<Long> hi) {
+            this.hi = hi;
+        }
+
+        private long claim(long amount) {
+            long lo = nextLo.getAndAdd(amount);
+            long end = lo + amount;
+            if (lo < loSize && (end >= threshold || end >= loSize)) {
+                prefetch();
+                if (end >= loSize) {
+                    advance(this);
+                }
+            }
+            return lo;
+        }
+
+        private long base() {
+            return (hi.join() - 1) * hiMultiplier + offset;
+        }
+
+        private CompletableFuture<Long> prefetch() {
+            CompletableFuture<Long> future = nextHi.get();
+            if (future == null) {
+                CompletableFuture<Long> candidate = new CompletableFuture<>();
+                future = nextHi.compareAndSet(null, candidate)
+                    ? nextHiAsync(candidate)
+                    : nextHi.get();
+            }
+            return future;
+        }
+
+        private Block successor() {
+            Block block = successor.get();
+            if (block == null) {
+                successor.compareAndSet(null, new Block(prefetch()));
+                block = successor.get();
             }
+            return block;
         }
-        long result = hi * hiMultiplier + lo + offset;
-        LOG.trace("{} => {}", this, result);
-        return result;
     }
 
     public static Builder newBuilder(Sequence<Long> sequence) {
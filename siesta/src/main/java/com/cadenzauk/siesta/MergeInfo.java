@@ -87,12 +87,14 @@ public class MergeInfo {
     }
 
     public String mergeSql(MergeSpec mergeSpec) {
-        String selectSql = selectSql(mergeSpec);
+        String sourceSql = mergeSpec.sourceTableName() != null
+            ? mergeSpec.sourceTableName()
+            : "(" + selectSql(mergeSpec) + ")";
         String whenMatched = mergeSpec.updateColumnNames().isEmpty() ? "" : "when matched then update set " + mergeSpec.updateColumnNames().stream().map(col -> String.format("%s = %s.%s", col, mergeSpec.sourceAlias(), col)).collect(joining(", "));
-        return String.format("merge into %s %s using (%s) %s on (%s) %s when not matched then insert(%s) values(%s)",
+        return String.format("merge into %s %s using %s %s on (%s) %s when not matched then insert(%s) values(%s)",
             mergeSpec.targetTableName(),
             mergeSpec.targetAlias(),
-            selectSql,
+            sourceSql,
             mergeSpec.sourceAlias(),
             mergeSpec.idColumnNames().stream().map(col -> String.format("%s.%s = %s.%s", mergeSpec.targetAlias(), col, mergeSpec.sourceAlias(), col)).collect(joining(" and ")),
             whenMatched,
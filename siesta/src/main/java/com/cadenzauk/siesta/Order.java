@@ -34,6 +34,10 @@ public enum Order {
         return scope.dialect().orderSql(this);
     }
 
+    public boolean isDescending() {
+        return this == DESC || this == DESC_NULLS_FIRST || this == DESC_NULLS_LAST;
+    }
+
     public static String orderWithNullClause(Order order) {
         return order.name().toLowerCase().replace('_', ' ');
     }
@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta;
 
 import com.cadenzauk.core.sql.RowMapperFactory;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.cadenzauk.siesta.projection.AliasColumns;
 import com.cadenzauk.siesta.projection.ExpressionProjection;
@@ -36,6 +37,10 @@ public interface Projection<R> {
 
     Stream<Object> args(Scope scope);
 
+    default void render(SqlWriter writer, Scope scope) {
+        writer.append(sql(scope)).args(args(scope));
+    }
+
     Stream<ProjectionColumn<?>> columns(Scope scope);
 
     Stream<String> resultingColumnNames(Scope scope);
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class QueryCache {
+    private final int maxEntries;
+    private final LongSupplier ticker;
+    private final Object lock = new Object[0];
+    private final LinkedHashMap<Key,Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String,Set<Key>> keysByTable = new HashMap<>();
+    private final Map<String,Long> invalidatedAt = new HashMap<>();
+    private final Map<Transaction,Set<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private long invalidatedAllAt;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public QueryCache(int maxEntries) {
+        this(maxEntries, System::nanoTime);
+    }
+
+    public QueryCache(int maxEntries, LongSupplier ticker) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The query cache size cannot be negative.");
+        }
+        this.maxEntries = maxEntries;
+        this.ticker = ticker;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public <T> List<T> get(String sql, Object[] args, Set<String> tables, Duration timeToLive, Supplier<List<T>> query) {
+        if (maxEntries == 0) {
+            return query.get();
+        }
+        Key key = new Key(sql, args);
+        long now = ticker.getAsLong();
+        long startGeneration;
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - now > 0) {
+                hits.incrementAndGet();
+                return entry.cast();
+            }
+            if (entry != null) {
+                remove(key, entry);
+            }
+            startGeneration = generation.get();
+        }
+        misses.incrementAndGet();
+        List<T> result = Collections.unmodifiableList(new ArrayList<>(query.get()));
+        synchronized (lock) {
+            if (invalidatedAllAt <= startGeneration && tables.stream().allMatch(t -> invalidatedAt.getOrDefault(t, 0L) <= startGeneration)) {
+                put(key, new Entry(result, tables, now + timeToLive.toNanos()));
+            }
+        }
+        return result;
+    }
+
+    public <T> List<T> get(Transaction transaction, String sql, Object[] args, Set<String> tables, Duration timeToLive, Supplier<List<T>> query) {
+        Set<String> modified = pending.get(transaction);
+        if (modified != null && !Collections.disjoint(modified, tables)) {
+            return query.get();
+        }
+        return get(sql, args, tables, timeToLive, query);
+    }
+
+    public void invalidate(String table) {
+        invalidate(Collections.singleton(table));
+    }
+
+    public void invalidate(Collection<String> tables) {
+        if (maxEntries == 0 || tables.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            long invalidation = generation.incrementAndGet();
+            for (String table : tables) {
+                invalidatedAt.put(table, invalidation);
+                Set<Key> keys = keysByTable.remove(table);
+                if (keys != null) {
+                    new ArrayList<>(keys).forEach(k -> remove(k, entries.get(k)));
+                }
+            }
+        }
+    }
+
+    public void invalidate(Transaction transaction, String table) {
+        invalidate(transaction, Collections.singleton(table));
+    }
+
+    public void invalidate(Transaction transaction, Collection<String> tables) {
+        if (maxEntries == 0 || tables.isEmpty()) {
+            return;
+        }
+        Set<String> modified = pending.computeIfAbsent(transaction, t -> {
+            t.afterCommit(committed -> invalidate(pending.remove(committed)));
+            t.afterRollback(rolledBack -> pending.remove(rolledBack));
+            return ConcurrentHashMap.newKeySet();
+        });
+        modified.addAll(tables);
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            invalidatedAllAt = generation.get();
+            invalidatedAt.clear();
+            entries.clear();
+            keysByTable.clear();
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        entry.tables.forEach(t -> keysByTable.computeIfAbsent(t, x -> new HashSet<>()).add(key));
+        Iterator<Map.Entry<Key,Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Map.Entry<Key,Entry> evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (entry != null && entries.remove(key, entry)) {
+            unindex(key, entry);
+        }
+    }
+
+    private void unindex(Key key, Entry entry) {
+        entry.tables.forEach(t -> {
+            Set<Key> keys = keysByTable.get(t);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTable.remove(t);
+                }
+            }
+        });
+    }
+
+    private static class Key {
+        private final String sql;
+        private final Object[] args;
+        private final int hashCode;
+
+        private Key(String sql, Object[] args) {
+            this.sql = sql;
+            this.args = args.clone();
+            this.hashCode = 31 * sql.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode &&
+                Objects.equals(sql, key.sql) &&
+                Arrays.deepEquals(args, key.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Entry {
+        private final List<?> rows;
+        private final Set<String> tables;
+        private final long expiresAt;
+
+        private Entry(List<?> rows, Set<String> tables, long expiresAt) {
+            this.rows = rows;
+            this.tables = tables;
+            this.expiresAt = expiresAt;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> List<T> cast() {
+            return (List<T>) rows;
+        }
+    }
+}
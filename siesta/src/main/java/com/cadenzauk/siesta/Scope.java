@@ -32,8 +32,11 @@ import com.google.common.reflect.TypeToken;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
@@ -41,24 +44,38 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.cadenzauk.core.lang.StringUtil.prepend;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 public class Scope {
     private final Optional<Scope> outer;
     private final List<Alias<?>> aliases;
+    private final Map<String,List<Alias<?>>> aliasesByName;
+    private final Map<Class<?>,List<Alias<?>>> aliasesByClass = new ConcurrentHashMap<>();
     private final Database database;
     private final AtomicLong labelCounter = new AtomicLong();
+    private final Set<String> subqueryTables;
 
     public Scope(Database database, Alias<?>... aliases) {
         this.database = database;
         this.outer = Optional.empty();
         this.aliases = ImmutableList.copyOf(aliases);
+        this.aliasesByName = indexByName(this.aliases);
+        this.subqueryTables = ConcurrentHashMap.newKeySet();
     }
 
     private Scope(Scope outer, List<Alias<?>> aliases) {
         this.database = outer.database;
         this.outer = Optional.of(outer);
         this.aliases = ImmutableList.copyOf(aliases);
+        this.aliasesByName = indexByName(this.aliases);
+        this.subqueryTables = outer.subqueryTables;
+    }
+
+    private static Map<String,List<Alias<?>>> indexByName(List<Alias<?>> aliases) {
+        return aliases.stream()
+            .filter(a -> a.aliasName().isPresent())
+            .collect(groupingBy(a -> a.aliasName().get()));
     }
 
     @Override
@@ -87,7 +104,7 @@ public class Scope {
     }
 
     private Alias<?> doFindAlias(ColumnSpecifier<?> columnSpecifier, Optional<String> requiredAlias, Scope innerScope) {
-        List<Alias<?>> found = aliases.stream().flatMap(a -> a.as(this, columnSpecifier, requiredAlias)).collect(toList());
+        List<Alias<?>> found = candidates(columnSpecifier, requiredAlias).stream().flatMap(a -> a.as(this, columnSpecifier, requiredAlias)).collect(toList());
         if (found.size() == 1) {
             return found.get(0);
         } else if (found.size() > 1) {
@@ -97,6 +114,22 @@ public class Scope {
             .orElseThrow(() -> new InvalidQueryException(buildFindAliasFailedMessage(columnSpecifier, requiredAlias, innerScope)));
     }
 
+    private List<Alias<?>> candidates(ColumnSpecifier<?> columnSpecifier, Optional<String> requiredAlias) {
+        return requiredAlias
+            .map(this::aliasesNamed)
+            .orElseGet(() -> columnSpecifier.referringClass()
+                .map(this::aliasesResolving)
+                .orElse(aliases));
+    }
+
+    private List<Alias<?>> aliasesNamed(String aliasName) {
+        return aliasesByName.getOrDefault(aliasName, ImmutableList.of());
+    }
+
+    private List<Alias<?>> aliasesResolving(Class<?> referringClass) {
+        return aliasesByClass.computeIfAbsent(referringClass, cls -> aliases.stream().filter(a -> a.mayResolve(cls)).collect(toList()));
+    }
+
     private String buildFindAliasFailedMessage(ColumnSpecifier<?> columnSpecifier, Optional<String> requiredAlias, Scope innerScope) {
         return columnSpecifier
             .referringClass()
@@ -121,14 +154,14 @@ public class Scope {
     }
 
     public <R> Alias<R> findAlias(Class<R> requiredRowClass, String requiredAlias) {
-        Optional<Alias<R>> found = aliases.stream().flatMap(a -> a.as(requiredRowClass, requiredAlias)).findFirst();
+        Optional<Alias<R>> found = aliasesNamed(requiredAlias).stream().flatMap(a -> a.as(requiredRowClass, requiredAlias)).findFirst();
         return found
             .orElseGet(() -> outer.map(o -> o.findAlias(requiredRowClass, requiredAlias))
                 .orElseThrow(() -> new IllegalArgumentException("No such alias as " + requiredAlias + " in scope.")));
     }
 
     public <R> Alias<R> findAlias(Class<R> requiredRowClass) {
-        List<Alias<R>> found = aliases.stream().flatMap(a -> a.as(requiredRowClass)).collect(toList());
+        List<Alias<R>> found = aliasesResolving(requiredRowClass).stream().flatMap(a -> a.as(requiredRowClass)).collect(toList());
         if (found.isEmpty()) {
             return outer.map(o -> o.findAlias(requiredRowClass))
                 .orElseThrow(() -> new IllegalArgumentException("No alias for " + requiredRowClass + " in scope."));
@@ -139,6 +172,20 @@ public class Scope {
         return found.get(0);
     }
 
+    public Stream<String> referencedTables() {
+        return allAliases()
+            .flatMap(Alias::referencedTables)
+            .distinct();
+    }
+
+    public void addSubqueryTables(Stream<String> tables) {
+        tables.forEach(subqueryTables::add);
+    }
+
+    public Stream<String> subqueryTables() {
+        return subqueryTables.stream();
+    }
+
     public <R> Scope plus(Alias<R> alias) {
         return new Scope(this, ImmutableList.of(alias));
     }
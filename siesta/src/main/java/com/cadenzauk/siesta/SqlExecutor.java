@@ -45,4 +45,10 @@ public interface SqlExecutor {
     default int update(String sql) {
         return update(sql, new Object[0]);
     }
+
+    default int batchUpdate(String sql, List<Object[]> args, int batchSize) {
+        return args.stream()
+            .mapToInt(a -> update(sql, a))
+            .sum();
+    }
 }
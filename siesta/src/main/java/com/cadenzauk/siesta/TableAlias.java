@@ -38,6 +38,13 @@ public abstract class TableAlias<T> extends Alias<T> {
                    .orElseGet(this::qualifiedTableName);
     }
 
+    @Override
+    public Stream<String> referencedTables() {
+        return isDual()
+            ? Stream.empty()
+            : Stream.of(qualifiedTableName());
+    }
+
     @Override
     public String inSelectClauseSql(String columnName) {
         return String.format("%s.%s", aliasName().orElseGet(this::qualifiedTableName), columnName);
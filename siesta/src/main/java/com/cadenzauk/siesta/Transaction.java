@@ -37,6 +37,8 @@ public interface Transaction extends AutoCloseable {
 
     void beforeCommit(Consumer<Transaction> hook);
 
+    void afterCommit(Consumer<Transaction> hook);
+
     void rollback();
 
     void afterRollback(Consumer<Transaction> hook);
@@ -49,6 +51,12 @@ public interface Transaction extends AutoCloseable {
 
     int update(String sql, Object[] args);
 
+    default int batchUpdate(String sql, List<Object[]> args, int batchSize) {
+        return args.stream()
+            .mapToInt(a -> update(sql, a))
+            .sum();
+    }
+
     boolean execute(String sql, Object[] args);
 
     CompletableFuture<Integer> updateAsync(String sql, Object[] args);
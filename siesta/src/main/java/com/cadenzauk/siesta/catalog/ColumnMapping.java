@@ -33,12 +33,15 @@ import com.cadenzauk.core.reflect.util.FieldUtil;
 import com.cadenzauk.core.sql.RowMapper;
 import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.core.stream.StreamUtil;
+import com.cadenzauk.core.util.Lazy;
 import com.cadenzauk.core.util.OptionalUtil;
 import com.cadenzauk.siesta.Alias;
 import com.cadenzauk.siesta.DataType;
 import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.DatabaseOptions;
 import com.cadenzauk.siesta.DynamicRowMapperFactory;
 import com.cadenzauk.siesta.NamingStrategy;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.TypeToken;
 import org.apache.commons.lang3.StringUtils;
@@ -53,6 +56,7 @@ import javax.persistence.MappedSuperclass;
 import javax.persistence.Transient;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -61,6 +65,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -77,6 +82,13 @@ public class ColumnMapping<R, B> implements ColumnCollection<R> {
     private final Supplier<B> newRowBuilder;
     private final Function<B,R> buildRow;
     private final List<TableColumn<?,R,B>> columns;
+    private final Lazy<List<Function<R,Object>>> insertExtractors = new Lazy<>(() -> ImmutableList.copyOf(insertArgExtractors().iterator()));
+    private final Lazy<List<Function<R,Object>>> selectExtractors = new Lazy<>(() -> ImmutableList.copyOf(selectArgExtractors().iterator()));
+    private final Lazy<List<Function<R,Object>>> updateExtractors = new Lazy<>(() -> ImmutableList.copyOf(Stream.concat(updateArgExtractors(), idArgExtractors()).iterator()));
+    private final Lazy<List<Function<R,Object>>> deleteExtractors = new Lazy<>(() -> ImmutableList.copyOf(idArgExtractors().iterator()));
+    private final Lazy<Map<String,List<TableColumn<?,R,B>>>> columnsByProperty = new Lazy<>(this::indexByProperty);
+    private final Lazy<Boolean> parameterSqlDependsOnValue = new Lazy<>(() -> anyColumn(TableColumn::parameterSqlDependsOnValue));
+    private final Lazy<Boolean> castParameterSqlDependsOnValue = new Lazy<>(() -> anyColumn(TableColumn::castParameterSqlDependsOnValue));
 
     public ColumnMapping(Builder<R,B,?> builder) {
         database = builder.database;
@@ -119,6 +131,41 @@ public class ColumnMapping<R, B> implements ColumnCollection<R> {
 
     @Override
     public RowMapperFactory<R> rowMapperFactory(Alias<?> alias, Optional<String> defaultLabel) {
+        if (database.isSet(DatabaseOptions.Option.LabelRowMapping)) {
+            return labelRowMapperFactory(alias, defaultLabel);
+        }
+        return (prefix, label) -> {
+            List<String> labels = new ArrayList<>();
+            List<TableColumn.ColumnReader<B>> readers = columnReaders(alias, prefix, label, defaultLabel, labels);
+            ColumnOrdinals ordinals = new ColumnOrdinals(labels);
+            return rs -> read(readers, rs, ordinals.of(rs));
+        };
+    }
+
+    List<TableColumn.ColumnReader<B>> columnReaders(Alias<?> alias, String prefix, Optional<String> label, Optional<String> defaultLabel, List<String> labels) {
+        return columns.stream()
+            .map(c -> c.columnReader(alias, prefix, computeLabel(alias, label, defaultLabel, c), labels))
+            .collect(toList());
+    }
+
+    R read(List<TableColumn.ColumnReader<B>> readers, ResultSet rs, int[] ordinals) {
+        Object[] values = new Object[readers.size()];
+        boolean present = false;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readers.get(i).read(rs, ordinals);
+            present |= values[i] != null;
+        }
+        if (!present) {
+            return null;
+        }
+        B builder = newRowBuilder.get();
+        for (int i = 0; i < values.length; i++) {
+            readers.get(i).apply(builder, values[i]);
+        }
+        return buildRow.apply(builder);
+    }
+
+    private RowMapperFactory<R> labelRowMapperFactory(Alias<?> alias, Optional<String> defaultLabel) {
         return (prefix, label) -> rs -> {
             List<TableColumn.ResultSetValue<B>> values = columns.stream()
                 .map(c -> c.extract(alias, rs, prefix, computeLabel(alias, label, defaultLabel, c)))
@@ -176,34 +223,78 @@ public class ColumnMapping<R, B> implements ColumnCollection<R> {
     }
 
     public Object[] insertArgs(Stream<R> rows) {
+        List<Function<R,Object>> extractors = insertExtractors.get();
         return rows
-            .map(Optional::ofNullable)
-            .flatMap(r -> columns.stream().flatMap(c -> c.insertArgs(database, r)))
+            .flatMap(r -> extractors.stream().map(e -> e.apply(r)))
             .toArray();
     }
 
+    Object[] insertArgs(R row) {
+        return args(insertExtractors.get(), row);
+    }
+
+    Object[] selectArgs(R row) {
+        return args(selectExtractors.get(), row);
+    }
+
     Object[] updateArgs(R row) {
-        return StreamUtil.ofNullable(row)
-            .flatMap(r -> Stream.concat(
-                columns.stream().flatMap(c -> c.updateArgs(database, r)),
-                columns.stream().flatMap(c -> c.idArgs(database, r))))
-            .toArray();
+        return row == null
+            ? new Object[0]
+            : args(updateExtractors.get(), row);
     }
 
     Object[] deleteArgs(R row) {
-        return StreamUtil.ofNullable(row)
-            .flatMap(r -> columns.stream().flatMap(c -> c.idArgs(database, r)))
-            .toArray();
+        return row == null
+            ? new Object[0]
+            : args(deleteExtractors.get(), row);
     }
 
-    <T> Optional<Column<T,R>> findColumn(TypeToken<T> type, String propertyName) {
-        return columnsOfType(type)
-            .filter(c -> StringUtils.equals(c.propertyName(), propertyName))
-            .findFirst();
+    boolean parameterSqlDependsOnValue() {
+        return parameterSqlDependsOnValue.get();
     }
 
-    private <T> Stream<Column<T,R>> columnsOfType(TypeToken<T> dataType) {
-        return columns.stream().flatMap(c -> c.asColumn(dataType));
+    boolean castParameterSqlDependsOnValue() {
+        return castParameterSqlDependsOnValue.get();
+    }
+
+    private boolean anyColumn(BiPredicate<TableColumn<?,R,B>,Database> predicate) {
+        return columns.stream().anyMatch(c -> predicate.test(c, database));
+    }
+
+    Stream<Function<R,Object>> insertArgExtractors() {
+        return columns.stream().flatMap(c -> c.insertArgExtractors(database));
+    }
+
+    Stream<Function<R,Object>> selectArgExtractors() {
+        return columns.stream().flatMap(c -> c.selectArgExtractors(database));
+    }
+
+    private Stream<Function<R,Object>> updateArgExtractors() {
+        return columns.stream().flatMap(c -> c.updateArgExtractors(database));
+    }
+
+    private Stream<Function<R,Object>> idArgExtractors() {
+        return columns.stream().flatMap(c -> c.idArgExtractors(database));
+    }
+
+    private static <R> Object[] args(List<Function<R,Object>> extractors, R row) {
+        Object[] args = new Object[extractors.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = extractors.get(i).apply(row);
+        }
+        return args;
+    }
+
+    private Map<String,List<TableColumn<?,R,B>>> indexByProperty() {
+        return columns.stream().collect(groupingBy(TableColumn::propertyName));
+    }
+
+    <T> Optional<Column<T,R>> findColumn(TypeToken<T> type, String propertyName) {
+        return columnsByProperty.get()
+            .getOrDefault(propertyName, ImmutableList.of())
+            .stream()
+            .flatMap(c -> c.asColumn(type))
+            .findFirst();
     }
 
     private R buildRow(List<TableColumn.ResultSetValue<B>> values) {
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.catalog;
+
+import com.cadenzauk.core.sql.RuntimeSqlException;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+class ColumnOrdinals {
+    private final String[] labels;
+    private volatile Resolved resolved;
+
+    ColumnOrdinals(List<String> labels) {
+        this.labels = labels.toArray(new String[0]);
+    }
+
+    int[] of(ResultSet rs) {
+        Resolved current = resolved;
+        if (current != null && current.resultSet.get() == rs) {
+            return current.ordinals;
+        }
+        try {
+            int[] ordinals = new int[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                ordinals[i] = rs.findColumn(labels[i]);
+            }
+            resolved = new Resolved(rs, ordinals);
+            return ordinals;
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+    private static class Resolved {
+        private final WeakReference<ResultSet> resultSet;
+        private final int[] ordinals;
+
+        private Resolved(ResultSet resultSet, int[] ordinals) {
+            this.resultSet = new WeakReference<>(resultSet);
+            this.ordinals = ordinals;
+        }
+    }
+}
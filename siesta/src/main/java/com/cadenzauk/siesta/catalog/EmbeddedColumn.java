@@ -55,6 +55,7 @@ public class EmbeddedColumn<T, TB, R, RB> implements TableColumn<T,R,RB>, Column
     private final boolean updatable;
     private final Function<R,Optional<T>> getter;
     private final BiConsumer<RB,Optional<T>> setter;
+    private final BiConsumer<RB,T> valueSetter;
     private final ColumnMapping<T,TB> columnMapping;
 
     private EmbeddedColumn(Builder<T,TB,R,RB> builder) {
@@ -66,6 +67,7 @@ public class EmbeddedColumn<T, TB, R, RB> implements TableColumn<T,R,RB>, Column
         columnName = builder.columnName;
         getter = builder.getter;
         setter = builder.setter;
+        valueSetter = builder.valueSetter;
         columnMapping = new ColumnMapping<>(builder);
     }
 
@@ -309,6 +311,27 @@ public class EmbeddedColumn<T, TB, R, RB> implements TableColumn<T,R,RB>, Column
     @Override
     public ResultSetValue<RB> extract(Alias<?> alias, ResultSet rs, String prefix, Optional<String> label) {
         Optional<T> value = Optional.ofNullable(rowMapperFactory(alias, label).rowMapper(prefix, Optional.empty()).mapRow(rs));
+        return resultSetValue(value);
+    }
+
+    @Override
+    public ColumnReader<RB> columnReader(Alias<?> alias, String prefix, Optional<String> label, List<String> labels) {
+        List<ColumnReader<TB>> readers = columnMapping.columnReaders(alias, prefix, Optional.empty(), label, labels);
+        return new ColumnReader<RB>() {
+            @Override
+            public Object read(ResultSet rs, int[] ordinals) {
+                return columnMapping.read(readers, rs, ordinals);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public void apply(RB builder, Object value) {
+                valueSetter.accept(builder, (T) value);
+            }
+        };
+    }
+
+    private ResultSetValue<RB> resultSetValue(Optional<T> value) {
         return new ResultSetValue<RB>() {
             @Override
             public boolean isPresent() {
@@ -332,35 +355,75 @@ public class EmbeddedColumn<T, TB, R, RB> implements TableColumn<T,R,RB>, Column
         return columnMapping.primitiveColumns();
     }
 
+    @Override
+    public boolean parameterSqlDependsOnValue(Database database) {
+        return columnMapping.parameterSqlDependsOnValue();
+    }
+
+    @Override
+    public boolean castParameterSqlDependsOnValue(Database database) {
+        return columnMapping.castParameterSqlDependsOnValue();
+    }
+
+    @Override
+    public Stream<Function<R,Object>> insertArgExtractors(Database database) {
+        return insertable
+            ? embeddedArgExtractors(columnMapping.insertArgExtractors())
+            : Stream.empty();
+    }
+
+    @Override
+    public Stream<Function<R,Object>> selectArgExtractors(Database database) {
+        return embeddedArgExtractors(columnMapping.selectArgExtractors());
+    }
+
+    @Override
+    public Stream<Function<R,Object>> updateArgExtractors(Database database) {
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<Function<R,Object>> idArgExtractors(Database database) {
+        return identifier
+            ? embeddedArgExtractors(columnMapping.insertArgExtractors())
+            : Stream.empty();
+    }
+
+    private Stream<Function<R,Object>> embeddedArgExtractors(Stream<Function<T,Object>> extractors) {
+        return extractors.map(extractor -> row -> extractor.apply(row == null ? null : getter.apply(row).orElse(null)));
+    }
+
     static <T, R, B> Builder<T,T,R,B> mandatory(Database database, String name, TypeToken<T> rowType, Function1<R,T> getter, BiConsumer<B,T> setter) {
-        return new Builder<>(database, name, rowType, rowType, r -> Optional.ofNullable(getter.apply(r)), (b, v) -> setter.accept(b, v.orElse(null)), Function.identity());
+        return new Builder<>(database, name, rowType, rowType, r -> Optional.ofNullable(getter.apply(r)), (b, v) -> setter.accept(b, v.orElse(null)), setter, Function.identity());
     }
 
     static <T, R, B> Builder<T,T,R,B> optional(Database database, String name, TypeToken<T> rowType, FunctionOptional1<R,T> getter, BiConsumer<B,Optional<T>> setter) {
-        return new Builder<>(database, name, rowType, rowType, getter, setter, Function.identity());
+        return new Builder<>(database, name, rowType, rowType, getter, setter, (b, v) -> setter.accept(b, Optional.ofNullable(v)), Function.identity());
     }
 
     public static final class Builder<T, TB, R, RB> extends ColumnMapping.Builder<T,TB,Builder<T,TB,R,RB>> {
         private final String propertyName;
         private final Function<R,Optional<T>> getter;
         private final BiConsumer<RB,Optional<T>> setter;
+        private final BiConsumer<RB,T> valueSetter;
         public TypeToken<T> type;
         private boolean identifier = false;
         private boolean insertable = true;
         private boolean updatable = true;
         private String columnName;
 
-        private Builder(Database database, String propertyName, TypeToken<T> rowType, TypeToken<TB> builderType, Function<R,Optional<T>> getter, BiConsumer<RB,Optional<T>> setter, Function<TB,T> buildRow) {
+        private Builder(Database database, String propertyName, TypeToken<T> rowType, TypeToken<TB> builderType, Function<R,Optional<T>> getter, BiConsumer<RB,Optional<T>> setter, BiConsumer<RB,T> valueSetter, Function<TB,T> buildRow) {
             super(database, rowType, builderType, buildRow);
             this.propertyName = propertyName;
             this.getter = getter;
             this.setter = setter;
+            this.valueSetter = valueSetter;
             columnName(database.columnName(propertyName));
         }
 
         public <BB> Builder<T,BB,R,RB> builder(Function1<BB,T> buildRow) {
             MethodInfo<BB,T> buildMethod = MethodInfo.of(buildRow);
-            return new Builder<>(database, propertyName, rowType, buildMethod.referringType(), getter, setter, buildRow)
+            return new Builder<>(database, propertyName, rowType, buildMethod.referringType(), getter, setter, valueSetter, buildRow)
                 .type(type)
                 .identifier(identifier)
                 .insertable(insertable)
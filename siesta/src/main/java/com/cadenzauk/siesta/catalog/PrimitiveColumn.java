@@ -36,6 +36,7 @@ import com.google.common.reflect.TypeToken;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -54,6 +55,7 @@ public class PrimitiveColumn<T, R, B> implements TableColumn<T,R,B> {
     private final ColumnDataType<T> columnType;
     private final Function<R,Optional<T>> getter;
     private final BiConsumer<B,Optional<T>> setter;
+    private final BiConsumer<B,T> valueSetter;
 
     private PrimitiveColumn(Builder<T,R,B> builder) {
         propertyName = builder.propertyName;
@@ -64,6 +66,7 @@ public class PrimitiveColumn<T, R, B> implements TableColumn<T,R,B> {
         dataType = builder.dataType;
         getter = builder.getter;
         setter = builder.setter;
+        valueSetter = builder.valueSetter;
         columnType = builder.columnType();
     }
 
@@ -271,6 +274,29 @@ public class PrimitiveColumn<T, R, B> implements TableColumn<T,R,B> {
     @Override
     public ResultSetValue<B> extract(Alias<?> alias, ResultSet rs, String prefix, Optional<String> label) {
         Optional<T> value = dataType.get(rs, prefix + label.orElseGet(() -> alias.inSelectClauseLabel(columnName)), alias.database());
+        return resultSetValue(value);
+    }
+
+    @Override
+    public ColumnReader<B> columnReader(Alias<?> alias, String prefix, Optional<String> label, List<String> labels) {
+        int index = labels.size();
+        labels.add(prefix + label.orElseGet(() -> alias.inSelectClauseLabel(columnName)));
+        Database database = alias.database();
+        return new ColumnReader<B>() {
+            @Override
+            public Object read(ResultSet rs, int[] ordinals) {
+                return dataType.getOrNull(rs, ordinals[index], database);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public void apply(B builder, Object value) {
+                valueSetter.accept(builder, (T) value);
+            }
+        };
+    }
+
+    private ResultSetValue<B> resultSetValue(Optional<T> value) {
         return new ResultSetValue<B>() {
             @Override
             public boolean isPresent() {
@@ -294,12 +320,57 @@ public class PrimitiveColumn<T, R, B> implements TableColumn<T,R,B> {
         return Stream.of(this);
     }
 
+    @Override
+    public boolean parameterSqlDependsOnValue(Database database) {
+        return dataType.parameterSqlDependsOnValue(database);
+    }
+
+    @Override
+    public boolean castParameterSqlDependsOnValue(Database database) {
+        return dataType.castParameterSqlDependsOnValue(database);
+    }
+
+    @Override
+    public Stream<Function<R,Object>> insertArgExtractors(Database database) {
+        return insertable
+            ? Stream.of(argExtractor(database))
+            : Stream.empty();
+    }
+
+    @Override
+    public Stream<Function<R,Object>> selectArgExtractors(Database database) {
+        return Stream.of(argExtractor(database));
+    }
+
+    @Override
+    public Stream<Function<R,Object>> updateArgExtractors(Database database) {
+        return updatable && ! identifier
+            ? Stream.of(argExtractor(database))
+            : Stream.empty();
+    }
+
+    @Override
+    public Stream<Function<R,Object>> idArgExtractors(Database database) {
+        return identifier
+            ? Stream.of(argExtractor(database))
+            : Stream.empty();
+    }
+
+    private Function<R,Object> argExtractor(Database database) {
+        return row -> dataType.toDatabase(database, row == null ? Optional.empty() : getter.apply(row));
+    }
+
     static <T, R, B> Builder<T,R,B> mandatory(Database database, String fieldName, DataType<T> dataType, Function<R,T> getter, BiConsumer<B,T> setter) {
-        return new Builder<>(database, fieldName, dataType, row -> Optional.ofNullable(getter.apply(row)), (b, v) -> setter.accept(b, v.orElseThrow(NoSuchElementException::new)));
+        return new Builder<>(database, fieldName, dataType, row -> Optional.ofNullable(getter.apply(row)), (b, v) -> setter.accept(b, v.orElseThrow(NoSuchElementException::new)), (b, v) -> {
+            if (v == null) {
+                throw new NoSuchElementException();
+            }
+            setter.accept(b, v);
+        });
     }
 
     static <T, R, B> Builder<T,R,B> optional(Database database, String fieldName, DataType<T> dataType, Function<R,Optional<T>> getter, BiConsumer<B,Optional<T>> setter) {
-        return new Builder<>(database, fieldName, dataType, getter, setter);
+        return new Builder<>(database, fieldName, dataType, getter, setter, (b, v) -> setter.accept(b, Optional.ofNullable(v)));
     }
 
     public static final class Builder<T, R, B> {
@@ -314,13 +385,15 @@ public class PrimitiveColumn<T, R, B> implements TableColumn<T,R,B> {
         private final DataType<T> dataType;
         private final Function<R,Optional<T>> getter;
         private final BiConsumer<B,Optional<T>> setter;
+        private final BiConsumer<B,T> valueSetter;
         private Optional<ColumnDataType<T>> columnType = Optional.empty();
 
-        private Builder(Database database, String propertyName, DataType<T> dataType, Function<R,Optional<T>> getter, BiConsumer<B,Optional<T>> setter) {
+        private Builder(Database database, String propertyName, DataType<T> dataType, Function<R,Optional<T>> getter, BiConsumer<B,Optional<T>> setter, BiConsumer<B,T> valueSetter) {
             this.propertyName = propertyName;
             this.dataType = dataType;
             this.getter = getter;
             this.setter = setter;
+            this.valueSetter = valueSetter;
             this.columnName = database.columnName(this.propertyName);
         }
 
@@ -28,6 +28,7 @@ import com.cadenzauk.core.reflect.util.ClassUtil;
 import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.core.stream.StreamUtil;
 import com.cadenzauk.core.tuple.Tuple;
+import com.cadenzauk.core.util.Lazy;
 import com.cadenzauk.siesta.Alias;
 import com.cadenzauk.siesta.Database;
 import com.cadenzauk.siesta.DynamicRowMapperFactory;
@@ -38,17 +39,26 @@ import com.cadenzauk.siesta.SqlExecutor;
 import com.cadenzauk.siesta.Transaction;
 import com.cadenzauk.siesta.dialect.merge.MergeSpec;
 import com.cadenzauk.siesta.grammar.InvalidForeignKeyException;
+import com.cadenzauk.siesta.grammar.temp.TempTable;
+import com.cadenzauk.siesta.grammar.temp.TempTableCommitAction;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
 import com.google.common.reflect.TypeToken;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,6 +74,13 @@ public class Table<R> implements ColumnCollection<R> {
     private final String tableName;
     private final ColumnMapping<R,?> columnMapping;
     private final List<ForeignKeyReference<R,?>> foreignKeys;
+    private final Lazy<String> insertPrefixSql = new Lazy<>(() -> String.format("insert into %s (%s) values ", qualifiedName(), insertColumnsSql()));
+    private final Lazy<Optional<String>> fixedInsertValuesSql = new Lazy<>(() -> fixedSql(parameterSqlDependsOnValue(), () -> insertValuesSql(Optional.empty())));
+    private final Lazy<Optional<String>> fixedUpdateSql = new Lazy<>(() -> fixedSql(parameterSqlDependsOnValue(), () -> updateSql(Optional.empty())));
+    private final Lazy<String> deleteSql = new Lazy<>(this::buildDeleteSql);
+    private final Lazy<MergeSpec> mergeTemplate = new Lazy<>(this::buildMergeTemplate);
+    private final AtomicLong stagingTables = new AtomicLong();
+    private final Lazy<Optional<String>> fixedUpsertSql = new Lazy<>(() -> fixedSql(mergeSqlDependsOnValue(), () -> upsertSql(mergeTemplate.get())));
 
     private <B> Table(Builder<R,B> builder) {
         database = builder.database;
@@ -145,13 +162,10 @@ public class Table<R> implements ColumnCollection<R> {
         if (rows == null || rows.isEmpty()) {
             return 0;
         }
-        if (database().dialect().supportsMultiInsert()) {
+        if (rows.size() == 1) {
             return performInsert(sqlExecutor, rows);
-        } else {
-            return rows.stream()
-                .mapToInt(r -> performInsert(sqlExecutor, ImmutableList.of(r)))
-                .sum();
         }
+        return performBatchInsert(rows, (sql, args) -> invalidating(() -> sqlExecutor.batchUpdate(sql, args, database.batchSize())));
     }
 
     public int insert(Transaction transaction, R[] rows) {
@@ -166,19 +180,34 @@ public class Table<R> implements ColumnCollection<R> {
         if (rows == null || rows.isEmpty()) {
             return 0;
         }
-        if (database().dialect().supportsMultiInsert()) {
+        database.queryCache().invalidate(transaction, qualifiedName());
+        if (rows.size() == 1) {
             return performInsert(transaction, rows);
-        } else {
-            return rows.stream()
-                .mapToInt(r -> performInsert(transaction, ImmutableList.of(r)))
-                .sum();
         }
+        return performBatchInsert(rows, (sql, args) -> transaction.batchUpdate(sql, args, database.batchSize()));
+    }
+
+    public long insertAll(SqlExecutor sqlExecutor, Stream<R> rows) {
+        return insertAll(rows.iterator(), chunk -> insert(sqlExecutor, chunk));
+    }
+
+    public long insertAll(SqlExecutor sqlExecutor, Iterator<R> rows) {
+        return insertAll(rows, chunk -> insert(sqlExecutor, chunk));
+    }
+
+    public long insertAll(Transaction transaction, Stream<R> rows) {
+        return insertAll(rows.iterator(), chunk -> insert(transaction, chunk));
+    }
+
+    public long insertAll(Transaction transaction, Iterator<R> rows) {
+        return insertAll(rows, chunk -> insert(transaction, chunk));
     }
 
     public CompletableFuture<Integer> insertAsync(Transaction transaction, List<R> rows) {
         if (rows == null || rows.isEmpty()) {
             return CompletableFuture.completedFuture(0);
         }
+        database.queryCache().invalidate(transaction, qualifiedName());
         if (database().dialect().supportsMultiInsert()) {
             return performInsertAsync(transaction, rows);
         } else {
@@ -196,13 +225,14 @@ public class Table<R> implements ColumnCollection<R> {
         }
         String sql = updateSql(row);
         Object[] args = columnMapping.updateArgs(row);
-        return database.execute(sql, () -> sqlExecutor.update(sql, args));
+        return invalidating(() -> database.execute(sql, () -> sqlExecutor.update(sql, args)));
     }
 
     public int update(Transaction transaction, R row) {
         if (row == null) {
             return 0;
         }
+        database.queryCache().invalidate(transaction, qualifiedName());
         String sql = updateSql(row);
         Object[] args = columnMapping.updateArgs(row);
         return database.execute(sql, () -> transaction.update(sql, args));
@@ -212,6 +242,7 @@ public class Table<R> implements ColumnCollection<R> {
         if (row == null) {
             return CompletableFuture.completedFuture(0);
         }
+        database.queryCache().invalidate(transaction, qualifiedName());
         String sql = updateSql(row);
         Object[] args = columnMapping.updateArgs(row);
         return database.executeAsync(sql, () -> transaction.updateAsync(sql, args));
@@ -234,6 +265,7 @@ public class Table<R> implements ColumnCollection<R> {
         if (rows == null || rows.isEmpty()) {
             return 0;
         }
+        database.queryCache().invalidate(transaction, qualifiedName());
         if (database().dialect().supportsMultiUpsert()) {
             return performUpsert(transaction, rows);
         } else {
@@ -247,6 +279,7 @@ public class Table<R> implements ColumnCollection<R> {
         if (rows == null || rows.isEmpty()) {
             return CompletableFuture.completedFuture(0);
         }
+        database.queryCache().invalidate(transaction, qualifiedName());
         if (database().dialect().supportsMultiUpsert()) {
             return performUpsertAsync(transaction, rows);
         } else {
@@ -258,11 +291,35 @@ public class Table<R> implements ColumnCollection<R> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public int upsertStaged(Transaction transaction, List<R> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        if (!database.dialect().mergeInfo().supportsUpsert() || !database.dialect().tempTableInfo().supportsLocal()) {
+            return upsert(transaction, rows);
+        }
+        database.queryCache().invalidate(transaction, qualifiedName());
+        TempTable<R> staging = database.createTemporaryTable(transaction, (Class<R>) rowType.getRawType(), t -> t
+            .tableName(tableName + "_STAGE" + stagingTables.incrementAndGet())
+            .onCommit(TempTableCommitAction.DROP_TABLE)
+            .columnMapping(columnMapping));
+        staging.insertAll(transaction, rows);
+        MergeSpec mergeSpec = mergeSpecBuilder()
+            .sourceTableName(staging.qualifiedTableName())
+            .selectArgs(ImmutableList.of())
+            .insertArgs(ImmutableList.of())
+            .build();
+        String sql = upsertSql(mergeSpec);
+        Object[] args = database.dialect().mergeInfo().mergeArgs(mergeSpec);
+        return database.execute(sql, () -> transaction.update(sql, args));
+    }
+
     private int upsertRow(SqlExecutor sqlExecutor, R row) {
         MergeSpec mergeSpec = mergeSpec(row);
-        String sql = upsertSql(mergeSpec);
+        String sql = fixedUpsertSql.get().orElseGet(() -> upsertSql(mergeSpec));
         Object[] args = database.dialect().mergeInfo().mergeArgs(mergeSpec);
-        return database.execute(sql, () -> sqlExecutor.update(sql, args));
+        return invalidating(() -> database.execute(sql, () -> sqlExecutor.update(sql, args)));
     }
 
     private int upsertRow(Transaction transaction, R row) {
@@ -270,7 +327,7 @@ public class Table<R> implements ColumnCollection<R> {
             return 0;
         }
         MergeSpec mergeSpec = mergeSpec(row);
-        String sql = upsertSql(mergeSpec);
+        String sql = fixedUpsertSql.get().orElseGet(() -> upsertSql(mergeSpec));
         Object[] args = database.dialect().mergeInfo().mergeArgs(mergeSpec);
         return database.execute(sql, () -> transaction.update(sql, args));
     }
@@ -280,7 +337,7 @@ public class Table<R> implements ColumnCollection<R> {
             return CompletableFuture.completedFuture(0);
         }
         MergeSpec mergeSpec = mergeSpec(row);
-        String sql = upsertSql(mergeSpec);
+        String sql = fixedUpsertSql.get().orElseGet(() -> upsertSql(mergeSpec));
         Object[] args = database.dialect().mergeInfo().mergeArgs(mergeSpec);
         return database.executeAsync(sql, () -> transaction.updateAsync(sql, args));
     }
@@ -289,16 +346,17 @@ public class Table<R> implements ColumnCollection<R> {
         if (row == null) {
             return 0;
         }
-        String sql = deleteSql();
+        String sql = deleteSql.get();
         Object[] args = columnMapping.deleteArgs(row);
-        return database.execute(sql, () -> sqlExecutor.update(sql, args));
+        return invalidating(() -> database.execute(sql, () -> sqlExecutor.update(sql, args)));
     }
 
     public int delete(Transaction transaction, R row) {
         if (row == null) {
             return 0;
         }
-        String sql = deleteSql();
+        database.queryCache().invalidate(transaction, qualifiedName());
+        String sql = deleteSql.get();
         Object[] args = columnMapping.deleteArgs(row);
         return database.execute(sql, () -> transaction.update(sql, args));
     }
@@ -307,7 +365,8 @@ public class Table<R> implements ColumnCollection<R> {
         if (row == null) {
             return CompletableFuture.completedFuture(0);
         }
-        String sql = deleteSql();
+        database.queryCache().invalidate(transaction, qualifiedName());
+        String sql = deleteSql.get();
         Object[] args = columnMapping.deleteArgs(row);
         return database.executeAsync(sql, () -> transaction.updateAsync(sql, args));
     }
@@ -343,7 +402,7 @@ public class Table<R> implements ColumnCollection<R> {
         }
         String sql = insertSql(rows);
         Object[] args = columnMapping.insertArgs(rows);
-        return database.execute(sql, () -> sqlExecutor.update(sql, args));
+        return invalidating(() -> database.execute(sql, () -> sqlExecutor.update(sql, args)));
     }
 
     private int performInsert(Transaction transaction, List<R> rows) {
@@ -355,6 +414,43 @@ public class Table<R> implements ColumnCollection<R> {
         return database.execute(sql, () -> transaction.update(sql, args));
     }
 
+    private long insertAll(Iterator<R> rows, ToIntFunction<List<R>> insertChunk) {
+        long count = 0;
+        Iterator<List<R>> chunks = Iterators.partition(rows, Math.max(1, database.batchSize()));
+        while (chunks.hasNext()) {
+            count += insertChunk.applyAsInt(chunks.next());
+        }
+        return count;
+    }
+
+    private int invalidating(IntSupplier statement) {
+        try {
+            return statement.getAsInt();
+        } finally {
+            database.queryCache().invalidate(qualifiedName());
+        }
+    }
+
+    private int performBatchInsert(List<R> rows, BiFunction<String,List<Object[]>,Integer> batchUpdate) {
+        int count = 0;
+        String batchSql = null;
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (R row : rows) {
+            String sql = insertSql(row);
+            if (batchSql != null && !batchSql.equals(sql)) {
+                count += executeBatch(batchSql, batchArgs, batchUpdate);
+                batchArgs = new ArrayList<>();
+            }
+            batchSql = sql;
+            batchArgs.add(columnMapping.insertArgs(row));
+        }
+        return count + executeBatch(batchSql, batchArgs, batchUpdate);
+    }
+
+    private int executeBatch(String sql, List<Object[]> args, BiFunction<String,List<Object[]>,Integer> batchUpdate) {
+        return database.execute(sql, () -> batchUpdate.apply(sql, args));
+    }
+
     private CompletableFuture<Integer> performInsertAsync(Transaction transaction, List<R> rows) {
         if (rows == null || rows.isEmpty()) {
             return CompletableFuture.completedFuture(0);
@@ -371,7 +467,7 @@ public class Table<R> implements ColumnCollection<R> {
         MergeSpec mergeSpec = mergeSpec(rows);
         String sql = upsertSql(mergeSpec);
         Object[] args = database.dialect().mergeInfo().mergeArgs(mergeSpec);
-        return database.execute(sql, () -> sqlExecutor.update(sql, args));
+        return invalidating(() -> database.execute(sql, () -> sqlExecutor.update(sql, args)));
     }
 
     private int performUpsert(Transaction transaction, List<R> rows) {
@@ -395,12 +491,21 @@ public class Table<R> implements ColumnCollection<R> {
     }
 
     private String insertSql(List<R> rows) {
-        return String.format("insert into %s (%s) values %s",
-            qualifiedName(),
-            insertColumnsSql(),
-            rows.stream()
-                .map(row -> "(" + columns().flatMap(col -> col.insertArgsSql(database, Optional.of(row))).collect(joining(", ")) + ")")
-                .collect(joining(", ")));
+        return insertPrefixSql.get() + rows.stream()
+            .map(this::insertValuesSql)
+            .collect(joining(", "));
+    }
+
+    private String insertSql(R row) {
+        return insertPrefixSql.get() + insertValuesSql(row);
+    }
+
+    private String insertValuesSql(R row) {
+        return fixedInsertValuesSql.get().orElseGet(() -> insertValuesSql(Optional.of(row)));
+    }
+
+    private String insertValuesSql(Optional<R> row) {
+        return columns().flatMap(col -> col.insertArgsSql(database, row)).collect(joining(", ", "(", ")"));
     }
 
     @NotNull
@@ -409,10 +514,14 @@ public class Table<R> implements ColumnCollection<R> {
     }
 
     private String updateSql(R row) {
+        return fixedUpdateSql.get().orElseGet(() -> updateSql(Optional.of(row)));
+    }
+
+    private String updateSql(Optional<R> row) {
         Alias<R> alias = RegularTableAlias.of(this);
         return String.format("update %s set %s where %s",
             qualifiedName(),
-            columns().flatMap(c -> c.updateSql(database, Optional.of(row))).collect(joining(", ")),
+            columns().flatMap(c -> c.updateSql(database, row)).collect(joining(", ")),
             columns().flatMap(c -> c.idSql(alias)).collect(joining(" and ")));
     }
 
@@ -420,46 +529,84 @@ public class Table<R> implements ColumnCollection<R> {
         return database.dialect().mergeInfo().mergeSql(mergeSpec);
     }
 
-    private MergeSpec mergeSpec(R row) {
+    private MergeSpec buildMergeTemplate() {
         return MergeSpec
             .newBuilder()
             .targetTableName(qualifiedName())
             .targetAlias("t")
-            .selectArgsSql(columns().flatMap(col -> col.selectArgsSql(database, Optional.of(row))).collect(toList()))
+            .selectArgsSql(selectArgsSql(Optional.empty()))
             .columnNames(columns().flatMap(Column::columnNames).collect(toList()))
             .sourceAlias("s")
             .idColumnNames(columns().flatMap(Column::idColumnNames).collect(toList()))
             .updateColumnNames(columns().flatMap(Column::updateColumnNames).collect(toList()))
             .insertColumnNames(columns().flatMap(Column::insertColumnNames).collect(toList()))
-            .insertArgsSql(columns().flatMap(col -> col.insertArgsSql(database, Optional.of(row))).collect(toList()))
-            .insertArgs(ImmutableList.of(columns().flatMap(col -> col.insertArgs(database, Optional.of(row))).toArray()))
-            .selectArgs(ImmutableList.of(columns().flatMap(col -> col.selectArgs(database, Optional.of(row))).toArray()))
+            .insertArgsSql(insertArgsSql(Optional.empty()))
+            .insertArgs(ImmutableList.<Object[]>of(new Object[0]))
+            .selectArgs(ImmutableList.<Object[]>of(new Object[0]))
+            .build();
+    }
+
+    private MergeSpec mergeSpec(R row) {
+        MergeSpec template = mergeTemplate.get();
+        return mergeSpecBuilder()
+            .selectArgsSql(columnMapping.castParameterSqlDependsOnValue() ? selectArgsSql(Optional.of(row)) : template.selectArgsSql())
+            .insertArgsSql(columnMapping.parameterSqlDependsOnValue() ? insertArgsSql(Optional.of(row)) : template.insertArgsSql())
+            .insertArgs(ImmutableList.of(columnMapping.insertArgs(row)))
+            .selectArgs(ImmutableList.of(columnMapping.selectArgs(row)))
             .build();
     }
 
     private MergeSpec mergeSpec(List<R> rows) {
+        List<String> fixedSelectArgsSql = columnMapping.castParameterSqlDependsOnValue() ? null : mergeTemplate.get().selectArgsSql();
+        return mergeSpecBuilder()
+            .selectRowsArgsSql(rows.stream().map(row -> fixedSelectArgsSql != null ? fixedSelectArgsSql : selectArgsSql(Optional.of(row))).collect(toList()))
+            .insertArgs(rows.stream().map(columnMapping::insertArgs).collect(toList()))
+            .selectArgs(rows.stream().map(columnMapping::selectArgs).collect(toList()))
+            .build();
+    }
+
+    private MergeSpec.Builder mergeSpecBuilder() {
+        MergeSpec template = mergeTemplate.get();
         return MergeSpec
             .newBuilder()
-            .targetTableName(qualifiedName())
-            .targetAlias("t")
-            .selectRowsArgsSql(rows.stream().map(row -> columns().flatMap(col -> col.selectArgsSql(database, Optional.of(row))).collect(toList())).collect(toList()))
-            .columnNames(columns().flatMap(Column::columnNames).collect(toList()))
-            .sourceAlias("s")
-            .idColumnNames(columns().flatMap(Column::idColumnNames).collect(toList()))
-            .updateColumnNames(columns().flatMap(Column::updateColumnNames).collect(toList()))
-            .insertColumnNames(columns().flatMap(Column::insertColumnNames).collect(toList()))
-            .insertArgs(rows.stream().map(row -> columns().flatMap(col -> col.insertArgs(database, Optional.of(row))).toArray()).collect(toList()))
-            .selectArgs(rows.stream().map(row -> columns().flatMap(col -> col.selectArgs(database, Optional.of(row))).toArray()).collect(toList()))
-            .build();
+            .targetTableName(template.targetTableName())
+            .targetAlias(template.targetAlias())
+            .columnNames(template.columnNames())
+            .sourceAlias(template.sourceAlias())
+            .idColumnNames(template.idColumnNames())
+            .updateColumnNames(template.updateColumnNames())
+            .insertColumnNames(template.insertColumnNames());
+    }
+
+    private List<String> selectArgsSql(Optional<R> row) {
+        return columns().flatMap(col -> col.selectArgsSql(database, row)).collect(toList());
+    }
+
+    private List<String> insertArgsSql(Optional<R> row) {
+        return columns().flatMap(col -> col.insertArgsSql(database, row)).collect(toList());
     }
 
-    private String deleteSql() {
+    private String buildDeleteSql() {
         Alias<R> alias = RegularTableAlias.of(this);
         return String.format("delete from %s where %s",
             qualifiedName(),
             columns().flatMap(c -> c.idSql(alias)).collect(joining(" and ")));
     }
 
+    private boolean parameterSqlDependsOnValue() {
+        return columnMapping.parameterSqlDependsOnValue();
+    }
+
+    private boolean mergeSqlDependsOnValue() {
+        return columnMapping.parameterSqlDependsOnValue() || columnMapping.castParameterSqlDependsOnValue();
+    }
+
+    private static Optional<String> fixedSql(boolean dependsOnValue, Supplier<String> sql) {
+        return dependsOnValue
+            ? Optional.empty()
+            : Optional.of(sql.get());
+    }
+
     public static final class Builder<R, B> extends ColumnMapping.Builder<R,B,Builder<R,B>> {
         private final Database database;
         private final TypeToken<R> rowType;
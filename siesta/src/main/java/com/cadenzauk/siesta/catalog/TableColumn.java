@@ -23,21 +23,44 @@
 package com.cadenzauk.siesta.catalog;
 
 import com.cadenzauk.siesta.Alias;
+import com.cadenzauk.siesta.Database;
 
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public interface TableColumn<T, R, B> extends Column<T,R> {
     ResultSetValue<B> extract(Alias<?> alias, ResultSet rs, String prefix, Optional<String> label);
 
+    ColumnReader<B> columnReader(Alias<?> alias, String prefix, Optional<String> label, List<String> labels);
+
     String label(String labelPrefix);
 
     Stream<Column<?,?>> primitiveColumns();
 
+    boolean parameterSqlDependsOnValue(Database database);
+
+    boolean castParameterSqlDependsOnValue(Database database);
+
+    Stream<Function<R,Object>> insertArgExtractors(Database database);
+
+    Stream<Function<R,Object>> selectArgExtractors(Database database);
+
+    Stream<Function<R,Object>> updateArgExtractors(Database database);
+
+    Stream<Function<R,Object>> idArgExtractors(Database database);
+
     interface ResultSetValue<B> {
         boolean isPresent();
 
         void apply(B builder);
     }
+
+    interface ColumnReader<B> {
+        Object read(ResultSet rs, int[] ordinals);
+
+        void apply(B builder, Object value);
+    }
 }
@@ -40,6 +40,7 @@ import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.json.JsonFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.numeric.NumericFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.string.StringFunctionSpecs;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.NumericFunctions;
 import com.cadenzauk.siesta.type.DbType;
 import com.cadenzauk.siesta.type.DbTypeId;
@@ -54,21 +55,22 @@ import java.util.stream.Stream;
 import static java.util.stream.Collectors.joining;
 
 public class AnsiDialect implements Dialect {
-    private final FunctionRegistry functions = new FunctionRegistry();
-    private final DbTypeRegistry types = new DbTypeRegistry();
+    private static final FunctionRegistry DEFAULT_FUNCTIONS = new FunctionRegistry()
+        .register(AggregateFunctionSpecs::registerDefaults)
+        .register(DateFunctionSpecs::registerDefaults)
+        .register(NumericFunctionSpecs::registerDefaults)
+        .register(StringFunctionSpecs::registerDefaults)
+        .register(JsonFunctionSpecs::registerDefaults);
+    private static final DbTypeRegistry DEFAULT_TYPES = new DbTypeRegistry();
+
+    private final FunctionRegistry functions = new FunctionRegistry(DEFAULT_FUNCTIONS);
+    private final DbTypeRegistry types = new DbTypeRegistry(DEFAULT_TYPES);
     private final SqlStateExceptionTranslator exceptionTranslator = new SqlStateExceptionTranslator();
     private SequenceInfo sequenceInfo;
     private TempTableInfo tempTableInfo;
     private MergeInfo mergeInfo;
 
     public AnsiDialect() {
-        functions
-            .register(AggregateFunctionSpecs::registerDefaults)
-            .register(DateFunctionSpecs::registerDefaults)
-            .register(NumericFunctionSpecs::registerDefaults)
-            .register(StringFunctionSpecs::registerDefaults)
-            .register(JsonFunctionSpecs::registerDefaults);
-
         sequenceInfo = SequenceInfo.newBuilder().build();
         tempTableInfo = TempTableInfo.newBuilder().build();
         mergeInfo = new MergeInfo(this);
@@ -190,11 +192,18 @@ public class AnsiDialect implements Dialect {
 
     @Override
     public String fetchFirst(String sql, long n, OptionalLong offset) {
+        SqlWriter writer = new SqlWriter().append(sql);
+        fetchFirst(writer, 0, n, offset);
+        return writer.sql();
+    }
+
+    @Override
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
         long off = offset.orElse(0);
         if (off == 0) {
-            return String.format("%s fetch first %d rows only", sql, n);
+            sql.append(String.format(" fetch first %d rows only", n));
         } else {
-            return String.format("%s offset %d rows fetch next %d rows only", sql, off, n);
+            sql.append(String.format(" offset %d rows fetch next %d rows only", off, n));
         }
     }
 
@@ -205,7 +214,13 @@ public class AnsiDialect implements Dialect {
 
     @Override
     public String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
-        return sql;
+        SqlWriter writer = new SqlWriter().append(sql);
+        isolationLevel(writer, level, keepLocks);
+        return writer.sql();
+    }
+
+    @Override
+    public void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
     }
 
     @Override
@@ -238,6 +253,11 @@ public class AnsiDialect implements Dialect {
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return false;
+    }
+
     @Override
     public boolean supportsJsonFunctions() {
         return false;
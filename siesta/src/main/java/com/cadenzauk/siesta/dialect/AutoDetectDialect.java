@@ -40,25 +40,31 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 public class AutoDetectDialect {
-    private static final List<Tuple2<Predicate<String>,Function<Connection,Dialect>>> DIALECTS = ImmutableList.of(
-        Tuple.of(Pattern.compile("^DB2/.*").asPredicate(), conn -> new Db2Dialect()),
-        Tuple.of(Pattern.compile("^Apache Derby.*").asPredicate(), conn -> new DerbyDialect()),
-        Tuple.of(Pattern.compile("^H2.*").asPredicate(), AutoDetectDialect::createH2Dialect),
-        Tuple.of(Pattern.compile("^HSQL.*").asPredicate(), conn -> new HSqlDialect()),
-        Tuple.of(Pattern.compile("^Firebird.*").asPredicate(), AutoDetectDialect::createFirebirdDialect),
-        Tuple.of(Pattern.compile("^Maria.*").asPredicate(), conn -> new MariaDbDialect()),
-        Tuple.of(Pattern.compile("^MySQL.*").asPredicate(), conn -> new MySqlDialect()),
-        Tuple.of(Pattern.compile("^Oracle.*").asPredicate(), conn -> new OracleDialect()),
-        Tuple.of(Pattern.compile("^PostgreSQL.*").asPredicate(), conn -> new PostgresDialect()),
-        Tuple.of(Pattern.compile("^Microsoft SQL\\s*Server.*").asPredicate(), conn -> new SqlServerDialect())
+    private static final List<Tuple2<Predicate<String>,Function<Connection,Supplier<Dialect>>>> DIALECTS = ImmutableList.of(
+        Tuple.of(Pattern.compile("^DB2/.*").asPredicate(), conn -> Db2Dialect::new),
+        Tuple.of(Pattern.compile("^Apache Derby.*").asPredicate(), conn -> DerbyDialect::new),
+        Tuple.of(Pattern.compile("^H2.*").asPredicate(), AutoDetectDialect::h2Dialect),
+        Tuple.of(Pattern.compile("^HSQL.*").asPredicate(), conn -> HSqlDialect::new),
+        Tuple.of(Pattern.compile("^Firebird.*").asPredicate(), AutoDetectDialect::firebirdDialect),
+        Tuple.of(Pattern.compile("^Maria.*").asPredicate(), conn -> MariaDbDialect::new),
+        Tuple.of(Pattern.compile("^MySQL.*").asPredicate(), conn -> MySqlDialect::new),
+        Tuple.of(Pattern.compile("^Oracle.*").asPredicate(), conn -> OracleDialect::new),
+        Tuple.of(Pattern.compile("^PostgreSQL.*").asPredicate(), conn -> PostgresDialect::new),
+        Tuple.of(Pattern.compile("^Microsoft SQL\\s*Server.*").asPredicate(), conn -> SqlServerDialect::new)
     );
 
     public static Dialect from(DataSource dataSource) {
+        return detect(dataSource).get();
+    }
+
+    public static Supplier<Dialect> detect(DataSource dataSource) {
         try (Connection connection = DataSourceUtil.connection(dataSource)) {
             DatabaseMetaData metaData = ConnectionUtil.getMetaData(connection);
             String productName = metaData.getDatabaseProductName();
@@ -67,35 +73,30 @@ public class AutoDetectDialect {
                 .filter(x -> x.item1().test(productName))
                 .map(x -> x.item2().apply(connection))
                 .findFirst()
-                .orElseGet(AnsiDialect::new);
+                .orElse(AnsiDialect::new);
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
     }
 
-    private static H2Dialect createH2Dialect(Connection connection) {
-        try (CompositeAutoCloseable closer = new CompositeAutoCloseable()) {
-            PreparedStatement preparedStatement = closer.add(ConnectionUtil.prepare(connection, "SELECT H2VERSION() as H2VERSION FROM DUAL"));
-            ResultSet resultSet = closer.add(PreparedStatementUtil.executeQuery(preparedStatement));
-            return closer.add(ResultSetUtil.stream(resultSet, rs -> ResultSetUtil.getString(rs, "H2VERSION")))
-                .limit(1)
-                .map(VersionNo::new)
-                .map(H2Dialect::new)
-                .findFirst()
-                .orElseGet(H2Dialect::new);
-        }
+    private static Supplier<Dialect> h2Dialect(Connection connection) {
+        Optional<VersionNo> versionNo = versionNo(connection, "SELECT H2VERSION() as H2VERSION FROM DUAL", "H2VERSION");
+        return () -> versionNo.map(H2Dialect::new).orElseGet(H2Dialect::new);
     }
 
-    private static FirebirdDialect createFirebirdDialect(Connection connection) {
+    private static Supplier<Dialect> firebirdDialect(Connection connection) {
+        Optional<VersionNo> versionNo = versionNo(connection, "SELECT rdb$get_context('SYSTEM', 'ENGINE_VERSION') as version from rdb$database", "VERSION");
+        return () -> versionNo.map(FirebirdDialect::new).orElseGet(FirebirdDialect::new);
+    }
+
+    private static Optional<VersionNo> versionNo(Connection connection, String sql, String columnName) {
         try (CompositeAutoCloseable closer = new CompositeAutoCloseable()) {
-            PreparedStatement preparedStatement = closer.add(ConnectionUtil.prepare(connection, "SELECT rdb$get_context('SYSTEM', 'ENGINE_VERSION') as version from rdb$database"));
+            PreparedStatement preparedStatement = closer.add(ConnectionUtil.prepare(connection, sql));
             ResultSet resultSet = closer.add(PreparedStatementUtil.executeQuery(preparedStatement));
-            return closer.add(ResultSetUtil.stream(resultSet, rs -> ResultSetUtil.getString(rs, "VERSION")))
+            return closer.add(ResultSetUtil.stream(resultSet, rs -> ResultSetUtil.getString(rs, columnName)))
                 .limit(1)
                 .map(VersionNo::new)
-                .map(FirebirdDialect::new)
-                .findFirst()
-                .orElseGet(FirebirdDialect::new);
+                .findFirst();
         }
     }
 }
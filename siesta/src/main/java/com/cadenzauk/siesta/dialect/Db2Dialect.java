@@ -34,6 +34,7 @@ import com.cadenzauk.siesta.IsolationLevel;
 import com.cadenzauk.siesta.LockLevel;
 import com.cadenzauk.siesta.dialect.function.SimpleFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.json.BinaryJson;
 import com.cadenzauk.siesta.json.Json;
 import com.cadenzauk.siesta.type.DbTypeId;
@@ -42,7 +43,6 @@ import com.cadenzauk.siesta.type.DefaultJson;
 import com.cadenzauk.siesta.type.DefaultTinyint;
 import com.cadenzauk.siesta.type.DefaultVarbinary;
 import com.cadenzauk.siesta.type.DefaultVarchar;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -82,14 +82,44 @@ public class Db2Dialect extends AnsiDialect {
             .register(DbTypeId.JSON, new DefaultJson("varchar") {
                 @Override
                 public String parameter(Database database, Optional<Json> value) {
+                    return castParameter(database, value);
+                }
+
+                @Override
+                public String castParameter(Database database, Optional<Json> value) {
                     return database.dialect().type(DbTypeId.VARCHAR).castParameter(database, value.map(Json::data));
                 }
+
+                @Override
+                public boolean parameterDependsOnValue(Database database) {
+                    return true;
+                }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return true;
+                }
             })
             .register(DbTypeId.JSONB, new DefaultBinaryJson("varchar") {
                 @Override
                 public String parameter(Database database, Optional<BinaryJson> value) {
+                    return castParameter(database, value);
+                }
+
+                @Override
+                public String castParameter(Database database, Optional<BinaryJson> value) {
                     return database.dialect().type(DbTypeId.VARCHAR).castParameter(database, value.map(BinaryJson::data));
                 }
+
+                @Override
+                public boolean parameterDependsOnValue(Database database) {
+                    return true;
+                }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return true;
+                }
             });
 
         exceptions()
@@ -157,10 +187,10 @@ public class Db2Dialect extends AnsiDialect {
     }
 
     @Override
-    public String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
-        return keepLocks
-            .map(kl -> isolationLevelSqlWithLocks(sql, level, kl))
-            .orElseGet(() -> isolationLevelWithNoLocks(sql, level));
+    public void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
+        sql.append(keepLocks
+            .map(kl -> isolationLevelSqlWithLocks(level, kl))
+            .orElseGet(() -> isolationLevelWithNoLocks(level)));
     }
 
     @Override
@@ -188,27 +218,25 @@ public class Db2Dialect extends AnsiDialect {
         return true;
     }
 
-    private String isolationLevelSqlWithLocks(String sql, IsolationLevel level, LockLevel keepLocks) {
-        return String.format("%s for read only with %s use and keep %s locks",
-            sql,
+    private String isolationLevelSqlWithLocks(IsolationLevel level, LockLevel keepLocks) {
+        return String.format(" for read only with %s use and keep %s locks",
             level.ordinal() <= IsolationLevel.REPEATABLE_READ.ordinal() ? "rs" : "rr",
             keepLocks);
     }
 
-    @Nullable
-    private String isolationLevelWithNoLocks(String sql, IsolationLevel level) {
+    private String isolationLevelWithNoLocks(IsolationLevel level) {
         switch (level) {
             case UNSPECIFIED:
-                return sql;
+                return "";
             case UNCOMMITTED_READ:
-                return sql + " with ur";
+                return " with ur";
             case READ_COMMITTED:
-                return sql + " with cs";
+                return " with cs";
             case REPEATABLE_READ:
-                return sql + " with rs";
+                return " with rs";
             case SERIALIZABLE:
-                return sql + " with rr";
+                return " with rr";
         }
-        return sql;
+        return "";
     }
 }
@@ -41,6 +41,7 @@ import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec
 import com.cadenzauk.siesta.dialect.function.json.JsonFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.string.StringFunctionSpecs;
 import com.cadenzauk.siesta.dialect.merge.DerbyMergeInfo;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.type.DbType;
 import com.cadenzauk.siesta.type.DbTypeId;
 import com.cadenzauk.siesta.type.DefaultDate;
@@ -50,7 +51,6 @@ import com.cadenzauk.siesta.type.DefaultTinyint;
 import com.cadenzauk.siesta.type.DefaultUtcTimestamp;
 import com.cadenzauk.siesta.type.DefaultVarbinary;
 import org.apache.commons.lang3.StringUtils;
-import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.time.LocalDate;
@@ -195,10 +195,10 @@ public class DerbyDialect extends AnsiDialect {
     }
 
     @Override
-    public String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
-        return keepLocks
-            .map(kl -> isolationLevelSqlWithLocks(sql, level, kl))
-            .orElseGet(() -> isolationLevelWithNoLocks(sql, level));
+    public void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
+        sql.append(keepLocks
+            .map(kl -> isolationLevelSqlWithLocks(level, kl))
+            .orElseGet(() -> isolationLevelWithNoLocks(level)));
     }
 
     @Override
@@ -216,28 +216,26 @@ public class DerbyDialect extends AnsiDialect {
         return false;
     }
 
-    private String isolationLevelSqlWithLocks(String sql, IsolationLevel level, LockLevel keepLocks) {
-        return String.format("%s for read only with %s use and keep %s locks",
-            sql,
+    private String isolationLevelSqlWithLocks(IsolationLevel level, LockLevel keepLocks) {
+        return String.format(" for read only with %s use and keep %s locks",
             level.ordinal() <= IsolationLevel.REPEATABLE_READ.ordinal() ? "rs" : "rr",
             keepLocks);
     }
 
-    @Nullable
-    private String isolationLevelWithNoLocks(String sql, IsolationLevel level) {
+    private String isolationLevelWithNoLocks(IsolationLevel level) {
         switch (level) {
             case UNSPECIFIED:
-                return sql;
+                return "";
             case UNCOMMITTED_READ:
-                return sql + " with ur";
+                return " with ur";
             case READ_COMMITTED:
-                return sql + " with cs";
+                return " with cs";
             case REPEATABLE_READ:
-                return sql + " with rs";
+                return " with rs";
             case SERIALIZABLE:
-                return sql + " with rr";
+                return " with rr";
         }
-        return sql;
+        return "";
     }
 
 
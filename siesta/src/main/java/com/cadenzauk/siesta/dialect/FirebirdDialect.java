@@ -38,6 +38,7 @@ import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.string.StringFunctionSpecs;
 import com.cadenzauk.siesta.dialect.merge.FirebirdMergeInfo;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.cadenzauk.siesta.type.DbTypeId;
 import com.cadenzauk.siesta.type.DefaultInteger;
@@ -157,6 +158,11 @@ public class FirebirdDialect extends AnsiDialect {
                 public String parameter(Database database, Optional<String> value) {
                     return castParameter(database, value);
                 }
+
+                @Override
+                public boolean parameterDependsOnValue(Database database) {
+                    return true;
+                }
             });
 
         exceptions()
@@ -183,12 +189,12 @@ public class FirebirdDialect extends AnsiDialect {
     }
 
     @Override
-    public String fetchFirst(String sql, long n, OptionalLong offset) {
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
         long off = offset.orElse(0);
         if (off == 0) {
-            return String.format("%s rows %d", sql, n);
+            sql.append(String.format(" rows %d", n));
         } else {
-            return String.format("%s rows %d to %d", sql, off + 1, off + n);
+            sql.append(String.format(" rows %d to %d", off + 1, off + n));
         }
     }
 
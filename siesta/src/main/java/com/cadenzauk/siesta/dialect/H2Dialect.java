@@ -30,6 +30,7 @@ import com.cadenzauk.core.sql.exception.IllegalNullException;
 import com.cadenzauk.core.sql.exception.SqlSyntaxException;
 import com.cadenzauk.core.sql.exception.DuplicateKeyException;
 import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InListStrategy;
 import com.cadenzauk.siesta.IsolationLevel;
 import com.cadenzauk.siesta.LockLevel;
 import com.cadenzauk.siesta.dialect.function.ArgumentlessFunctionSpec;
@@ -39,6 +40,7 @@ import com.cadenzauk.siesta.dialect.function.aggregate.AggregateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.json.JsonFunctionSpecs;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.json.BinaryJson;
 import com.cadenzauk.siesta.json.Json;
 import com.cadenzauk.siesta.type.DbTypeId;
@@ -152,21 +154,25 @@ public class H2Dialect extends AnsiDialect {
     }
 
     @Override
-    public String fetchFirst(String sql, long n, OptionalLong offset) {
+    public InListStrategy largeInListStrategy() {
+        return InListStrategy.ARRAY;
+    }
+
+    @Override
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
         long off = offset.orElse(0);
         if (off == 0) {
-            return String.format("%s limit %d", sql, n);
+            sql.append(String.format(" limit %d", n));
         } else {
-            return String.format("%s limit %d offset %d", sql, n, off);
+            sql.append(String.format(" limit %d offset %d", n, off));
         }
     }
 
     @Override
-    public String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
-        return keepLocks
-            .filter(ll -> ll.ordinal() >= LockLevel.UPDATE.ordinal())
-            .map(ll -> sql + " for update")
-            .orElse(sql);
+    public void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
+        if (keepLocks.filter(ll -> ll.ordinal() >= LockLevel.UPDATE.ordinal()).isPresent()) {
+            sql.append(" for update");
+        }
     }
 
     @Override
@@ -204,6 +210,11 @@ public class H2Dialect extends AnsiDialect {
         return versionNo.isAtLeast(TUPLES_IN);
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return versionNo.isAtLeast(TUPLES_IN);
+    }
+
     @Override
     public String nextFromSequence(String catalog, String schema, String sequenceName) {
         if (versionNo.isAtLeast(NEW_SEQUENCE)) {
@@ -37,6 +37,7 @@ import com.cadenzauk.siesta.dialect.function.SimpleFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.aggregate.AggregateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.type.DbTypeId;
 import com.cadenzauk.siesta.type.DefaultTimestamp;
 import com.cadenzauk.siesta.type.DefaultUuid;
@@ -135,11 +136,10 @@ public class HSqlDialect extends AnsiDialect {
     }
 
     @Override
-    public String isolationLevelSql(String sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
-        return keepLocks
-            .filter(ll -> ll.ordinal() >= LockLevel.UPDATE.ordinal())
-            .map(ll -> sql + " for update")
-            .orElse(sql);
+    public void isolationLevel(SqlWriter sql, IsolationLevel level, Optional<LockLevel> keepLocks) {
+        if (keepLocks.filter(ll -> ll.ordinal() >= LockLevel.UPDATE.ordinal()).isPresent()) {
+            sql.append(" for update");
+        }
     }
 
     @Override
@@ -157,6 +157,11 @@ public class HSqlDialect extends AnsiDialect {
         return false;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     @Override
     public String nextFromSequence(String catalog, String schema, String sequenceName) {
         return String.format("next value for %s.%s", schema, sequenceName);
@@ -127,6 +127,11 @@ public class MariaDbDialect extends AnsiDialect {
                 public String castParameter(Database database, Optional<String> value) {
                     return "cast(? as char)";
                 }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return false;
+                }
             })
             .register(DbTypeId.TIMESTAMP, new DefaultTimestamp() {
                 @Override
@@ -219,4 +224,9 @@ public class MariaDbDialect extends AnsiDialect {
     public String orderSql(Order order) {
         return Order.orderWithoutNullClause(order);
     }
+
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
 }
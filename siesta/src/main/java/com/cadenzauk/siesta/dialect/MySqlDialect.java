@@ -38,6 +38,7 @@ import com.cadenzauk.siesta.dialect.function.aggregate.AggregateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.merge.MySqlMergeInfo;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.type.DbTypeId;
 import com.cadenzauk.siesta.type.DefaultBigint;
 import com.cadenzauk.siesta.type.DefaultInteger;
@@ -114,6 +115,11 @@ public class MySqlDialect extends AnsiDialect {
                 public String castParameter(Database database, Optional<String> value) {
                     return "cast(? as char)";
                 }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return false;
+                }
             })
             .register(DbTypeId.TIMESTAMP, new DefaultTimestamp() {
                 @Override
@@ -195,8 +201,8 @@ public class MySqlDialect extends AnsiDialect {
     }
 
     @Override
-    public String fetchFirst(String sql, long n, OptionalLong offset) {
-        return String.format("%s limit %d offset %d", sql, n, offset.orElse(0));
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
+        sql.append(String.format(" limit %d offset %d", n, offset.orElse(0)));
     }
 
     @Override
@@ -211,4 +217,9 @@ public class MySqlDialect extends AnsiDialect {
     public String orderSql(Order order) {
         return Order.orderWithoutNullClause(order);
     }
+
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
 }
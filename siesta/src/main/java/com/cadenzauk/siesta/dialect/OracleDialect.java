@@ -210,12 +210,22 @@ public class OracleDialect extends AnsiDialect {
                 public String sqlTypeOf(Database database, Optional<Json> value) {
                     return String.format("%s(%d)", sqlType(database), Integer.max(1, value.map(Json::data).map(String::length).orElse(1)));
                 }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return true;
+                }
             })
             .register(DbTypeId.JSONB, new DefaultBinaryJson("varchar2") {
                 @Override
                 public String sqlTypeOf(Database database, Optional<BinaryJson> value) {
                     return String.format("%s(%d)", sqlType(database), Integer.max(1, value.map(BinaryJson::data).map(String::length).orElse(1)));
                 }
+
+                @Override
+                public boolean castParameterDependsOnValue(Database database) {
+                    return true;
+                }
             });
 
         exceptions()
@@ -30,6 +30,7 @@ import com.cadenzauk.core.sql.exception.NoSuchObjectException;
 import com.cadenzauk.core.sql.exception.ReferentialIntegrityException;
 import com.cadenzauk.core.sql.exception.SqlSyntaxException;
 import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InListStrategy;
 import com.cadenzauk.siesta.MergeInfo;
 import com.cadenzauk.siesta.Scope;
 import com.cadenzauk.siesta.dialect.function.ArgumentlessFunctionSpec;
@@ -38,6 +39,7 @@ import com.cadenzauk.siesta.dialect.function.SimpleFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.aggregate.AggregateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.aggregate.CountDistinctFunctionSpec;
 import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.cadenzauk.siesta.json.BinaryJson;
 import com.cadenzauk.siesta.json.Json;
@@ -185,6 +187,11 @@ public class PostgresDialect extends AnsiDialect {
         return true;
     }
 
+    @Override
+    public InListStrategy largeInListStrategy() {
+        return InListStrategy.ARRAY;
+    }
+
     @Override
     public boolean requiresFromDual() {
         return false;
@@ -196,8 +203,8 @@ public class PostgresDialect extends AnsiDialect {
     }
 
     @Override
-    public String fetchFirst(String sql, long n, OptionalLong offset) {
-        return String.format("%s offset %d rows fetch next %d rows only", sql, offset.orElse(0), n);
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
+        sql.append(String.format(" offset %d rows fetch next %d rows only", offset.orElse(0), n));
     }
 
     @Override
@@ -224,6 +231,11 @@ public class PostgresDialect extends AnsiDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     @Override
     public String nextFromSequence(String catalog, String schema, String sequenceName) {
         return "nextval('" + qualifiedSequenceName(catalog, schema, sequenceName) + "')";
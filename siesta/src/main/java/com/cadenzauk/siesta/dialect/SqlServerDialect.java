@@ -30,6 +30,7 @@ import com.cadenzauk.core.sql.exception.NoSuchObjectException;
 import com.cadenzauk.core.sql.exception.ReferentialIntegrityException;
 import com.cadenzauk.core.sql.exception.SqlSyntaxException;
 import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InListStrategy;
 import com.cadenzauk.siesta.Order;
 import com.cadenzauk.siesta.Scope;
 import com.cadenzauk.siesta.dialect.function.SimpleFunctionSpec;
@@ -37,6 +38,7 @@ import com.cadenzauk.siesta.dialect.function.date.DateFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.json.JsonFunctionSpecs;
 import com.cadenzauk.siesta.dialect.function.string.StringFunctionSpecs;
 import com.cadenzauk.siesta.dialect.merge.SqlServerMergeInfo;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.cadenzauk.siesta.type.BooleanAsTinyInt;
 import com.cadenzauk.siesta.type.DbTypeId;
@@ -221,6 +223,11 @@ public class SqlServerDialect extends AnsiDialect {
         return true;
     }
 
+    @Override
+    public InListStrategy largeInListStrategy() {
+        return InListStrategy.LITERALS;
+    }
+
     @Override
     public boolean requiresFromDual() {
         return false;
@@ -245,6 +252,19 @@ public class SqlServerDialect extends AnsiDialect {
         }
     }
 
+    @Override
+    public void fetchFirst(SqlWriter sql, int selectStart, long n, OptionalLong offset) {
+        if (offset.isPresent()) {
+            sql.append(String.format(" offset %d rows fetch next %d rows only", offset.orElse(0), n));
+        } else {
+            int start = selectStart + "select ".length();
+            if (sql.startsWith("distinct ", start)) {
+                start += "distinct ".length();
+            }
+            sql.insert(start, "top " + n + " ");
+        }
+    }
+
     @Override
     public boolean supportsLockTimeout() {
         return true;
@@ -29,9 +29,22 @@ import java.util.function.Consumer;
 
 public class FunctionRegistry {
     private final Map<FunctionName, FunctionSpec> functions = new ConcurrentHashMap<>();
+    private final Optional<FunctionRegistry> parent;
+
+    public FunctionRegistry() {
+        parent = Optional.empty();
+    }
+
+    public FunctionRegistry(FunctionRegistry parent) {
+        this.parent = Optional.of(parent);
+    }
 
     public Optional<FunctionSpec> get(FunctionName name) {
-        return Optional.ofNullable(functions.get(name));
+        FunctionSpec function = functions.get(name);
+        if (function != null) {
+            return Optional.of(function);
+        }
+        return parent.flatMap(p -> p.get(name));
     }
 
     public FunctionRegistry register(FunctionName name, FunctionSpec function) {
@@ -40,6 +40,9 @@ public class MariaDbMergeInfo extends MergeInfo {
 
     @Override
     public String mergeSql(MergeSpec mergeSpec) {
+        if (mergeSpec.sourceTableName() != null) {
+            return mergeFromTableSql(mergeSpec);
+        }
         String onDuplicateKeyUpdates = mergeSpec.updateColumnNames().isEmpty()
             ? mergeSpec.insertColumnNames().get(0) + " = " + mergeSpec.insertColumnNames().get(0)
             : mergeSpec.updateColumnNames().stream().map(col -> String.format("%s = values(%s)", col, col)).collect(Collectors.joining(", "));
@@ -50,6 +53,20 @@ public class MariaDbMergeInfo extends MergeInfo {
             onDuplicateKeyUpdates);
     }
 
+    private String mergeFromTableSql(MergeSpec mergeSpec) {
+        String target = mergeSpec.targetTableName();
+        String onDuplicateKeyUpdates = mergeSpec.updateColumnNames().isEmpty()
+            ? String.format("%1$s.%2$s = %1$s.%2$s", target, mergeSpec.insertColumnNames().get(0))
+            : mergeSpec.updateColumnNames().stream().map(col -> String.format("%s.%s = values(%s)", target, col, col)).collect(Collectors.joining(", "));
+        return String.format("insert into %s(%s) select %s from %s %s on duplicate key update %s",
+            target,
+            String.join(", ", mergeSpec.insertColumnNames()),
+            mergeSpec.insertColumnNames().stream().map(col -> mergeSpec.sourceAlias() + "." + col).collect(Collectors.joining(", ")),
+            mergeSpec.sourceTableName(),
+            mergeSpec.sourceAlias(),
+            onDuplicateKeyUpdates);
+    }
+
     @Override
     public Object[] mergeArgs(MergeSpec mergeSpec) {
         return mergeSpec.insertArgs().stream().flatMap(Arrays::stream).toArray();
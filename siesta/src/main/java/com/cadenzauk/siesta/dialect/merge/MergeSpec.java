@@ -34,6 +34,7 @@ public class MergeSpec {
     private final List<String> insertColumnNames;
     private final List<String> updateColumnNames;
     private final String sourceAlias;
+    private final String sourceTableName;
     private final List<String> selectArgsSql;
     private final List<List<String>> selectRowsArgsSql;
     private final List<Object[]> selectArgs;
@@ -48,6 +49,7 @@ public class MergeSpec {
         insertColumnNames = builder.insertColumnNames;
         updateColumnNames = builder.updateColumnNames;
         sourceAlias = builder.sourceAlias;
+        sourceTableName = builder.sourceTableName;
         selectArgsSql = builder.selectArgsSql;
         selectRowsArgsSql = builder.selectRowsArgsSql;
         selectArgs = builder.selectArgs;
@@ -83,6 +85,10 @@ public class MergeSpec {
         return sourceAlias;
     }
 
+    public String sourceTableName() {
+        return sourceTableName;
+    }
+
     public List<String> selectArgsSql() {
         return selectArgsSql;
     }
@@ -118,6 +124,7 @@ public class MergeSpec {
         private List<String> insertColumnNames;
         private List<String> updateColumnNames;
         private String sourceAlias;
+        private String sourceTableName;
         private List<String> selectArgsSql;
         private List<List<String>> selectRowsArgsSql;
         private List<Object[]> selectArgs;
@@ -162,6 +169,11 @@ public class MergeSpec {
             return this;
         }
 
+        public Builder sourceTableName(String val) {
+            sourceTableName = val;
+            return this;
+        }
+
         public Builder selectArgsSql(List<String> val) {
             selectArgsSql = val;
             return this;
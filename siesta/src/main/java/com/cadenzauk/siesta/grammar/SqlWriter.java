@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cadenzauk.siesta.grammar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+public class SqlWriter {
+    private final StringBuilder sql;
+    private final List<Object> args = new ArrayList<>();
+
+    public SqlWriter() {
+        this(256);
+    }
+
+    public SqlWriter(int capacity) {
+        sql = new StringBuilder(capacity);
+    }
+
+    public SqlWriter append(String s) {
+        sql.append(s);
+        return this;
+    }
+
+    public SqlWriter append(char c) {
+        sql.append(c);
+        return this;
+    }
+
+    public SqlWriter arg(Object arg) {
+        args.add(arg);
+        return this;
+    }
+
+    public SqlWriter args(Stream<Object> values) {
+        values.forEachOrdered(args::add);
+        return this;
+    }
+
+    public SqlWriter append(SqlWriter other) {
+        sql.append(other.sql);
+        args.addAll(other.args);
+        return this;
+    }
+
+    public <T> SqlWriter join(Collection<T> items, String separator, BiConsumer<T,SqlWriter> render) {
+        boolean first = true;
+        for (T item : items) {
+            if (!first) {
+                sql.append(separator);
+            }
+            render.accept(item, this);
+            first = false;
+        }
+        return this;
+    }
+
+    public <T> SqlWriter join(T[] items, String separator, BiConsumer<T,SqlWriter> render) {
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                sql.append(separator);
+            }
+            render.accept(items[i], this);
+        }
+        return this;
+    }
+
+    public SqlWriter insert(int offset, String s) {
+        sql.insert(offset, s);
+        return this;
+    }
+
+    public boolean startsWith(String s, int offset) {
+        return offset + s.length() <= sql.length() && s.contentEquals(sql.subSequence(offset, offset + s.length()));
+    }
+
+    public SqlWriter transform(UnaryOperator<String> transform) {
+        String before = sql.toString();
+        String after = transform.apply(before);
+        if (!after.equals(before)) {
+            sql.setLength(0);
+            sql.append(after);
+        }
+        return this;
+    }
+
+    public int length() {
+        return sql.length();
+    }
+
+    public String sql() {
+        return sql.toString();
+    }
+
+    public Object[] args() {
+        return args.toArray();
+    }
+
+    public Stream<Object> argStream() {
+        return args.stream();
+    }
+
+    @Override
+    public String toString() {
+        return sql.toString();
+    }
+}
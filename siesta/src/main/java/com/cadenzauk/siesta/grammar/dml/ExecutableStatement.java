@@ -29,7 +29,9 @@ import com.cadenzauk.siesta.Transaction;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpression;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpressionChain;
 
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class ExecutableStatement {
@@ -43,21 +45,31 @@ public abstract class ExecutableStatement {
     int execute(SqlExecutor sqlExecutor) {
         Object[] args = args(scope).toArray();
         String sql = sql(scope);
-        return scope.database().execute(sql, () -> sqlExecutor.update(sql, args));
+        try {
+            return scope.database().execute(sql, () -> sqlExecutor.update(sql, args));
+        } finally {
+            scope.database().queryCache().invalidate(referencedTables());
+        }
     }
 
     int execute(Transaction transaction) {
         Object[] args = args(scope).toArray();
         String sql = sql(scope);
+        scope.database().queryCache().invalidate(transaction, referencedTables());
         return scope.database().execute(sql, () -> transaction.update(sql, args));
     }
 
     CompletableFuture<Integer> executeAsync(Transaction transaction) {
         Object[] args = args(scope).toArray();
         String sql = sql(scope);
+        scope.database().queryCache().invalidate(transaction, referencedTables());
         return scope.database().executeAsync(sql, () -> transaction.updateAsync(sql, args));
     }
 
+    private Set<String> referencedTables() {
+        return scope.referencedTables().collect(Collectors.toSet());
+    }
+
     Database database() {
         return scope.database();
     }
@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.reflect.TypeToken;
 
 import java.util.ArrayList;
@@ -46,6 +47,12 @@ public class ArithmeticExpressionChain<T> implements TypedExpression<T> {
         return first.sql(scope) + terms.stream().map(t -> t.sql(scope)).collect(joining());
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        first.render(writer, scope);
+        terms.forEach(t -> t.render(writer, scope));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return expressions().flatMap(e -> e.args(scope));
@@ -131,6 +138,11 @@ public class ArithmeticExpressionChain<T> implements TypedExpression<T> {
             return " " + operator + " " + operand.sql(scope);
         }
 
+        private void render(SqlWriter writer, Scope scope) {
+            writer.append(' ').append(operator).append(' ');
+            operand.render(writer, scope);
+        }
+
         private static <T> Term<T> plus(TypedExpression<T> expression) {
             return new Term<>(Precedence.PLUS_MINUS, "+", expression);
         }
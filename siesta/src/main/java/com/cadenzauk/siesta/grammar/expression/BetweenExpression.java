@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.stream.Stream;
 
@@ -44,6 +45,15 @@ public class BetweenExpression<T> extends BooleanExpression {
         return String.format("%s %sbetween %s and %s", lhs.sql(scope), prefix, lowValue.sql(scope), highValue.sql(scope));
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        lhs.render(writer, scope);
+        writer.append(' ').append(prefix).append("between ");
+        lowValue.render(writer, scope);
+        writer.append(" and ");
+        highValue.render(writer, scope);
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Stream.of(lhs, lowValue, highValue).flatMap(v -> v.args(scope));
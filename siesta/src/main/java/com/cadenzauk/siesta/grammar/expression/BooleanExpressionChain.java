@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.core.stream.StreamUtil;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +52,10 @@ public class BooleanExpressionChain extends BooleanExpression {
         first = Optional.of(ParenthesisedBooleanExpression.wrapIfNecessary(expression));
     }
 
+    public boolean isEmpty() {
+        return first.isEmpty();
+    }
+
     @Override
     public String sql(Scope scope) {
         return sql(scope, "");
@@ -62,6 +67,19 @@ public class BooleanExpressionChain extends BooleanExpression {
             .orElse("");
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        render(writer, scope, "");
+    }
+
+    public void render(SqlWriter writer, Scope scope, String prefix) {
+        first.ifPresent(f -> {
+            writer.append(prefix);
+            f.render(writer, scope);
+            terms.forEach(t -> t.render(writer, scope));
+        });
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return expressions().flatMap(e -> e.args(scope));
@@ -118,6 +136,11 @@ public class BooleanExpressionChain extends BooleanExpression {
             return " " + operator + " " + operand.sql(scope);
         }
 
+        private void render(SqlWriter writer, Scope scope) {
+            writer.append(' ').append(operator).append(' ');
+            operand.render(writer, scope);
+        }
+
         private static Term or(BooleanExpression expression) {
             return new Term(Precedence.OR, "or", expression);
         }
@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.stream.Stream;
 
@@ -38,4 +39,18 @@ public interface Expression {
             ? "(" + e.sql(scope) + ")"
             : e.sql(scope);
     }
+
+    default void render(SqlWriter writer, Scope scope) {
+        writer.append(sql(scope)).args(args(scope));
+    }
+
+    default void render(Expression e, SqlWriter writer, Scope scope) {
+        if (e.precedence().compareTo(precedence()) < 0) {
+            writer.append('(');
+            e.render(writer, scope);
+            writer.append(')');
+        } else {
+            e.render(writer, scope);
+        }
+    }
 }
@@ -29,7 +29,6 @@ import com.cadenzauk.core.util.OptionalUtil;
 import com.cadenzauk.siesta.Alias;
 import com.cadenzauk.siesta.Condition;
 import com.cadenzauk.siesta.Scope;
-import com.cadenzauk.siesta.grammar.expression.condition.InListCondition;
 import com.cadenzauk.siesta.grammar.expression.condition.InSelectCondition;
 import com.cadenzauk.siesta.grammar.expression.condition.IsNullCondition;
 import com.cadenzauk.siesta.grammar.expression.condition.LikeCondition;
@@ -338,22 +337,22 @@ public class ExpressionBuilder<T, N> implements TypedExpression<T> {
     //--- IS [NOT] IN
     @SafeVarargs
     public final N isIn(T... values) {
-        return isOpIn("in", Arrays.stream(values).map(ValueExpression::of).toArray(generator(TypedExpression.class)));
+        return isOpIn(false, Arrays.stream(values).map(ValueExpression::of).toArray(generator(TypedExpression.class)));
     }
 
     @SafeVarargs
     public final N isIn(TypedExpression<T>... values) {
-        return isOpIn("in", values);
+        return isOpIn(false, values);
     }
 
     @SafeVarargs
     public final N isNotIn(T... values) {
-        return isOpIn("not in", Arrays.stream(values).map(ValueExpression::of).toArray(generator(TypedExpression.class)));
+        return isOpIn(true, Arrays.stream(values).map(ValueExpression::of).toArray(generator(TypedExpression.class)));
     }
 
     @SafeVarargs
     public final N isNotIn(TypedExpression<T>... values) {
-        return isOpIn("not in", values);
+        return isOpIn(true, values);
     }
 
     public N isIn(Select<T> select) {
@@ -364,11 +363,8 @@ public class ExpressionBuilder<T, N> implements TypedExpression<T> {
         return isOpIn("not in", select);
     }
 
-    private N isOpIn(String operator, TypedExpression<T>[] values) {
-        if (values.length == 0) {
-            throw new IllegalArgumentException("At least one value is required for an IN expression.");
-        }
-        return complete(new InListCondition<>(operator, values));
+    private N isOpIn(boolean negated, TypedExpression<T>[] values) {
+        return onComplete.apply(new InListExpression<>(lhs, negated, values));
     }
 
     private N isOpIn(String operator, Select<T> select) {
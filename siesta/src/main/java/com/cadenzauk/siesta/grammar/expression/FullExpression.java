@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.siesta.Condition;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.stream.Stream;
 
@@ -41,6 +42,13 @@ public class FullExpression<T> extends BooleanExpression {
         return sql(lhs, scope) + " " + rhs.sql(scope);
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        render(lhs, writer, scope);
+        writer.append(' ');
+        rhs.render(writer, scope);
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Stream.concat(lhs.args(scope), rhs.args(scope));
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cadenzauk.siesta.grammar.expression;
+
+import com.cadenzauk.core.sql.SqlArray;
+import com.cadenzauk.siesta.DataType;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InListStrategy;
+import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
+import com.cadenzauk.siesta.grammar.expression.condition.InListCondition;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class InListExpression<T> extends BooleanExpression {
+    private final TypedExpression<T> lhs;
+    private final boolean negated;
+    private final TypedExpression<T>[] values;
+
+    public InListExpression(TypedExpression<T> lhs, boolean negated, TypedExpression<T>[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("At least one value is required for an IN expression.");
+        }
+        this.lhs = lhs;
+        this.negated = negated;
+        this.values = values;
+    }
+
+    @Override
+    public String sql(Scope scope) {
+        SqlWriter writer = new SqlWriter();
+        render(writer, scope);
+        return writer.sql();
+    }
+
+    @Override
+    public Stream<Object> args(Scope scope) {
+        Optional<InListStrategy> strategy = largeListStrategy(scope);
+        if (!strategy.isPresent()) {
+            return inListArgs(scope, values);
+        }
+        switch (strategy.get()) {
+            case ARRAY:
+                return Stream.concat(lhs.args(scope), Stream.of(sqlArray(scope.database())));
+            case LITERALS:
+                return chunks(scope).flatMap(chunk -> literalInListArgs(scope, chunk));
+            default:
+                return chunks(scope).flatMap(chunk -> inListArgs(scope, chunk));
+        }
+    }
+
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        Optional<InListStrategy> strategy = largeListStrategy(scope);
+        if (!strategy.isPresent()) {
+            renderInList(writer, scope, values);
+            return;
+        }
+        switch (strategy.get()) {
+            case ARRAY:
+                renderArray(writer, scope);
+                return;
+            case LITERALS:
+                renderChunks(writer, scope, true);
+                return;
+            default:
+                renderChunks(writer, scope, false);
+        }
+    }
+
+    @Override
+    public Precedence precedence() {
+        return Precedence.COMPARISON;
+    }
+
+    private void renderInList(SqlWriter writer, Scope scope, TypedExpression<T>[] list) {
+        render(lhs, writer, scope);
+        writer.append(' ');
+        new InListCondition<>(operator(), list).render(writer, scope);
+    }
+
+    private void renderArray(SqlWriter writer, Scope scope) {
+        render(lhs, writer, scope);
+        writer.append(negated ? " <> all(?)" : " = any(?)")
+            .arg(sqlArray(scope.database()));
+    }
+
+    private SqlArray sqlArray(Database database) {
+        DataType<T> dataType = database.getDataTypeOf(value(values[0]));
+        Object[] elements = Arrays.stream(values)
+            .map(v -> dataType.toDatabase(database, value(v)))
+            .toArray();
+        return new SqlArray(dataType.sqlType(database), elements);
+    }
+
+    private void renderChunks(SqlWriter writer, Scope scope, boolean literals) {
+        int chunkSize = scope.database().largeInListThreshold();
+        writer.append('(');
+        for (int start = 0; start < values.length; start += chunkSize) {
+            if (start > 0) {
+                writer.append(negated ? " and " : " or ");
+            }
+            TypedExpression<T>[] chunk = chunk(start, chunkSize);
+            if (literals) {
+                renderLiteralInList(writer, scope, chunk);
+            } else {
+                renderInList(writer, scope, chunk);
+            }
+        }
+        writer.append(')');
+    }
+
+    private void renderLiteralInList(SqlWriter writer, Scope scope, TypedExpression<T>[] list) {
+        Database database = scope.database();
+        render(lhs, writer, scope);
+        writer.append(' ').append(operator()).append(" (");
+        if (scope.dialect().requiresInValues()) {
+            writer.append("values ");
+        }
+        writer.join(list, ", ", (v, w) -> {
+            if (v instanceof ValueExpression) {
+                T value = value(v);
+                w.append(database.getDataTypeOf(value).literal(database, value));
+            } else {
+                v.render(w, scope);
+            }
+        }).append(')');
+    }
+
+    private Stream<Object> inListArgs(Scope scope, TypedExpression<T>[] list) {
+        return Stream.concat(lhs.args(scope), Arrays.stream(list).flatMap(v -> v.args(scope)));
+    }
+
+    private Stream<Object> literalInListArgs(Scope scope, TypedExpression<T>[] list) {
+        return Stream.concat(lhs.args(scope), Arrays.stream(list)
+            .filter(v -> !(v instanceof ValueExpression))
+            .flatMap(v -> v.args(scope)));
+    }
+
+    private Stream<TypedExpression<T>[]> chunks(Scope scope) {
+        int chunkSize = scope.database().largeInListThreshold();
+        return IntStream.iterate(0, start -> start < values.length, start -> start + chunkSize)
+            .mapToObj(start -> chunk(start, chunkSize));
+    }
+
+    private TypedExpression<T>[] chunk(int start, int chunkSize) {
+        return Arrays.copyOfRange(values, start, Math.min(values.length, start + chunkSize));
+    }
+
+    private Optional<InListStrategy> largeListStrategy(Scope scope) {
+        if (values.length <= scope.database().largeInListThreshold()) {
+            return Optional.empty();
+        }
+        InListStrategy strategy = scope.dialect().largeInListStrategy();
+        return Optional.of(strategy == InListStrategy.ARRAY && !allValues() ? InListStrategy.CHUNKED : strategy);
+    }
+
+    private String operator() {
+        return negated ? "not in" : "in";
+    }
+
+    private boolean allValues() {
+        return Arrays.stream(values).allMatch(ValueExpression.class::isInstance);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(TypedExpression<T> expression) {
+        return ((ValueExpression<T>) expression).value();
+    }
+}
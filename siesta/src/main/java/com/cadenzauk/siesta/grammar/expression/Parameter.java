@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.expression;
+
+import com.cadenzauk.core.sql.RowMapperFactory;
+import com.cadenzauk.siesta.DataType;
+import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.LabelGenerator;
+import com.google.common.reflect.TypeToken;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class Parameter<T> implements TypedExpression<T> {
+    private final LabelGenerator labelGenerator = new LabelGenerator("param_");
+    private final String name;
+    private final TypeToken<T> type;
+
+    private Parameter(String name, TypeToken<T> type) {
+        Objects.requireNonNull(type);
+        if (StringUtils.isBlank(name)) {
+            throw new IllegalArgumentException("A parameter must have a name.");
+        }
+        this.name = name;
+        this.type = type;
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String sql(Scope scope) {
+        DataType<T> dataType = scope.database().getDataTypeOf(type);
+        if (dataType.parameterSqlDependsOnValue(scope.database())) {
+            throw new IllegalArgumentException(String.format("Parameter %s of type %s cannot be used with %s as the parameter SQL depends on the value.",
+                name,
+                type,
+                scope.dialect().getClass().getSimpleName()));
+        }
+        return dataType.parameterSql(scope.database(), Optional.empty());
+    }
+
+    @Override
+    public Stream<Object> args(Scope scope) {
+        return Stream.of(this);
+    }
+
+    @Override
+    public Precedence precedence() {
+        return Precedence.COLUMN;
+    }
+
+    @Override
+    public String label(Scope scope) {
+        return labelGenerator.label(scope);
+    }
+
+    @Override
+    public RowMapperFactory<T> rowMapperFactory(Scope scope) {
+        DataType<T> dataType = scope.database().getDataTypeOf(type);
+        return (prefix, label) -> rs -> dataType.get(rs, prefix + label.orElseGet(() -> label(scope)), scope.database()).orElse(null);
+    }
+
+    @Override
+    public TypeToken<T> type() {
+        return type;
+    }
+
+    public static <T> Parameter<T> of(String name, Class<T> type) {
+        return new Parameter<>(name, TypeToken.of(type));
+    }
+
+    public static <T> Parameter<T> of(String name, TypeToken<T> type) {
+        return new Parameter<>(name, type);
+    }
+}
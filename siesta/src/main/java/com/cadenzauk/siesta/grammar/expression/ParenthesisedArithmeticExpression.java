@@ -25,6 +25,7 @@ package com.cadenzauk.siesta.grammar.expression;
 import com.cadenzauk.core.sql.RowMapper;
 import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.reflect.TypeToken;
 
 import java.util.Optional;
@@ -42,6 +43,13 @@ public class ParenthesisedArithmeticExpression<T> implements TypedExpression<T>
         return "(" + inner.sql(scope) + ")";
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append('(');
+        inner.render(writer, scope);
+        writer.append(')');
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return inner.args(scope);
@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta.grammar.expression;
 
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.stream.Stream;
 
@@ -38,6 +39,13 @@ public class ParenthesisedBooleanExpression extends BooleanExpression {
         return "(" + inner.sql(scope) + ")";
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append('(');
+        inner.render(writer, scope);
+        writer.append(')');
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return inner.args(scope);
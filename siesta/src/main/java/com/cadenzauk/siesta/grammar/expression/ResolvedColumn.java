@@ -33,6 +33,7 @@ import com.cadenzauk.siesta.ColumnSpecifier;
 import com.cadenzauk.siesta.InvalidQueryException;
 import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.reflect.TypeToken;
 
 import java.util.Objects;
@@ -68,6 +69,11 @@ public class ResolvedColumn<T, R> implements ColumnExpression<T> {
         return alias.columnSql(scope, columnSpec);
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append(sql(scope));
+    }
+
     @Override
     public Stream<Object> args(Scope args) {
         return Stream.empty();
@@ -248,6 +248,10 @@ public interface TypedExpression<T> extends Expression {
         return ExpressionBuilder.of(ValueExpression.of(value), Function.identity());
     }
 
+    static <T> ExpressionBuilder<T,BooleanExpression> parameter(String name, Class<T> type) {
+        return ExpressionBuilder.of(Parameter.of(name, type), Function.identity());
+    }
+
     static <T> ExpressionBuilder<T,BooleanExpression> literal(T value) {
         return ExpressionBuilder.of(LiteralExpression.of(value), Function.identity());
     }
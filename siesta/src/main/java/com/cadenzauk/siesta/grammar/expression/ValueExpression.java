@@ -26,6 +26,7 @@ import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.siesta.DataType;
 import com.cadenzauk.siesta.Scope;
 import com.cadenzauk.siesta.grammar.LabelGenerator;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.reflect.TypeToken;
 
 import java.util.Objects;
@@ -46,11 +47,22 @@ public class ValueExpression<T> implements TypedExpression<T> {
         return value.toString();
     }
 
+    T value() {
+        return value;
+    }
+
     @Override
     public String sql(Scope scope) {
         return scope.database().getDataTypeOf(value).parameterSql(scope.database(), Optional.of(value));
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        DataType<T> dataType = scope.database().getDataTypeOf(value);
+        writer.append(dataType.parameterSql(scope.database(), Optional.of(value)))
+            .arg(dataType.toDatabase(scope.database(), value));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Stream.of(scope.database().getDataTypeOf(value).toDatabase(scope.database(), value));
@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression.condition;
 
 import com.cadenzauk.siesta.Condition;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 
 import java.util.Arrays;
@@ -48,6 +49,15 @@ public class InListCondition<T> implements Condition<T> {
             .collect(joining(", ")) + ")";
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append(operator).append(" (");
+        if (scope.dialect().requiresInValues()) {
+            writer.append("values ");
+        }
+        writer.join(values, ", ", (v, w) -> v.render(w, scope)).append(')');
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Arrays.stream(values).flatMap(x -> x.args(scope));
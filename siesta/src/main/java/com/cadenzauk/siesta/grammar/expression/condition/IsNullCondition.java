@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression.condition;
 
 import com.cadenzauk.siesta.Condition;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 
 import java.util.stream.Stream;
 
@@ -39,6 +40,11 @@ public class IsNullCondition<T> implements Condition<T> {
         return "is " + operator + "null";
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append("is ").append(operator).append("null");
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Stream.empty();
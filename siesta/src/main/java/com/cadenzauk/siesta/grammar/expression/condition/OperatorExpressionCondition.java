@@ -24,6 +24,7 @@ package com.cadenzauk.siesta.grammar.expression.condition;
 
 import com.cadenzauk.siesta.Condition;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 
 import java.util.Optional;
@@ -45,6 +46,13 @@ public class OperatorExpressionCondition<T> implements Condition<T> {
         return operator + " " + expression.sql(scope) + selectivity.map(scope.database().dialect()::selectivity).orElse("");
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        writer.append(operator).append(' ');
+        expression.render(writer, scope);
+        selectivity.ifPresent(s -> writer.append(scope.database().dialect().selectivity(s)));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return expression.args(scope);
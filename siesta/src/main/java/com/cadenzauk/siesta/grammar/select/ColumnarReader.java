@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.core.sql.RuntimeSqlException;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.ProjectionColumn;
+import com.google.common.reflect.TypeToken;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.core.reflect.util.TypeUtil.boxedType;
+
+class ColumnarReader implements RowMapper<Boolean> {
+    private final ColumnarResult.Column[] columns;
+    private int rowCount;
+
+    private ColumnarReader(ColumnarResult.Column[] columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public Boolean mapRow(ResultSet rs) {
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].read(rs, i + 1);
+            }
+            rowCount++;
+            return Boolean.TRUE;
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+    ColumnarResult result() {
+        Arrays.stream(columns).forEach(ColumnarResult.Column::trim);
+        return new ColumnarResult(rowCount, Arrays.asList(columns));
+    }
+
+    static ColumnarReader of(Database database, Stream<ProjectionColumn<?>> projectionColumns, int capacity) {
+        return new ColumnarReader(projectionColumns
+            .flatMap(ColumnarReader::leafColumns)
+            .map(c -> column(database, c, capacity))
+            .toArray(ColumnarResult.Column[]::new));
+    }
+
+    private static Stream<ProjectionColumn<?>> leafColumns(ProjectionColumn<?> column) {
+        return column.components().isEmpty()
+            ? Stream.of(column)
+            : column.components().stream().flatMap(ColumnarReader::leafColumns);
+    }
+
+    private static ColumnarResult.Column column(Database database, ProjectionColumn<?> column, int capacity) {
+        Class<?> type = boxedType(column.type().getRawType());
+        if (type == Long.class) {
+            return new ColumnarResult.LongColumn(column.label(), capacity);
+        }
+        if (type == Integer.class || type == Short.class || type == Byte.class) {
+            return new ColumnarResult.IntColumn(column.label(), capacity);
+        }
+        if (type == Double.class || type == Float.class) {
+            return new ColumnarResult.DoubleColumn(column.label(), capacity);
+        }
+        if (type == String.class) {
+            return new ColumnarResult.StringColumn(column.label(), capacity);
+        }
+        return objectColumn(database, column.label(), column.type(), capacity);
+    }
+
+    private static <T> ColumnarResult.Column objectColumn(Database database, String label, TypeToken<T> type, int capacity) {
+        return new ColumnarResult.ObjectColumn<>(label, capacity, type, database);
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.siesta.DataType;
+import com.cadenzauk.siesta.Database;
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+public class ColumnarResult {
+    private final int rowCount;
+    private final List<Column> columns;
+    private final Map<String,Column> columnsByLabel = new LinkedHashMap<>();
+
+    ColumnarResult(int rowCount, List<Column> columns) {
+        this.rowCount = rowCount;
+        this.columns = ImmutableList.copyOf(columns);
+        columns.forEach(c -> columnsByLabel.putIfAbsent(c.label(), c));
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int columnCount() {
+        return columns.size();
+    }
+
+    public List<String> labels() {
+        return columns.stream().map(Column::label).collect(toList());
+    }
+
+    public Column column(int index) {
+        return columns.get(index);
+    }
+
+    public Column column(String label) {
+        Column column = columnsByLabel.get(label);
+        if (column == null) {
+            throw new IllegalArgumentException("There is no column labelled " + label + " in the result.");
+        }
+        return column;
+    }
+
+    public LongColumn longColumn(String label) {
+        return column(label, LongColumn.class, "long");
+    }
+
+    public IntColumn intColumn(String label) {
+        return column(label, IntColumn.class, "int");
+    }
+
+    public DoubleColumn doubleColumn(String label) {
+        return column(label, DoubleColumn.class, "double");
+    }
+
+    public StringColumn stringColumn(String label) {
+        return column(label, StringColumn.class, "string");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ObjectColumn<T> objectColumn(String label, Class<T> type) {
+        ObjectColumn<?> column = column(label, ObjectColumn.class, "object");
+        if (!type.isAssignableFrom(column.type().getRawType())) {
+            throw new IllegalArgumentException("Column " + label + " holds " + column.type() + " and not " + type.getName() + ".");
+        }
+        return (ObjectColumn<T>) column;
+    }
+
+    private <C extends Column> C column(String label, Class<C> columnClass, String description) {
+        Column column = column(label);
+        if (!columnClass.isInstance(column)) {
+            throw new IllegalArgumentException("Column " + label + " is not a " + description + " column.");
+        }
+        return columnClass.cast(column);
+    }
+
+    public abstract static class Column {
+        private final String label;
+        private final BitSet nulls = new BitSet();
+        private int size;
+
+        private Column(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isNull(int row) {
+            return nulls.get(Objects.checkIndex(row, size));
+        }
+
+        public int nullCount() {
+            return nulls.cardinality();
+        }
+
+        public BitSet nulls() {
+            return (BitSet) nulls.clone();
+        }
+
+        void read(ResultSet rs, int ordinal) throws SQLException {
+            if (size == capacity()) {
+                grow(newCapacity(size));
+            }
+            if (!readValue(rs, ordinal, size)) {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        abstract boolean readValue(ResultSet rs, int ordinal, int row) throws SQLException;
+
+        abstract int capacity();
+
+        abstract void grow(int capacity);
+
+        abstract void trim();
+
+        private static int newCapacity(int size) {
+            return Math.max(16, size + (size >> 1));
+        }
+    }
+
+    public static final class LongColumn extends Column {
+        private long[] values;
+
+        LongColumn(String label, int capacity) {
+            super(label);
+            values = new long[capacity];
+        }
+
+        public long get(int row) {
+            return values[Objects.checkIndex(row, size())];
+        }
+
+        public long[] values() {
+            return values;
+        }
+
+        @Override
+        boolean readValue(ResultSet rs, int ordinal, int row) throws SQLException {
+            values[row] = rs.getLong(ordinal);
+            return !rs.wasNull();
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim() {
+            grow(size());
+        }
+    }
+
+    public static final class IntColumn extends Column {
+        private int[] values;
+
+        IntColumn(String label, int capacity) {
+            super(label);
+            values = new int[capacity];
+        }
+
+        public int get(int row) {
+            return values[Objects.checkIndex(row, size())];
+        }
+
+        public int[] values() {
+            return values;
+        }
+
+        @Override
+        boolean readValue(ResultSet rs, int ordinal, int row) throws SQLException {
+            values[row] = rs.getInt(ordinal);
+            return !rs.wasNull();
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim() {
+            grow(size());
+        }
+    }
+
+    public static final class DoubleColumn extends Column {
+        private double[] values;
+
+        DoubleColumn(String label, int capacity) {
+            super(label);
+            values = new double[capacity];
+        }
+
+        public double get(int row) {
+            return values[Objects.checkIndex(row, size())];
+        }
+
+        public double[] values() {
+            return values;
+        }
+
+        @Override
+        boolean readValue(ResultSet rs, int ordinal, int row) throws SQLException {
+            values[row] = rs.getDouble(ordinal);
+            return !rs.wasNull();
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim() {
+            grow(size());
+        }
+    }
+
+    public static final class StringColumn extends Column {
+        private final List<String> dictionary = new ArrayList<>();
+        private Map<String,Integer> codesByValue = new HashMap<>();
+        private int[] codes;
+
+        StringColumn(String label, int capacity) {
+            super(label);
+            codes = new int[capacity];
+        }
+
+        public String get(int row) {
+            int code = codes[Objects.checkIndex(row, size())];
+            return code < 0 ? null : dictionary.get(code);
+        }
+
+        public int code(int row) {
+            return codes[Objects.checkIndex(row, size())];
+        }
+
+        public int[] codes() {
+            return codes;
+        }
+
+        public String[] dictionary() {
+            return dictionary.toArray(new String[0]);
+        }
+
+        @Override
+        boolean readValue(ResultSet rs, int ordinal, int row) throws SQLException {
+            String value = rs.getString(ordinal);
+            if (value == null) {
+                codes[row] = -1;
+                return false;
+            }
+            codes[row] = codesByValue.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+            return true;
+        }
+
+        @Override
+        int capacity() {
+            return codes.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        @Override
+        void trim() {
+            grow(size());
+            codesByValue = new HashMap<>();
+        }
+    }
+
+    public static final class ObjectColumn<T> extends Column {
+        private final TypeToken<T> type;
+        private final DataType<T> dataType;
+        private final Database database;
+        private Object[] values;
+
+        ObjectColumn(String label, int capacity, TypeToken<T> type, Database database) {
+            super(label);
+            this.type = type;
+            this.dataType = database.getDataTypeOf(type);
+            this.database = database;
+            values = new Object[capacity];
+        }
+
+        public TypeToken<T> type() {
+            return type;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int row) {
+            return (T) values[Objects.checkIndex(row, size())];
+        }
+
+        @Override
+        boolean readValue(ResultSet rs, int ordinal, int row) {
+            Optional<T> value = dataType.get(rs, ordinal, database);
+            values[row] = value.orElse(null);
+            return value.isPresent();
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim() {
+            grow(size());
+        }
+    }
+}
@@ -61,6 +61,10 @@ public class CommonTableExpression<RT> {
         return select.args(actualScope);
     }
 
+    public Stream<String> referencedTables() {
+        return select.referencedTables();
+    }
+
     public Alias<RT> as(String alias) {
         return new CteAlias<>(this, Optional.of(alias));
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.tuple.Tuple;
+import com.cadenzauk.core.tuple.Tuple2;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import static com.cadenzauk.core.reflect.util.TypeUtil.boxedType;
+
+class KeyRanges<T> {
+    private static final Map<Class<?>,KeyRanges<?>> KEY_RANGES = ImmutableMap.<Class<?>,KeyRanges<?>>builder()
+        .put(Long.class, new KeyRanges<Long>(Long::longValue, Long::valueOf))
+        .put(Integer.class, new KeyRanges<Integer>(Integer::longValue, v -> (int) v))
+        .put(Short.class, new KeyRanges<Short>(Short::longValue, v -> (short) v))
+        .put(LocalDate.class, new KeyRanges<>(LocalDate::toEpochDay, LocalDate::ofEpochDay))
+        .build();
+
+    private final ToLongFunction<T> toLong;
+    private final LongFunction<T> fromLong;
+
+    private KeyRanges(ToLongFunction<T> toLong, LongFunction<T> fromLong) {
+        this.toLong = toLong;
+        this.fromLong = fromLong;
+    }
+
+    List<Tuple2<T,T>> split(T min, T max, int partitions) {
+        BigInteger low = BigInteger.valueOf(toLong.applyAsLong(min));
+        BigInteger width = BigInteger.valueOf(toLong.applyAsLong(max)).subtract(low).add(BigInteger.ONE);
+        ImmutableList.Builder<Tuple2<T,T>> ranges = ImmutableList.builder();
+        BigInteger start = low;
+        for (int i = 1; i <= partitions; i++) {
+            BigInteger end = low.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions)));
+            if (end.compareTo(start) > 0) {
+                ranges.add(Tuple.of(fromLong.apply(start.longValueExact()), fromLong.apply(end.subtract(BigInteger.ONE).longValueExact())));
+            }
+            start = end;
+        }
+        return ranges.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Optional<KeyRanges<T>> forClass(Class<T> keyClass) {
+        return Optional.ofNullable((KeyRanges<T>) KEY_RANGES.get(boxedType(keyClass)));
+    }
+}
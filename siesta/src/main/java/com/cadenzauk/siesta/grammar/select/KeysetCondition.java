@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.expression.BooleanExpression;
+import com.cadenzauk.siesta.grammar.expression.Precedence;
+import com.cadenzauk.siesta.grammar.expression.ValueExpression;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+
+public class KeysetCondition extends BooleanExpression {
+    private final List<OrderByExpression<?>> keys;
+    private final List<ValueExpression<?>> values;
+
+    public KeysetCondition(List<OrderByExpression<?>> keys, List<?> values) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Keyset pagination requires an order by clause.");
+        }
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("Expected " + keys.size() + " key values to seek after but got " + values.size() + ".");
+        }
+        if (values.stream().anyMatch(v -> v == null)) {
+            throw new IllegalArgumentException("Cannot seek after a null key value.");
+        }
+        this.keys = ImmutableList.copyOf(keys);
+        this.values = values.stream().map(ValueExpression::of).collect(ImmutableList.toImmutableList());
+    }
+
+    @Override
+    public String sql(Scope scope) {
+        if (isRowValueComparison(scope)) {
+            return "(" + keys.stream().map(k -> k.expression().sql(scope)).collect(joining(", ")) +
+                ") " + operator(0) + " (" +
+                values.stream().map(v -> v.sql(scope)).collect(joining(", ")) + ")";
+        }
+        return IntStream.range(0, keys.size())
+            .mapToObj(i -> i == 0 ? termSql(scope, i) : "(" + termSql(scope, i) + ")")
+            .collect(joining(" or "));
+    }
+
+    @Override
+    public Stream<Object> args(Scope scope) {
+        if (isRowValueComparison(scope)) {
+            return Stream.concat(
+                keys.stream().flatMap(k -> k.expression().args(scope)),
+                values.stream().flatMap(v -> v.args(scope)));
+        }
+        return IntStream.range(0, keys.size())
+            .boxed()
+            .flatMap(i -> IntStream.rangeClosed(0, i).boxed())
+            .flatMap(j -> Stream.concat(keys.get(j).expression().args(scope), values.get(j).args(scope)));
+    }
+
+    @Override
+    public Precedence precedence() {
+        return keys.size() == 1
+            ? Precedence.COMPARISON
+            : Precedence.OR;
+    }
+
+    private boolean isRowValueComparison(Scope scope) {
+        return keys.size() > 1 &&
+            scope.dialect().supportsRowValueComparison() &&
+            keys.stream().map(k -> k.order().isDescending()).distinct().count() == 1;
+    }
+
+    private String termSql(Scope scope, int index) {
+        return Stream.concat(
+            IntStream.range(0, index).mapToObj(j -> keys.get(j).expression().sql(scope) + " = " + values.get(j).sql(scope)),
+            Stream.of(keys.get(index).expression().sql(scope) + " " + operator(index) + " " + values.get(index).sql(scope))
+        ).collect(joining(" and "));
+    }
+
+    private String operator(int index) {
+        return keys.get(index).order().isDescending() ? "<" : ">";
+    }
+}
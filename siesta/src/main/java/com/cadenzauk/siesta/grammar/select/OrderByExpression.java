@@ -37,6 +37,14 @@ public class OrderByExpression<T> implements OrderingClause {
         this.order = order;
     }
 
+    public TypedExpression<T> expression() {
+        return expression;
+    }
+
+    public Order order() {
+        return order;
+    }
+
     public String sql(Scope scope) {
         return expression.sql(scope) + " " + order.sql(scope);
     }
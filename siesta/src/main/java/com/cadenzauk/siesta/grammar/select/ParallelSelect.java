@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.concurrent.ExecutorUtil;
+import com.cadenzauk.siesta.SqlExecutor;
+import com.cadenzauk.siesta.grammar.expression.TypedExpression;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+public class ParallelSelect<RT, T> {
+    private final SelectStatement<RT> statement;
+    private final int partitions;
+    private final TypedExpression<T> key;
+    private boolean ordered = true;
+    private Executor executor = ExecutorUtil.blockingExecutor();
+
+    ParallelSelect(SelectStatement<RT> statement, int partitions, TypedExpression<T> key) {
+        this.statement = statement;
+        this.partitions = partitions;
+        this.key = key;
+    }
+
+    public ParallelSelect<RT,T> ordered() {
+        ordered = true;
+        return this;
+    }
+
+    public ParallelSelect<RT,T> unordered() {
+        ordered = false;
+        return this;
+    }
+
+    public ParallelSelect<RT,T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Stream<RT> stream() {
+        return stream(statement.scope().database().getDefaultSqlExecutor());
+    }
+
+    public Stream<RT> stream(SqlExecutor sqlExecutor) {
+        return statement.parallelStream(sqlExecutor, partitions, key, ordered, executor);
+    }
+
+    public List<RT> list() {
+        return list(statement.scope().database().getDefaultSqlExecutor());
+    }
+
+    public List<RT> list(SqlExecutor sqlExecutor) {
+        try (Stream<RT> stream = stream(sqlExecutor)) {
+            return stream.collect(toList());
+        }
+    }
+}
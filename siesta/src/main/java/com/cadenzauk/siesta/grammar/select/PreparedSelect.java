@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.core.util.IterableUtil;
+import com.cadenzauk.core.util.OptionalUtil;
+import com.cadenzauk.siesta.DataType;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.SqlExecutor;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.grammar.expression.Parameter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.core.reflect.util.TypeUtil.boxedType;
+
+public class PreparedSelect<RT> {
+    private final Database database;
+    private final String sql;
+    private final Object[] args;
+    private final Map<String,Slot<?>> slots;
+    private final RowMapper<RT> rowMapper;
+
+    PreparedSelect(Database database, String sql, Object[] args, RowMapper<RT> rowMapper) {
+        this.database = database;
+        this.sql = sql;
+        this.args = args;
+        this.slots = slots(args);
+        this.rowMapper = rowMapper;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Set<String> parameterNames() {
+        return slots.keySet();
+    }
+
+    public Bound<RT> bind(String name, Object value) {
+        return new Bound<>(this).bind(name, value);
+    }
+
+    public Bound<RT> bind(Map<String,?> values) {
+        return new Bound<>(this).bind(values);
+    }
+
+    public List<RT> list() {
+        return new Bound<>(this).list();
+    }
+
+    public List<RT> list(SqlExecutor sqlExecutor) {
+        return new Bound<>(this).list(sqlExecutor);
+    }
+
+    public List<RT> list(Transaction transaction) {
+        return new Bound<>(this).list(transaction);
+    }
+
+    private static Map<String,Slot<?>> slots(Object[] args) {
+        Map<String,List<Integer>> indexes = new LinkedHashMap<>();
+        Map<String,Parameter<?>> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Parameter<?>) {
+                Parameter<?> parameter = (Parameter<?>) args[i];
+                Parameter<?> previous = parameters.putIfAbsent(parameter.name(), parameter);
+                if (previous != null && !previous.type().equals(parameter.type())) {
+                    throw new IllegalArgumentException(String.format("Parameter %s is used with types %s and %s.", parameter.name(), previous.type(), parameter.type()));
+                }
+                indexes.computeIfAbsent(parameter.name(), k -> new ArrayList<>()).add(i);
+                args[i] = null;
+            }
+        }
+        return parameters.values().stream()
+            .collect(ImmutableMap.toImmutableMap(Parameter::name, p -> new Slot<>(p, Ints.toArray(indexes.get(p.name())))));
+    }
+
+    private static final class Slot<T> {
+        private final Parameter<T> parameter;
+        private final int[] indexes;
+
+        private Slot(Parameter<T> parameter, int[] indexes) {
+            this.parameter = parameter;
+            this.indexes = indexes;
+        }
+
+        private void bind(Database database, Object[] args, Object value) {
+            Class<? super T> rawType = parameter.type().getRawType();
+            if (value != null && !boxedType(rawType).isInstance(value)) {
+                throw new IllegalArgumentException(String.format("Parameter %s expects a value of type %s but was given %s.", parameter.name(), parameter.type(), value.getClass()));
+            }
+            DataType<T> dataType = database.getDataTypeOf(parameter.type());
+            @SuppressWarnings("unchecked")
+            Object databaseValue = dataType.toDatabase(database, Optional.ofNullable((T) value));
+            for (int index : indexes) {
+                args[index] = databaseValue;
+            }
+        }
+    }
+
+    public static final class Bound<RT> {
+        private final PreparedSelect<RT> prepared;
+        private final Object[] args;
+        private final Set<String> unbound;
+
+        private Bound(PreparedSelect<RT> prepared) {
+            this.prepared = prepared;
+            this.args = Arrays.copyOf(prepared.args, prepared.args.length);
+            this.unbound = new HashSet<>(prepared.slots.keySet());
+        }
+
+        public Bound<RT> bind(String name, Object value) {
+            Slot<?> slot = prepared.slots.get(name);
+            if (slot == null) {
+                throw new IllegalArgumentException(String.format("No parameter named %s in %s.", name, prepared.sql));
+            }
+            slot.bind(prepared.database, args, value);
+            unbound.remove(name);
+            return this;
+        }
+
+        public Bound<RT> bind(Map<String,?> values) {
+            values.forEach(this::bind);
+            return this;
+        }
+
+        public List<RT> list() {
+            return list(prepared.database.getDefaultSqlExecutor());
+        }
+
+        public List<RT> list(SqlExecutor sqlExecutor) {
+            Object[] boundArgs = boundArgs();
+            return prepared.database.execute(prepared.sql, () -> sqlExecutor.query(prepared.sql, boundArgs, prepared.rowMapper));
+        }
+
+        public List<RT> list(Transaction transaction) {
+            Object[] boundArgs = boundArgs();
+            return prepared.database.execute(prepared.sql, () -> transaction.query(prepared.sql, boundArgs, prepared.rowMapper));
+        }
+
+        public Optional<RT> optional() {
+            return OptionalUtil.ofOnly(list());
+        }
+
+        public Optional<RT> optional(SqlExecutor sqlExecutor) {
+            return OptionalUtil.ofOnly(list(sqlExecutor));
+        }
+
+        public Optional<RT> optional(Transaction transaction) {
+            return OptionalUtil.ofOnly(list(transaction));
+        }
+
+        public RT single() {
+            return IterableUtil.single(list());
+        }
+
+        public RT single(SqlExecutor sqlExecutor) {
+            return IterableUtil.single(list(sqlExecutor));
+        }
+
+        public RT single(Transaction transaction) {
+            return IterableUtil.single(list(transaction));
+        }
+
+        public Stream<RT> stream() {
+            return stream(prepared.database.getDefaultSqlExecutor());
+        }
+
+        public Stream<RT> stream(SqlExecutor sqlExecutor) {
+            Object[] boundArgs = boundArgs();
+            return prepared.database.execute(prepared.sql, () -> sqlExecutor.stream(prepared.sql, boundArgs, prepared.rowMapper));
+        }
+
+        public Stream<RT> stream(Transaction transaction) {
+            Object[] boundArgs = boundArgs();
+            return prepared.database.execute(prepared.sql, () -> transaction.stream(prepared.sql, boundArgs, prepared.rowMapper));
+        }
+
+        private Object[] boundArgs() {
+            if (!unbound.isEmpty()) {
+                throw new IllegalStateException(String.format("No value bound for parameter%s %s.",
+                    unbound.size() == 1 ? "" : "s",
+                    unbound.stream().sorted().collect(Collectors.joining(", "))));
+            }
+            return args;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.core.sql.RuntimeSqlException;
+import com.cadenzauk.siesta.NullPolicy;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+abstract class PrimitiveRows implements RowMapper<Boolean> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Consumer<Boolean> IGNORE = row -> {};
+    private final NullPolicy nullPolicy;
+    private int next;
+    private int count;
+
+    private PrimitiveRows(NullPolicy nullPolicy) {
+        this.nullPolicy = nullPolicy;
+    }
+
+    protected abstract int capacity();
+
+    protected abstract void grow(int capacity);
+
+    protected abstract void read(ResultSet rs, int index) throws SQLException;
+
+    @Override
+    public Boolean mapRow(ResultSet rs) {
+        try {
+            if (count == capacity()) {
+                grow(count * 2);
+            }
+            read(rs, count);
+            if (!rs.wasNull() || isNullPresent()) {
+                count++;
+            }
+            return Boolean.TRUE;
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+    private boolean isNullPresent() {
+        switch (nullPolicy) {
+            case SKIP:
+                return false;
+            case ZERO:
+                return true;
+            default:
+                throw new IllegalStateException("The select returned a null value; use onNull() to skip or zero nulls.");
+        }
+    }
+
+    boolean advance(Spliterator<Boolean> rows) {
+        if (next == count) {
+            next = 0;
+            count = 0;
+        }
+        while (next == count) {
+            if (!rows.tryAdvance(IGNORE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected int take() {
+        return next++;
+    }
+
+    static LongStream longStream(NullPolicy nullPolicy, Function<RowMapper<Boolean>,Stream<Boolean>> query) {
+        LongRows reader = new LongRows(nullPolicy);
+        Stream<Boolean> rows = query.apply(reader);
+        Spliterator<Boolean> source = rows.spliterator();
+        return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if (reader.advance(source)) {
+                    action.accept(reader.nextValue());
+                    return true;
+                }
+                return false;
+            }
+        }, false).onClose(rows::close);
+    }
+
+    static IntStream intStream(NullPolicy nullPolicy, Function<RowMapper<Boolean>,Stream<Boolean>> query) {
+        IntRows reader = new IntRows(nullPolicy);
+        Stream<Boolean> rows = query.apply(reader);
+        Spliterator<Boolean> source = rows.spliterator();
+        return StreamSupport.intStream(new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (reader.advance(source)) {
+                    action.accept(reader.nextValue());
+                    return true;
+                }
+                return false;
+            }
+        }, false).onClose(rows::close);
+    }
+
+    static DoubleStream doubleStream(NullPolicy nullPolicy, Function<RowMapper<Boolean>,Stream<Boolean>> query) {
+        DoubleRows reader = new DoubleRows(nullPolicy);
+        Stream<Boolean> rows = query.apply(reader);
+        Spliterator<Boolean> source = rows.spliterator();
+        return StreamSupport.doubleStream(new Spliterators.AbstractDoubleSpliterator(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if (reader.advance(source)) {
+                    action.accept(reader.nextValue());
+                    return true;
+                }
+                return false;
+            }
+        }, false).onClose(rows::close);
+    }
+
+    private static final class LongRows extends PrimitiveRows {
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        private LongRows(NullPolicy nullPolicy) {
+            super(nullPolicy);
+        }
+
+        @Override
+        protected int capacity() {
+            return values.length;
+        }
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected void read(ResultSet rs, int index) throws SQLException {
+            values[index] = rs.getLong(1);
+        }
+
+        private long nextValue() {
+            return values[take()];
+        }
+    }
+
+    private static final class IntRows extends PrimitiveRows {
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        private IntRows(NullPolicy nullPolicy) {
+            super(nullPolicy);
+        }
+
+        @Override
+        protected int capacity() {
+            return values.length;
+        }
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected void read(ResultSet rs, int index) throws SQLException {
+            values[index] = rs.getInt(1);
+        }
+
+        private int nextValue() {
+            return values[take()];
+        }
+    }
+
+    private static final class DoubleRows extends PrimitiveRows {
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        private DoubleRows(NullPolicy nullPolicy) {
+            super(nullPolicy);
+        }
+
+        @Override
+        protected int capacity() {
+            return values.length;
+        }
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected void read(ResultSet rs, int index) throws SQLException {
+            values[index] = rs.getDouble(1);
+        }
+
+        private double nextValue() {
+            return values[take()];
+        }
+    }
+}
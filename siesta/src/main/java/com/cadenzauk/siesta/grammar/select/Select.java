@@ -22,7 +22,10 @@
 
 package com.cadenzauk.siesta.grammar.select;
 
+import com.cadenzauk.core.concurrent.ExecutorUtil;
 import com.cadenzauk.core.lang.CompositeAutoCloseable;
+import com.cadenzauk.core.function.Function1;
+import com.cadenzauk.core.function.FunctionOptional1;
 import com.cadenzauk.core.sql.RowMapperFactory;
 import com.cadenzauk.siesta.Alias;
 import com.cadenzauk.siesta.ColumnSpecifier;
@@ -31,6 +34,7 @@ import com.cadenzauk.siesta.Database;
 import com.cadenzauk.siesta.From;
 import com.cadenzauk.siesta.IsolationLevel;
 import com.cadenzauk.siesta.LockLevel;
+import com.cadenzauk.siesta.NullPolicy;
 import com.cadenzauk.siesta.Projection;
 import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
@@ -39,12 +43,21 @@ import com.cadenzauk.siesta.Transaction;
 import com.cadenzauk.siesta.catalog.Table;
 import com.cadenzauk.siesta.grammar.expression.Precedence;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
+import com.cadenzauk.siesta.grammar.expression.UnresolvedColumn;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public abstract class Select<RT> implements TypedExpression<RT> {
@@ -126,6 +139,114 @@ public abstract class Select<RT> implements TypedExpression<RT> {
         return statement.stream(transaction, compositeAutoCloseable);
     }
 
+    public Flow.Publisher<RT> publisher() {
+        return publisher(defaultSqlExecutor());
+    }
+
+    public Flow.Publisher<RT> publisher(Executor executor) {
+        return statement.publisher(defaultSqlExecutor(), executor);
+    }
+
+    public Flow.Publisher<RT> publisher(SqlExecutor sqlExecutor) {
+        return statement.publisher(sqlExecutor, ExecutorUtil.blockingExecutor());
+    }
+
+    public Flow.Publisher<RT> publisher(SqlExecutor sqlExecutor, Executor executor) {
+        return statement.publisher(sqlExecutor, executor);
+    }
+
+    public Flow.Publisher<RT> publisher(Transaction transaction) {
+        return statement.publisher(transaction, ExecutorUtil.blockingExecutor());
+    }
+
+    public Flow.Publisher<RT> publisher(Transaction transaction, Executor executor) {
+        return statement.publisher(transaction, executor);
+    }
+
+    public LongStream longStream() {
+        return statement.longStream(defaultSqlExecutor());
+    }
+
+    public LongStream longStream(SqlExecutor sqlExecutor) {
+        return statement.longStream(sqlExecutor);
+    }
+
+    public LongStream longStream(Transaction transaction) {
+        return statement.longStream(transaction);
+    }
+
+    public IntStream intStream() {
+        return statement.intStream(defaultSqlExecutor());
+    }
+
+    public IntStream intStream(SqlExecutor sqlExecutor) {
+        return statement.intStream(sqlExecutor);
+    }
+
+    public IntStream intStream(Transaction transaction) {
+        return statement.intStream(transaction);
+    }
+
+    public DoubleStream doubleStream() {
+        return statement.doubleStream(defaultSqlExecutor());
+    }
+
+    public DoubleStream doubleStream(SqlExecutor sqlExecutor) {
+        return statement.doubleStream(sqlExecutor);
+    }
+
+    public DoubleStream doubleStream(Transaction transaction) {
+        return statement.doubleStream(transaction);
+    }
+
+    public long[] toLongArray() {
+        return statement.toLongArray(defaultSqlExecutor());
+    }
+
+    public long[] toLongArray(SqlExecutor sqlExecutor) {
+        return statement.toLongArray(sqlExecutor);
+    }
+
+    public long[] toLongArray(Transaction transaction) {
+        return statement.toLongArray(transaction);
+    }
+
+    public int[] toIntArray() {
+        return statement.toIntArray(defaultSqlExecutor());
+    }
+
+    public int[] toIntArray(SqlExecutor sqlExecutor) {
+        return statement.toIntArray(sqlExecutor);
+    }
+
+    public int[] toIntArray(Transaction transaction) {
+        return statement.toIntArray(transaction);
+    }
+
+    public double[] toDoubleArray() {
+        return statement.toDoubleArray(defaultSqlExecutor());
+    }
+
+    public double[] toDoubleArray(SqlExecutor sqlExecutor) {
+        return statement.toDoubleArray(sqlExecutor);
+    }
+
+    public double[] toDoubleArray(Transaction transaction) {
+        return statement.toDoubleArray(transaction);
+    }
+
+    public ColumnarResult fetchColumnar() {
+        return statement.fetchColumnar(defaultSqlExecutor());
+    }
+
+    public ColumnarResult fetchColumnar(SqlExecutor sqlExecutor) {
+        return statement.fetchColumnar(sqlExecutor);
+    }
+
+    public ColumnarResult fetchColumnar(Transaction transaction) {
+        return statement.fetchColumnar(transaction);
+    }
+
     public RT single() {
         return single(defaultSqlExecutor());
     }
@@ -150,6 +271,10 @@ public abstract class Select<RT> implements TypedExpression<RT> {
         return statement.singleAsync(transaction);
     }
 
+    public PreparedSelect<RT> prepare() {
+        return statement.prepare();
+    }
+
     public Select<RT> offset(long i) {
         statement.offset(i);
         return this;
@@ -174,6 +299,53 @@ public abstract class Select<RT> implements TypedExpression<RT> {
         return page(pageNo, pageSize, ImmutableList.copyOf(orderBy));
     }
 
+    public Select<RT> seekAfter(Object... keyValues) {
+        statement.seekAfter(Arrays.asList(keyValues));
+        return this;
+    }
+
+    public Select<RT> seekAfter(List<?> keyValues) {
+        statement.seekAfter(keyValues);
+        return this;
+    }
+
+    public Stream<List<RT>> pages(int pageSize, Function<? super RT,? extends List<?>> keyOf) {
+        return pages(defaultSqlExecutor(), pageSize, keyOf);
+    }
+
+    public Stream<List<RT>> pages(SqlExecutor sqlExecutor, int pageSize, Function<? super RT,? extends List<?>> keyOf) {
+        return statement.pages(pageSize, keyOf, () -> statement.list(sqlExecutor));
+    }
+
+    public Stream<List<RT>> pages(Transaction transaction, int pageSize, Function<? super RT,? extends List<?>> keyOf) {
+        return statement.pages(pageSize, keyOf, () -> statement.list(transaction));
+    }
+
+    public <T> ParallelSelect<RT,T> parallel(int partitions, TypedExpression<T> key) {
+        return new ParallelSelect<>(statement, partitions, key);
+    }
+
+    public <T, R> ParallelSelect<RT,T> parallel(int partitions, Function1<R,T> key) {
+        return parallel(partitions, UnresolvedColumn.of(key));
+    }
+
+    public <T, R> ParallelSelect<RT,T> parallel(int partitions, FunctionOptional1<R,T> key) {
+        return parallel(partitions, UnresolvedColumn.of(key));
+    }
+
+    public <T, R> ParallelSelect<RT,T> parallel(int partitions, String alias, Function1<R,T> key) {
+        return parallel(partitions, UnresolvedColumn.of(alias, key));
+    }
+
+    public <T, R> ParallelSelect<RT,T> parallel(int partitions, String alias, FunctionOptional1<R,T> key) {
+        return parallel(partitions, UnresolvedColumn.of(alias, key));
+    }
+
+    public Select<RT> cached(Duration timeToLive) {
+        statement.cached(timeToLive);
+        return this;
+    }
+
     public Select<RT> withIsolation(IsolationLevel level) {
         statement.withIsolation(level);
         return this;
@@ -184,6 +356,11 @@ public abstract class Select<RT> implements TypedExpression<RT> {
         return this;
     }
 
+    public Select<RT> onNull(NullPolicy policy) {
+        statement.onNull(policy);
+        return this;
+    }
+
     @Override
     public TypeToken<RT> type() {
         return statement.rowType();
@@ -22,39 +22,68 @@
 
 package com.cadenzauk.siesta.grammar.select;
 
+import com.cadenzauk.core.concurrent.MergingSpliterator;
+import com.cadenzauk.core.concurrent.StreamPublisher;
 import com.cadenzauk.core.lang.CompositeAutoCloseable;
 import com.cadenzauk.core.sql.RowMapper;
 import com.cadenzauk.core.sql.RowMapperFactory;
+import com.cadenzauk.core.stream.StreamUtil;
 import com.cadenzauk.core.tuple.Tuple;
 import com.cadenzauk.core.tuple.Tuple2;
 import com.cadenzauk.core.util.IterableUtil;
 import com.cadenzauk.core.util.OptionalUtil;
+import com.cadenzauk.siesta.DataType;
 import com.cadenzauk.siesta.From;
+import com.cadenzauk.siesta.InvalidQueryException;
 import com.cadenzauk.siesta.IsolationLevel;
 import com.cadenzauk.siesta.LockLevel;
+import com.cadenzauk.siesta.NullPolicy;
 import com.cadenzauk.siesta.Order;
 import com.cadenzauk.siesta.Projection;
+import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
 import com.cadenzauk.siesta.SqlExecutor;
 import com.cadenzauk.siesta.Transaction;
 import com.cadenzauk.siesta.grammar.LabelGenerator;
+import com.cadenzauk.siesta.grammar.SqlWriter;
+import com.cadenzauk.siesta.grammar.expression.Aggregates;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpression;
 import com.cadenzauk.siesta.grammar.expression.BooleanExpressionChain;
+import com.cadenzauk.siesta.grammar.expression.ExpressionBuilder;
+import com.cadenzauk.siesta.grammar.expression.Parameter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.google.common.reflect.TypeToken;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 class SelectStatement<RT> {
+    private static final int DEFAULT_COLUMNAR_CAPACITY = 1024;
+    private static final int MAX_INITIAL_COLUMNAR_CAPACITY = 1 << 20;
+
     protected final Scope scope;
     private final LabelGenerator labelGenerator = new LabelGenerator("select_");
     private final List<CommonTableExpression<?>> commonTableExpressions = new ArrayList<>();
@@ -70,6 +99,10 @@ class SelectStatement<RT> {
     private Optional<Long> fetchFirst = Optional.empty();
     private IsolationLevel isolationLevel = IsolationLevel.UNSPECIFIED;
     private Optional<LockLevel> keepLocks = Optional.empty();
+    private NullPolicy nullPolicy = NullPolicy.FAIL;
+    private Optional<Duration> cacheFor = Optional.empty();
+    private Optional<KeysetCondition> keyset = Optional.empty();
+    private Optional<BooleanExpression> partition = Optional.empty();
 
     SelectStatement(Scope scope, TypeToken<RT> rowType, From from, Projection<RT> projection) {
         this.scope = scope;
@@ -97,6 +130,7 @@ class SelectStatement<RT> {
     }
 
     String sql(Scope outerScope) {
+        outerScope.addSubqueryTables(referencedTables());
         return "(" + sqlImpl(outerScope) + ")";
     }
 
@@ -137,31 +171,180 @@ class SelectStatement<RT> {
         keepLocks = Optional.of(level);
     }
 
+    void onNull(NullPolicy policy) {
+        nullPolicy = policy;
+    }
+
+    void cached(Duration timeToLive) {
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("The time to cache a query for cannot be negative.");
+        }
+        cacheFor = Optional.of(timeToLive);
+    }
+
+    void seekAfter(List<?> keyValues) {
+        keyset = Optional.of(keysetCondition(keyValues));
+    }
+
+    private KeysetCondition keysetCondition(List<?> keyValues) {
+        List<OrderByExpression<?>> keys = orderByClauses.stream()
+            .map(clause -> {
+                if (clause instanceof OrderByExpression) {
+                    return (OrderByExpression<?>) clause;
+                }
+                throw new InvalidQueryException("Keyset pagination requires the order by clauses to be expressions rather than column numbers.");
+            })
+            .collect(toList());
+        return new KeysetCondition(keys, keyValues);
+    }
+
+    Stream<List<RT>> pages(int pageSize, Function<? super RT,? extends List<?>> keyOf, Supplier<List<RT>> fetch) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1.");
+        }
+        Optional<KeysetCondition> firstPage = keyset;
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private Optional<KeysetCondition> after = firstPage;
+            private boolean done = false;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super List<RT>> action) {
+                if (done) {
+                    return false;
+                }
+                List<RT> page = fetchPage(pageSize, after, fetch);
+                if (page.isEmpty()) {
+                    done = true;
+                    return false;
+                }
+                if (page.size() < pageSize) {
+                    done = true;
+                } else {
+                    after = Optional.of(keysetCondition(keyOf.apply(page.get(page.size() - 1))));
+                }
+                action.accept(page);
+                return true;
+            }
+        }, false);
+    }
+
+    private List<RT> fetchPage(long pageSize, Optional<KeysetCondition> after, Supplier<List<RT>> fetch) {
+        Optional<Long> savedFetchFirst = fetchFirst;
+        Optional<KeysetCondition> savedKeyset = keyset;
+        try {
+            fetchFirst = Optional.of(pageSize);
+            keyset = after;
+            return fetch.get();
+        } finally {
+            fetchFirst = savedFetchFirst;
+            keyset = savedKeyset;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Stream<RT> parallelStream(SqlExecutor sqlExecutor, int partitions, TypedExpression<T> key, boolean ordered, Executor executor) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be at least 1.");
+        }
+        if (!groupByClauses.isEmpty() || !havingClause.isEmpty() || !unions.isEmpty() || offset.isPresent() || fetchFirst.isPresent()) {
+            throw new InvalidQueryException("Parallel execution is not supported for queries with group by, having, unions, offset or fetch first.");
+        }
+        Class<T> keyClass = (Class<T>) key.type().getRawType();
+        KeyRanges<T> keyRanges = KeyRanges.forClass(keyClass)
+            .orElseThrow(() -> new IllegalArgumentException("Cannot partition a query on a key of type " + keyClass.getName() + "."));
+        Optional<Tuple2<T,T>> range = keyRange(sqlExecutor, key);
+        List<BooleanExpression> predicates = Stream.concat(
+            range.stream()
+                .flatMap(r -> keyRanges.split(r.item1(), r.item2(), partitions).stream())
+                .map(r -> ExpressionBuilder.of(key, Function.identity()).isBetween(r.item1()).and(r.item2())),
+            Stream.of(ExpressionBuilder.of(key, Function.identity()).isNull())
+        ).collect(toList());
+        List<Supplier<Stream<RT>>> sources = new ArrayList<>();
+        try {
+            for (BooleanExpression predicate : predicates) {
+                partition = Optional.of(predicate);
+                SqlWriter statement = render(scope.empty());
+                String sql = statement.sql();
+                Object[] args = boundArgs(statement);
+                RowMapper<RT> rowMapper = rowMapper();
+                sources.add(() -> scope.database().execute(sql, () -> sqlExecutor.stream(sql, args, rowMapper)));
+            }
+        } finally {
+            partition = Optional.empty();
+        }
+        return MergingSpliterator.merge(sources, ordered, scope.database().batchSize(), executor);
+    }
+
+    private <T> Optional<Tuple2<T,T>> keyRange(SqlExecutor sqlExecutor, TypedExpression<T> key) {
+        Scope outerScope = scope.empty();
+        Scope innerScope = outerScope.plus(scope);
+        SqlWriter writer = new SqlWriter()
+            .append(commonTableExpressionSql(outerScope))
+            .args(cteArgs(outerScope))
+            .append("select ");
+        Aggregates.min(key).render(writer, innerScope);
+        writer.append(" as MIN_KEY, ");
+        Aggregates.max(key).render(writer, innerScope);
+        writer.append(" as MAX_KEY");
+        from.render(writer, innerScope);
+        effectiveWhereClause().render(writer, innerScope, " where ");
+        String sql = writer.sql();
+        Object[] args = writer.args();
+        DataType<T> dataType = scope.database().getDataTypeOf(key.type());
+        List<Tuple2<Optional<T>,Optional<T>>> result = scope.database().execute(sql, () -> sqlExecutor.query(sql, args, rs -> Tuple.of(
+            dataType.get(rs, "MIN_KEY", scope.database()),
+            dataType.get(rs, "MAX_KEY", scope.database()))));
+        return result.stream()
+            .findFirst()
+            .filter(r -> r.item1().isPresent() && r.item2().isPresent())
+            .map(r -> Tuple.of(r.item1().get(), r.item2().get()));
+    }
+
     List<RT> list(SqlExecutor sqlExecutor) {
-        Object[] args = args(scope).toArray();
-        String sql = sql();
-        return scope.database().execute(sql, () -> sqlExecutor.query(sql, args, rowMapper()));
+        Scope outerScope = scope.empty();
+        SqlWriter statement = render(outerScope);
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        Supplier<List<RT>> query = () -> scope.database().execute(sql, () -> sqlExecutor.query(sql, args, rowMapper()));
+        return cacheFor
+            .filter(ttl -> isCacheable())
+            .map(ttl -> scope.database().queryCache().get(sql, args, referencedTables(outerScope), ttl, query))
+            .orElseGet(query);
     }
 
     List<RT> list(Transaction transaction) {
-        Object[] args = args(scope).toArray();
-        String sql = sql();
-        return scope.database().execute(sql, () -> transaction.query(sql, args, rowMapper()));
+        Scope outerScope = scope.empty();
+        SqlWriter statement = render(outerScope);
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        Supplier<List<RT>> query = () -> scope.database().execute(sql, () -> transaction.query(sql, args, rowMapper()));
+        return cacheFor
+            .filter(ttl -> isCacheable())
+            .map(ttl -> scope.database().queryCache().get(transaction, sql, args, referencedTables(outerScope), ttl, query))
+            .orElseGet(query);
     }
 
     CompletableFuture<List<RT>> listAsync(SqlExecutor sqlExecutor) {
-        try (Transaction transaction = sqlExecutor.beginTransaction()) {
-            try {
-                return listAsync(transaction);
-            } finally {
-                transaction.commit();
-            }
+        Transaction transaction = sqlExecutor.beginTransaction();
+        try {
+            return listAsync(transaction)
+                .whenComplete((result, exception) -> {
+                    try (Transaction t = transaction) {
+                        if (exception == null) {
+                            t.commit();
+                        }
+                    }
+                });
+        } catch (RuntimeException e) {
+            transaction.close();
+            throw e;
         }
     }
 
     CompletableFuture<List<RT>> listAsync(Transaction transaction) {
-        Object[] args = args(scope).toArray();
-        String sql = sql();
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
         return transaction.queryAsync(sql, args, rowMapper())
             .exceptionally(e -> scope.database().translateException(sql, e));
     }
@@ -183,17 +366,35 @@ class SelectStatement<RT> {
     }
 
     Stream<RT> stream(SqlExecutor sqlExecutor) {
-        Object[] args = args(scope).toArray();
-        String sql = sql();
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
         return scope.database().execute(sql, () -> sqlExecutor.stream(sql, args, rowMapper()));
     }
 
     Stream<RT> stream(Transaction transaction) {
-        Object[] args = args(scope).toArray();
-        String sql = sql();
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
         return scope.database().execute(sql, () -> transaction.stream(sql, args, rowMapper()));
     }
 
+    Flow.Publisher<RT> publisher(SqlExecutor sqlExecutor, Executor executor) {
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        RowMapper<RT> rowMapper = rowMapper();
+        return new StreamPublisher<>(() -> scope.database().execute(sql, () -> sqlExecutor.stream(sql, args, rowMapper)), executor);
+    }
+
+    Flow.Publisher<RT> publisher(Transaction transaction, Executor executor) {
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        RowMapper<RT> rowMapper = rowMapper();
+        return new StreamPublisher<>(() -> scope.database().execute(sql, () -> transaction.stream(sql, args, rowMapper)), executor);
+    }
+
     Stream<RT> stream(SqlExecutor sqlExecutor, CompositeAutoCloseable autoCloseable) {
         return autoCloseable.add(stream(sqlExecutor));
     }
@@ -202,6 +403,124 @@ class SelectStatement<RT> {
         return autoCloseable.add(stream(transaction));
     }
 
+    LongStream longStream(SqlExecutor sqlExecutor) {
+        return PrimitiveRows.longStream(nullPolicy, reader -> primitiveRows(sqlExecutor, reader));
+    }
+
+    LongStream longStream(Transaction transaction) {
+        return PrimitiveRows.longStream(nullPolicy, reader -> primitiveRows(transaction, reader));
+    }
+
+    IntStream intStream(SqlExecutor sqlExecutor) {
+        return PrimitiveRows.intStream(nullPolicy, reader -> primitiveRows(sqlExecutor, reader));
+    }
+
+    IntStream intStream(Transaction transaction) {
+        return PrimitiveRows.intStream(nullPolicy, reader -> primitiveRows(transaction, reader));
+    }
+
+    DoubleStream doubleStream(SqlExecutor sqlExecutor) {
+        return PrimitiveRows.doubleStream(nullPolicy, reader -> primitiveRows(sqlExecutor, reader));
+    }
+
+    DoubleStream doubleStream(Transaction transaction) {
+        return PrimitiveRows.doubleStream(nullPolicy, reader -> primitiveRows(transaction, reader));
+    }
+
+    long[] toLongArray(SqlExecutor sqlExecutor) {
+        try (LongStream values = longStream(sqlExecutor)) {
+            return values.toArray();
+        }
+    }
+
+    long[] toLongArray(Transaction transaction) {
+        try (LongStream values = longStream(transaction)) {
+            return values.toArray();
+        }
+    }
+
+    int[] toIntArray(SqlExecutor sqlExecutor) {
+        try (IntStream values = intStream(sqlExecutor)) {
+            return values.toArray();
+        }
+    }
+
+    int[] toIntArray(Transaction transaction) {
+        try (IntStream values = intStream(transaction)) {
+            return values.toArray();
+        }
+    }
+
+    double[] toDoubleArray(SqlExecutor sqlExecutor) {
+        try (DoubleStream values = doubleStream(sqlExecutor)) {
+            return values.toArray();
+        }
+    }
+
+    double[] toDoubleArray(Transaction transaction) {
+        try (DoubleStream values = doubleStream(transaction)) {
+            return values.toArray();
+        }
+    }
+
+    ColumnarResult fetchColumnar(SqlExecutor sqlExecutor) {
+        ColumnarReader reader = columnarReader();
+        try (Stream<Boolean> rows = readerRows(sqlExecutor, reader)) {
+            rows.forEach(row -> {});
+        }
+        return reader.result();
+    }
+
+    ColumnarResult fetchColumnar(Transaction transaction) {
+        ColumnarReader reader = columnarReader();
+        try (Stream<Boolean> rows = readerRows(transaction, reader)) {
+            rows.forEach(row -> {});
+        }
+        return reader.result();
+    }
+
+    private ColumnarReader columnarReader() {
+        int capacity = fetchFirst
+            .map(n -> (int) Math.min(n, MAX_INITIAL_COLUMNAR_CAPACITY))
+            .orElse(DEFAULT_COLUMNAR_CAPACITY);
+        return ColumnarReader.of(scope.database(), projection.columns(scope), capacity);
+    }
+
+    private Stream<Boolean> primitiveRows(SqlExecutor sqlExecutor, RowMapper<Boolean> reader) {
+        requireSingleNumericColumn();
+        return readerRows(sqlExecutor, reader);
+    }
+
+    private Stream<Boolean> primitiveRows(Transaction transaction, RowMapper<Boolean> reader) {
+        requireSingleNumericColumn();
+        return readerRows(transaction, reader);
+    }
+
+    private void requireSingleNumericColumn() {
+        List<ProjectionColumn<?>> columns = projection.columns(scope).collect(toList());
+        if (columns.size() != 1) {
+            throw new InvalidQueryException("Primitive results require a projection of exactly one column.");
+        }
+        TypeToken<?> type = columns.get(0).type();
+        if (columns.get(0).as(Number.class).findAny().isEmpty()) {
+            throw new InvalidQueryException("Primitive results require a numeric column but the column is of type " + type + ".");
+        }
+    }
+
+    private Stream<Boolean> readerRows(SqlExecutor sqlExecutor, RowMapper<Boolean> reader) {
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        return scope.database().execute(sql, () -> sqlExecutor.stream(sql, args, reader));
+    }
+
+    private Stream<Boolean> readerRows(Transaction transaction, RowMapper<Boolean> reader) {
+        SqlWriter statement = render(scope.empty());
+        String sql = statement.sql();
+        Object[] args = boundArgs(statement);
+        return scope.database().execute(sql, () -> transaction.stream(sql, args, reader));
+    }
+
     RT single(SqlExecutor sqlExecutor) {
         return IterableUtil.single(list(sqlExecutor));
     }
@@ -222,14 +541,47 @@ class SelectStatement<RT> {
         return from;
     }
 
+    PreparedSelect<RT> prepare() {
+        SqlWriter statement = render(scope.empty());
+        return new PreparedSelect<>(scope.database(), statement.sql(), statement.args(), rowMapper());
+    }
+
     Scope scope() {
         return scope;
     }
 
+    Stream<String> referencedTables() {
+        return Stream.of(
+                scope.referencedTables(),
+                commonTableExpressions.stream().flatMap(CommonTableExpression::referencedTables),
+                unions.stream().flatMap(u -> u.item2().referencedTables()))
+            .flatMap(Function.identity())
+            .distinct();
+    }
+
+    private Set<String> referencedTables(Scope renderedScope) {
+        return Stream.concat(referencedTables(), renderedScope.subqueryTables()).collect(toSet());
+    }
+
+    private boolean isCacheable() {
+        return keepLocks.isEmpty() && isolationLevel != IsolationLevel.UNCOMMITTED_READ;
+    }
+
     String sql() {
         return sqlImpl(scope.empty());
     }
 
+    private Object[] boundArgs(SqlWriter statement) {
+        Object[] args = statement.args();
+        Arrays.stream(args)
+            .filter(Parameter.class::isInstance)
+            .findFirst()
+            .ifPresent(p -> {
+                throw new IllegalStateException("The select contains parameter " + p + " so must be executed with prepare().");
+            });
+        return args;
+    }
+
     RowMapper<RT> rowMapper() {
         return projection.rowMapperFactory(scope).rowMapper(Optional.empty());
     }
@@ -291,12 +643,30 @@ class SelectStatement<RT> {
 
     @NotNull
     private Stream<Object> whereClauseArgs(Scope actualScope) {
-        return whereClause.args(actualScope);
+        return effectiveWhereClause().args(actualScope);
     }
 
     @NotNull
     private String whereClauseSql(Scope actualScope) {
-        return whereClause.sql(actualScope, " where ");
+        return effectiveWhereClause().sql(actualScope, " where ");
+    }
+
+    private BooleanExpressionChain effectiveWhereClause() {
+        if (keyset.isEmpty() && partition.isEmpty()) {
+            return whereClause;
+        }
+        BooleanExpressionChain chain = new BooleanExpressionChain();
+        Stream.concat(
+                whereClause.isEmpty() ? Stream.empty() : Stream.of(whereClause),
+                Stream.concat(StreamUtil.of(keyset), StreamUtil.of(partition)))
+            .forEach(e -> {
+                if (chain.isEmpty()) {
+                    chain.start(e);
+                } else {
+                    chain.appendAnd(e);
+                }
+            });
+        return chain;
     }
 
     @NotNull
@@ -358,6 +728,30 @@ class SelectStatement<RT> {
         return sql;
     }
 
+    SqlWriter render(Scope outerScope) {
+        Scope innerScope = outerScope.plus(scope);
+        SqlWriter writer = new SqlWriter()
+            .append(commonTableExpressionSql(outerScope))
+            .args(cteArgs(outerScope));
+        int selectStart = writer.length();
+        writer.append("select ");
+        projection.render(writer, innerScope);
+        from.render(writer, innerScope);
+        effectiveWhereClause().render(writer, innerScope, " where ");
+        if (!groupByClauses.isEmpty()) {
+            writer.append(" group by ").join(groupByClauses, ", ", (g, w) -> g.render(w, innerScope));
+        }
+        havingClause.render(writer, innerScope, " having ");
+        unions.forEach(u -> {
+            SqlWriter union = u.item2().render(innerScope);
+            writer.append(' ').append(u.item1().format(union.sql())).args(union.argStream());
+        });
+        writer.append(orderByClauseSql(innerScope));
+        fetchFirst.ifPresent(n -> scope.dialect().fetchFirst(writer, selectStart, n, offset));
+        scope.dialect().isolationLevel(writer, isolationLevel, keepLocks);
+        return writer;
+    }
+
     private String fetchFirstSql(String sql) {
         return fetchFirst.map(n -> scope.dialect().fetchFirst(sql, n, offset)).orElse(sql);
     }
@@ -152,11 +152,21 @@ public class SubselectAlias<T> extends Alias<T> {
         return Optional.of(aliasName);
     }
 
+    @Override
+    public Stream<String> referencedTables() {
+        return select.statement.referencedTables();
+    }
+
     @Override
     public RowMapperFactory<T> rowMapperFactory() {
         return select.rowMapperFactory().withPrefix(aliasName + "_");
     }
 
+    @Override
+    protected boolean mayResolve(Class<?> referringClass) {
+        return true;
+    }
+
     @Override
     public Stream<Alias<?>> as(Scope scope, ColumnSpecifier<?> columnSpecifier, Optional<String> requiredAlias) {
         if (requiredAlias.isPresent()) {
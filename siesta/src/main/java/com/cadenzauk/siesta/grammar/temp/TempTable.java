@@ -31,10 +31,11 @@ import com.cadenzauk.siesta.catalog.Column;
 import com.cadenzauk.siesta.catalog.ColumnMapping;
 import com.google.common.reflect.TypeToken;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
@@ -51,7 +52,7 @@ public abstract class TempTable<R> {
         rowType = TypeToken.of(builder.rowClass);
         tableName = builder.tableName;
         onCommit = builder.onCommit;
-        columnMapping = new ColumnMapping<>(builder);
+        columnMapping = builder.columnMapping.orElseGet(() -> new ColumnMapping<>(builder));
     }
 
     protected String tableName() {
@@ -103,6 +104,31 @@ public abstract class TempTable<R> {
         }
     }
 
+    public int insertAll(Transaction transaction, List<R> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        database.queryCache().invalidate(transaction, qualifiedTableName());
+        String prefixSql = insertPrefixSql();
+        int count = 0;
+        String batchSql = null;
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (R row : rows) {
+            String sql = prefixSql + insertValuesSql(row);
+            if (batchSql != null && !batchSql.equals(sql)) {
+                count += executeBatch(transaction, batchSql, batchArgs);
+                batchArgs = new ArrayList<>();
+            }
+            batchSql = sql;
+            batchArgs.add(columnMapping.insertArgs(Stream.of(row)));
+        }
+        return count + executeBatch(transaction, batchSql, batchArgs);
+    }
+
+    private int executeBatch(Transaction transaction, String sql, List<Object[]> args) {
+        return database.execute(sql, () -> transaction.batchUpdate(sql, args, database.batchSize()));
+    }
+
     @SafeVarargs
     private final int performInsert(Transaction transaction, R... rows) {
         if (rows.length == 0) {
@@ -110,16 +136,26 @@ public abstract class TempTable<R> {
         }
         String sql = insertSql(rows);
         Object[] args = columnMapping.insertArgs(rows);
+        database.queryCache().invalidate(transaction, qualifiedTableName());
         return database.execute(sql, () -> transaction.update(sql, args));
     }
 
     private String insertSql(R[] rows) {
-        return String.format("insert into %s (%s) values %s",
+        return insertPrefixSql() + Arrays.stream(rows)
+            .map(this::insertValuesSql)
+            .collect(joining(", "));
+    }
+
+    private String insertPrefixSql() {
+        return String.format("insert into %s (%s) values ",
             qualifiedTableName(),
-            columnMapping.columns().flatMap(Column::insertColumnSql).collect(joining(", ")),
-            IntStream.range(0, rows.length)
-                .mapToObj(i -> "(" + columnMapping.columns().flatMap(col -> col.insertArgsSql(database, Optional.of(rows[i]))).collect(joining(", ")) + ")")
-                .collect(joining(", ")));
+            columnMapping.columns().flatMap(Column::insertColumnSql).collect(joining(", ")));
+    }
+
+    private String insertValuesSql(R row) {
+        return columnMapping.columns()
+            .flatMap(col -> col.insertArgsSql(database, Optional.of(row)))
+            .collect(joining(", ", "(", ")"));
     }
 
     public static abstract class Builder<R, B, S extends Builder<R,B,S>> extends ColumnMapping.Builder<R,B,S> {
@@ -127,6 +163,7 @@ public abstract class TempTable<R> {
         protected final Class<R> rowClass;
         protected String tableName;
         private TempTableCommitAction onCommit = TempTableCommitAction.PRESERVE_ROWS;
+        private Optional<ColumnMapping<R,?>> columnMapping = Optional.empty();
 
         public Builder(Database database, Class<R> rowClass, TypeToken<B> builderType, Function<B,R> build) {
             super(database, TypeToken.of(rowClass), builderType, build);
@@ -143,5 +180,17 @@ public abstract class TempTable<R> {
             onCommit = val;
             return self();
         }
+
+        public S columnMapping(ColumnMapping<R,?> val) {
+            columnMapping = Optional.of(val);
+            return self();
+        }
+
+        @Override
+        protected void finish() {
+            if (columnMapping.isEmpty()) {
+                super.finish();
+            }
+        }
     }
 }
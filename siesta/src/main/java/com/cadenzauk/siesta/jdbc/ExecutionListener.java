@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.List;
+
+public interface ExecutionListener {
+    ExecutionListener NONE = new ExecutionListener() {
+    };
+
+    default void prepared(StatementExecution execution, long nanos) {
+    }
+
+    default void executed(StatementExecution execution, long nanos) {
+    }
+
+    default void firstRow(StatementExecution execution, long nanos) {
+    }
+
+    default void batchExecuted(StatementExecution execution, int rows, long nanos) {
+    }
+
+    default void closed(StatementExecution execution) {
+    }
+
+    static ExecutionListener of(ExecutionListener... listeners) {
+        return of(Arrays.asList(listeners));
+    }
+
+    static ExecutionListener of(List<ExecutionListener> listeners) {
+        List<ExecutionListener> copy = ImmutableList.copyOf(listeners);
+        return new ExecutionListener() {
+            @Override
+            public void prepared(StatementExecution execution, long nanos) {
+                copy.forEach(l -> l.prepared(execution, nanos));
+            }
+
+            @Override
+            public void executed(StatementExecution execution, long nanos) {
+                copy.forEach(l -> l.executed(execution, nanos));
+            }
+
+            @Override
+            public void firstRow(StatementExecution execution, long nanos) {
+                copy.forEach(l -> l.firstRow(execution, nanos));
+            }
+
+            @Override
+            public void batchExecuted(StatementExecution execution, int rows, long nanos) {
+                copy.forEach(l -> l.batchExecuted(execution, rows, nanos));
+            }
+
+            @Override
+            public void closed(StatementExecution execution) {
+                copy.forEach(l -> l.closed(execution));
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.core.concurrent.ConcurrentHistogram;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.toList;
+
+public class ExecutionStatistics implements ExecutionListener {
+    private final ConcurrentMap<String,Recorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public void firstRow(StatementExecution execution, long nanos) {
+        recorder(execution).firstRow.record(nanos);
+    }
+
+    @Override
+    public void closed(StatementExecution execution) {
+        Recorder recorder = recorder(execution);
+        recorder.elapsed.record(execution.elapsedNanos());
+        recorder.rows.add(execution.rows());
+        if (execution.failure().isPresent()) {
+            recorder.failures.increment();
+        }
+    }
+
+    public Optional<StatementStatistics> statistics(String fingerprint) {
+        return Optional.ofNullable(recorders.get(fingerprint)).map(Recorder::snapshot);
+    }
+
+    public List<StatementStatistics> snapshot() {
+        return recorders.values().stream()
+            .map(Recorder::snapshot)
+            .sorted(Comparator.comparingLong(StatementStatistics::totalNanos).reversed())
+            .collect(toList());
+    }
+
+    public void reset() {
+        recorders.clear();
+    }
+
+    private Recorder recorder(StatementExecution execution) {
+        return recorders.computeIfAbsent(execution.fingerprint(), f -> new Recorder(f, execution.sql()));
+    }
+
+    private static class Recorder {
+        private final String fingerprint;
+        private final String sql;
+        private final ConcurrentHistogram elapsed = new ConcurrentHistogram();
+        private final ConcurrentHistogram firstRow = new ConcurrentHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Recorder(String fingerprint, String sql) {
+            this.fingerprint = fingerprint;
+            this.sql = sql;
+        }
+
+        private StatementStatistics snapshot() {
+            return new StatementStatistics(fingerprint, sql, elapsed.snapshot(), firstRow.snapshot(), rows.sum(), failures.sum());
+        }
+    }
+}
@@ -23,6 +23,7 @@
 package com.cadenzauk.siesta.jdbc;
 
 import com.cadenzauk.core.sql.RuntimeSqlException;
+import com.cadenzauk.core.sql.SqlArray;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.lang3.tuple.Pair;
@@ -58,7 +59,8 @@ public class JdbcDataTypeRegistry {
         return ImmutableMap.copyOf(
             ImmutableList.of(
                 entry(Timestamp.class, (ps, i, ts) -> ps.setTimestamp(i, ts, new GregorianCalendar(TimeZone.getDefault()))),
-                entry(Time.class, (ps, i, ts) -> ps.setTime(i, ts, new GregorianCalendar(TimeZone.getDefault())))
+                entry(Time.class, (ps, i, ts) -> ps.setTime(i, ts, new GregorianCalendar(TimeZone.getDefault()))),
+                entry(SqlArray.class, (ps, i, a) -> ps.setArray(i, a.toArray(ps.getConnection())))
             )
         );
     }
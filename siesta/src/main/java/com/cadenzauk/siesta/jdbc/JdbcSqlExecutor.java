@@ -22,6 +22,8 @@
 
 package com.cadenzauk.siesta.jdbc;
 
+import com.cadenzauk.core.concurrent.ExecutorUtil;
+import com.cadenzauk.core.function.ThrowingSupplier;
 import com.cadenzauk.core.lang.CompositeAutoCloseable;
 import com.cadenzauk.core.sql.ConnectionUtil;
 import com.cadenzauk.core.sql.DataSourceUtil;
@@ -32,6 +34,9 @@ import com.cadenzauk.core.sql.RuntimeSqlException;
 import com.cadenzauk.siesta.Dialect;
 import com.cadenzauk.siesta.SqlExecutor;
 import com.cadenzauk.siesta.dialect.AutoDetectDialect;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -39,10 +44,14 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -50,17 +59,48 @@ import java.util.stream.StreamSupport;
 import static java.util.stream.Collectors.toList;
 
 public class JdbcSqlExecutor implements SqlExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcSqlExecutor.class);
+
     private final DataSource dataSource;
     private final int fetchSize;
     private final Executor queryExecutor;
     private final Executor updateExecutor;
+    private final int statementCacheSize;
+    private final ExecutionListener listener;
+    private final AtomicReference<Supplier<Dialect>> dialectFactory;
     private final JdbcDataTypeRegistry registry = new JdbcDataTypeRegistry();
 
-    private JdbcSqlExecutor(DataSource dataSource, int fetchSize, Executor queryExecutor, Executor updateExecutor) {
+    private JdbcSqlExecutor(DataSource dataSource, int fetchSize, Executor queryExecutor, Executor updateExecutor, int statementCacheSize) {
+        this(dataSource, fetchSize, queryExecutor, updateExecutor, statementCacheSize, ExecutionListener.NONE, new AtomicReference<>());
+    }
+
+    private JdbcSqlExecutor(DataSource dataSource, int fetchSize, Executor queryExecutor, Executor updateExecutor, int statementCacheSize, ExecutionListener listener, AtomicReference<Supplier<Dialect>> dialectFactory) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("The statement cache size cannot be negative.");
+        }
         this.dataSource = dataSource;
         this.fetchSize = fetchSize;
         this.queryExecutor = queryExecutor;
         this.updateExecutor = updateExecutor;
+        this.statementCacheSize = statementCacheSize;
+        this.listener = listener;
+        this.dialectFactory = dialectFactory;
+    }
+
+    public JdbcSqlExecutor withStatementCacheSize(int size) {
+        return new JdbcSqlExecutor(dataSource, fetchSize, queryExecutor, updateExecutor, size, listener, dialectFactory);
+    }
+
+    public JdbcSqlExecutor withExecutionListener(ExecutionListener executionListener) {
+        return new JdbcSqlExecutor(dataSource, fetchSize, queryExecutor, updateExecutor, statementCacheSize, executionListener, dialectFactory);
+    }
+
+    public int statementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public ExecutionListener executionListener() {
+        return listener;
     }
 
     Connection connect() {
@@ -69,12 +109,17 @@ public class JdbcSqlExecutor implements SqlExecutor {
 
     @Override
     public Dialect dialect() {
-        return AutoDetectDialect.from(dataSource);
+        Supplier<Dialect> factory = dialectFactory.get();
+        if (factory == null) {
+            factory = AutoDetectDialect.detect(dataSource);
+            dialectFactory.compareAndSet(null, factory);
+        }
+        return factory.get();
     }
 
     @Override
     public JdbcTransaction beginTransaction() {
-        return new JdbcTransaction(this);
+        return new JdbcTransaction(this, statementCacheSize);
     }
 
     @Override
@@ -106,9 +151,21 @@ public class JdbcSqlExecutor implements SqlExecutor {
         }
     }
 
+    @Override
+    public int batchUpdate(String sql, List<Object[]> args, int batchSize) {
+        try (CompositeAutoCloseable autoCloseable = new CompositeAutoCloseable()) {
+            Connection connection = autoCloseable.add(connect());
+            return batchUpdate(connection, sql, args, batchSize);
+        }
+    }
+
     <T> List<T> query(Connection connection, String sql, Object[] args, RowMapper<T> rowMapper) {
+        return query(uncached(connection), sql, args, rowMapper);
+    }
+
+    <T> List<T> query(StatementCache statements, String sql, Object[] args, RowMapper<T> rowMapper) {
         try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
-            return closeable.add(stream(connection, sql, args, rowMapper, closeable)).collect(toList());
+            return closeable.add(stream(statements, sql, args, rowMapper, closeable)).collect(toList());
         }
     }
 
@@ -117,39 +174,120 @@ public class JdbcSqlExecutor implements SqlExecutor {
     }
 
     <T> Stream<T> stream(Connection connection, String sql, Object[] args, RowMapper<T> rowMapper, CompositeAutoCloseable closeable) {
+        return stream(uncached(connection), sql, args, rowMapper, closeable);
+    }
+
+    <T> Stream<T> stream(StatementCache statements, String sql, Object[] args, RowMapper<T> rowMapper, CompositeAutoCloseable closeable) {
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.QUERY, sql, args);
+        closeable.add(() -> close(execution));
         try {
-            PreparedStatement preparedStatement = prepare(connection, sql, args, closeable);
-            preparedStatement.setFetchSize(fetchSize);
-            ResultSet resultSet = closeable.add(preparedStatement.executeQuery());
+            PreparedStatement preparedStatement = prepare(execution, statements, sql, args, closeable);
+            ResultSet resultSet = closeable.add(timed(execution, () -> {
+                preparedStatement.setFetchSize(fetchSize);
+                return preparedStatement.executeQuery();
+            }));
             return StreamSupport
-                .stream(new ResultSetSpliterator<>(resultSet, rowMapper, closeable::close), false)
+                .stream(fetchTimed(execution, resultSet, rowMapper, closeable), false)
                 .onClose(closeable::close);
         } catch (RuntimeException e) {
+            execution.failed(e);
             closeable.close();
             throw e;
         } catch (SQLException e) {
+            RuntimeSqlException exception = new RuntimeSqlException(e);
+            execution.failed(exception);
             closeable.close();
-            throw new RuntimeSqlException(e);
+            throw exception;
         } catch (Exception e) {
+            RuntimeException exception = new RuntimeException(e);
+            execution.failed(exception);
             closeable.close();
-            throw new RuntimeException(e);
+            throw exception;
         }
     }
 
     int update(Connection connection, String sql, Object[] args) {
+        return update(uncached(connection), sql, args);
+    }
+
+    int update(StatementCache statements, String sql, Object[] args) {
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.UPDATE, sql, args);
         try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
-            PreparedStatement preparedStatement = prepare(connection, sql, args, closeable);
-            return PreparedStatementUtil.executeUpdate(preparedStatement);
+            PreparedStatement preparedStatement = prepare(execution, statements, sql, args, closeable);
+            int count = timed(execution, () -> PreparedStatementUtil.executeUpdate(preparedStatement));
+            execution.addRows(count);
+            return count;
+        } catch (RuntimeException e) {
+            execution.failed(e);
+            throw e;
+        } finally {
+            close(execution);
         }
     }
 
-    boolean execute(Connection connection, String sql, Object[] args) {
-        if (args.length == 0) {
-            return ConnectionUtil.execute(connection, sql);
+    int batchUpdate(Connection connection, String sql, List<Object[]> args, int batchSize) {
+        return batchUpdate(uncached(connection), sql, args, batchSize);
+    }
+
+    int batchUpdate(StatementCache statements, String sql, List<Object[]> args, int batchSize) {
+        if (args.isEmpty()) {
+            return 0;
         }
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.BATCH, sql, args.get(0));
         try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
-            PreparedStatement preparedStatement = prepare(connection, sql, args, closeable);
-            return PreparedStatementUtil.execute(preparedStatement);
+            long start = System.nanoTime();
+            PreparedStatement preparedStatement = statements.prepare(sql, closeable);
+            long prepareNanos = System.nanoTime() - start;
+            execution.addDatabaseNanos(prepareNanos);
+            notifyListener(l -> l.prepared(execution, prepareNanos));
+            try {
+                return Lists.partition(args, Math.max(1, batchSize))
+                    .stream()
+                    .mapToInt(batch -> {
+                        long batchStart = System.nanoTime();
+                        batch.forEach(batchArgs -> {
+                            setParameters(preparedStatement, batchArgs);
+                            PreparedStatementUtil.addBatch(preparedStatement);
+                        });
+                        int count = updateCount(PreparedStatementUtil.executeBatch(preparedStatement));
+                        execution.addRows(count);
+                        long nanos = System.nanoTime() - batchStart;
+                        execution.addDatabaseNanos(nanos);
+                        notifyListener(l -> l.batchExecuted(execution, count, nanos));
+                        return count;
+                    })
+                    .sum();
+            } catch (RuntimeException e) {
+                statements.discard(preparedStatement);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            execution.failed(e);
+            throw e;
+        } finally {
+            close(execution);
+        }
+    }
+
+    boolean execute(Connection connection, String sql, Object[] args) {
+        return execute(uncached(connection), sql, args);
+    }
+
+    boolean execute(StatementCache statements, String sql, Object[] args) {
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.EXECUTE, sql, args);
+        try {
+            if (args.length == 0) {
+                return timed(execution, () -> ConnectionUtil.execute(statements.connection(), sql));
+            }
+            try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+                PreparedStatement preparedStatement = prepare(execution, statements, sql, args, closeable);
+                return timed(execution, () -> PreparedStatementUtil.execute(preparedStatement));
+            }
+        } catch (RuntimeException e) {
+            execution.failed(e);
+            throw e;
+        } finally {
+            close(execution);
         }
     }
 
@@ -157,29 +295,112 @@ public class JdbcSqlExecutor implements SqlExecutor {
         return CompletableFuture.supplyAsync(() -> update(connection, sql, args), updateExecutor);
     }
 
-    private PreparedStatement prepare(Connection connection, String sql, Object[] args, CompositeAutoCloseable closeable) {
-        PreparedStatement preparedStatement = closeable.add(ConnectionUtil.prepare(connection, sql));
-        IntStream.range(0, args.length).forEach(i -> registry.setParameter(preparedStatement, i + 1, args[i]));
+    Executor queryExecutor() {
+        return queryExecutor;
+    }
+
+    Executor updateExecutor() {
+        return updateExecutor;
+    }
+
+    private PreparedStatement prepare(StatementExecution execution, StatementCache statements, String sql, Object[] args, CompositeAutoCloseable closeable) {
+        long start = System.nanoTime();
+        PreparedStatement preparedStatement = statements.prepare(sql, closeable);
+        setParameters(preparedStatement, args);
+        long nanos = System.nanoTime() - start;
+        execution.addDatabaseNanos(nanos);
+        notifyListener(l -> l.prepared(execution, nanos));
         return preparedStatement;
     }
 
+    private <T, E extends Exception> T timed(StatementExecution execution, ThrowingSupplier<T,E> statement) throws E {
+        long start = System.nanoTime();
+        T result = statement.get();
+        long nanos = System.nanoTime() - start;
+        execution.addDatabaseNanos(nanos);
+        notifyListener(l -> l.executed(execution, nanos));
+        return result;
+    }
+
+    private <T> RowMapper<T> counting(StatementExecution execution, RowMapper<T> rowMapper) {
+        return rs -> {
+            if (execution.rows() == 0) {
+                notifyListener(l -> l.firstRow(execution, execution.elapsedNanos()));
+            }
+            execution.addRows(1);
+            try {
+                return rowMapper.mapRow(rs);
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                execution.stopFetch();
+            }
+        };
+    }
+
+    private <T> ResultSetSpliterator<T> fetchTimed(StatementExecution execution, ResultSet resultSet, RowMapper<T> rowMapper, CompositeAutoCloseable closeable) {
+        Runnable atEnd = () -> {
+            execution.stopFetch();
+            closeable.close();
+        };
+        return new ResultSetSpliterator<T>(resultSet, counting(execution, rowMapper), atEnd) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                execution.startFetch();
+                try {
+                    return super.tryAdvance(action);
+                } finally {
+                    execution.stopFetch();
+                }
+            }
+        };
+    }
+
+    private void close(StatementExecution execution) {
+        execution.end();
+        notifyListener(l -> l.closed(execution));
+    }
+
+    private void notifyListener(Consumer<ExecutionListener> callback) {
+        try {
+            callback.accept(listener);
+        } catch (RuntimeException e) {
+            LOG.warn("Execution listener failed.", e);
+        }
+    }
+
+    private static StatementCache uncached(Connection connection) {
+        return new StatementCache(connection, 0);
+    }
+
+    private void setParameters(PreparedStatement preparedStatement, Object[] args) {
+        IntStream.range(0, args.length).forEach(i -> registry.setParameter(preparedStatement, i + 1, args[i]));
+    }
+
+    private static int updateCount(int[] counts) {
+        return Arrays.stream(counts)
+            .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+            .sum();
+    }
+
     public static JdbcSqlExecutor of(DataSource dataSource) {
-        return new JdbcSqlExecutor(dataSource, 0, ForkJoinPool.commonPool(), ForkJoinPool.commonPool());
+        return new JdbcSqlExecutor(dataSource, 0, ExecutorUtil.blockingExecutor(), ExecutorUtil.blockingExecutor(), 0);
     }
 
     public static JdbcSqlExecutor of(DataSource dataSource, int fetchSize) {
-        return new JdbcSqlExecutor(dataSource, fetchSize, ForkJoinPool.commonPool(), ForkJoinPool.commonPool());
+        return new JdbcSqlExecutor(dataSource, fetchSize, ExecutorUtil.blockingExecutor(), ExecutorUtil.blockingExecutor(), 0);
     }
 
     public static JdbcSqlExecutor of(DataSource dataSource, Executor executor) {
-        return new JdbcSqlExecutor(dataSource, 0, executor, executor);
+        return new JdbcSqlExecutor(dataSource, 0, executor, executor, 0);
     }
 
     public static JdbcSqlExecutor of(DataSource dataSource, int fetchSize, Executor executor) {
-        return new JdbcSqlExecutor(dataSource, fetchSize, executor, executor);
+        return new JdbcSqlExecutor(dataSource, fetchSize, executor, executor, 0);
     }
 
     public static JdbcSqlExecutor of(DataSource dataSource, int fetchSize, Executor queryExecutor, Executor updateExecutor) {
-        return new JdbcSqlExecutor(dataSource, fetchSize, queryExecutor, updateExecutor);
+        return new JdbcSqlExecutor(dataSource, fetchSize, queryExecutor, updateExecutor, 0);
     }
 }
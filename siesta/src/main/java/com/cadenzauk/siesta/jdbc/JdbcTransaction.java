@@ -27,25 +27,43 @@ import com.cadenzauk.core.sql.ConnectionUtil;
 import com.cadenzauk.core.sql.RowMapper;
 import com.cadenzauk.core.sql.RuntimeSqlException;
 import com.cadenzauk.siesta.Transaction;
+import com.google.common.base.Throwables;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class JdbcTransaction implements Transaction {
     private final CompositeAutoCloseable autoCloseable = new CompositeAutoCloseable();
     private final Connection connection;
     private final JdbcSqlExecutor sqlExecutor;
+    private final StatementCache statementCache;
     private final List<Consumer<Transaction>> beforeCommitHooks = new ArrayList<>();
+    private final List<Consumer<Transaction>> afterCommitHooks = new ArrayList<>();
     private final List<Consumer<Transaction>> afterRollbackHooks = new ArrayList<>();
+    private final Set<Stream<?>> openStreams = new LinkedHashSet<>();
+    private final Object lock = new Object[0];
+    private CompletableFuture<?> pending = CompletableFuture.completedFuture(null);
+    private CompletableFuture<?> streamsClosed = CompletableFuture.completedFuture(null);
+    private Throwable asyncFailure;
 
     public JdbcTransaction(JdbcSqlExecutor sqlExecutor) {
+        this(sqlExecutor, 0);
+    }
+
+    public JdbcTransaction(JdbcSqlExecutor sqlExecutor, int statementCacheSize) {
         this.sqlExecutor = sqlExecutor;
         connection = autoCloseable.add(sqlExecutor.connect());
+        statementCache = autoCloseable.add(new StatementCache(connection, statementCacheSize));
         try {
             connection.setAutoCommit(false);
         } catch (SQLException e) {
@@ -55,10 +73,16 @@ public class JdbcTransaction implements Transaction {
 
     @Override
     public void commit() {
+        closeOpenStreams();
+        awaitPending();
+        throwAsyncFailure();
         beforeCommitHooks.forEach(hook -> hook.accept(this));
         ConnectionUtil.commit(connection);
+        List<Consumer<Transaction>> committed = new ArrayList<>(afterCommitHooks);
+        afterCommitHooks.clear();
         afterRollbackHooks.clear();
         beforeCommitHooks.clear();
+        committed.forEach(hook -> hook.accept(this));
     }
 
     @Override
@@ -66,11 +90,22 @@ public class JdbcTransaction implements Transaction {
         beforeCommitHooks.add(hook);
     }
 
+    @Override
+    public void afterCommit(Consumer<Transaction> hook) {
+        afterCommitHooks.add(hook);
+    }
+
     @Override
     public void rollback() {
+        closeOpenStreams();
+        awaitPending();
+        synchronized (lock) {
+            asyncFailure = null;
+        }
         ConnectionUtil.rollback(connection);
         afterRollbackHooks.forEach(hook -> hook.accept(this));
         afterRollbackHooks.clear();
+        afterCommitHooks.clear();
         beforeCommitHooks.clear();
     }
 
@@ -81,32 +116,61 @@ public class JdbcTransaction implements Transaction {
 
     @Override
     public <T> List<T> query(String sql, Object[] args, RowMapper<T> rowMapper) {
-        return sqlExecutor.query(connection, sql, args, rowMapper);
+        awaitPending();
+        return doQuery(sql, args, rowMapper);
     }
 
     @Override
     public <T> CompletableFuture<List<T>> queryAsync(String sql, Object[] args, RowMapper<T> rowMapper) {
-        return sqlExecutor.queryAsync(connection, sql, args, rowMapper);
+        return enqueue(sqlExecutor.queryExecutor(), () -> doQuery(sql, args, rowMapper));
     }
 
     @Override
     public <T> Stream<T> stream(String sql, Object[] args, RowMapper<T> rowMapper) {
-        return autoCloseable.add(sqlExecutor.stream(connection, sql, args, rowMapper, new CompositeAutoCloseable()));
+        awaitPending();
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        CompositeAutoCloseable closeable = new CompositeAutoCloseable();
+        closeable.add(() -> closed.complete(null));
+        Stream<T> stream = cachingStatements()
+            ? sqlExecutor.stream(statementCache, sql, args, rowMapper, closeable)
+            : sqlExecutor.stream(connection, sql, args, rowMapper, closeable);
+        synchronized (lock) {
+            openStreams.add(stream);
+            streamsClosed = CompletableFuture.allOf(streamsClosed, closed);
+        }
+        closed.thenRun(() -> {
+            synchronized (lock) {
+                openStreams.remove(stream);
+            }
+        });
+        return stream;
     }
 
     @Override
     public int update(String sql, Object[] args) {
-        return sqlExecutor.update(connection, sql, args);
+        awaitPending();
+        return doUpdate(sql, args);
+    }
+
+    @Override
+    public int batchUpdate(String sql, List<Object[]> args, int batchSize) {
+        awaitPending();
+        return cachingStatements()
+            ? sqlExecutor.batchUpdate(statementCache, sql, args, batchSize)
+            : sqlExecutor.batchUpdate(connection, sql, args, batchSize);
     }
 
     @Override
     public boolean execute(String sql, Object[] args) {
-        return sqlExecutor.execute(connection, sql, args);
+        awaitPending();
+        return cachingStatements()
+            ? sqlExecutor.execute(statementCache, sql, args)
+            : sqlExecutor.execute(connection, sql, args);
     }
 
     @Override
     public CompletableFuture<Integer> updateAsync(String sql, Object[] args) {
-        return sqlExecutor.updateAsync(connection, sql, args);
+        return enqueue(sqlExecutor.updateExecutor(), () -> doUpdate(sql, args));
     }
 
     @Override
@@ -115,7 +179,77 @@ public class JdbcTransaction implements Transaction {
         autoCloseable.close();
     }
 
+    public StatementCache statementCache() {
+        return statementCache;
+    }
+
     Connection connection() {
         return connection;
     }
+
+    private <T> List<T> doQuery(String sql, Object[] args, RowMapper<T> rowMapper) {
+        return cachingStatements()
+            ? sqlExecutor.query(statementCache, sql, args, rowMapper)
+            : sqlExecutor.query(connection, sql, args, rowMapper);
+    }
+
+    private int doUpdate(String sql, Object[] args) {
+        return cachingStatements()
+            ? sqlExecutor.update(statementCache, sql, args)
+            : sqlExecutor.update(connection, sql, args);
+    }
+
+    private <T> CompletableFuture<T> enqueue(Executor executor, Supplier<T> task) {
+        synchronized (lock) {
+            CompletableFuture<T> result = CompletableFuture.allOf(pending, streamsClosed)
+                .handle((x, e) -> null)
+                .thenApplyAsync(x -> task.get(), executor);
+            pending = result.whenComplete((x, e) -> recordFailure(e));
+            return result;
+        }
+    }
+
+    private void recordFailure(Throwable e) {
+        if (e == null) {
+            return;
+        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        synchronized (lock) {
+            if (asyncFailure == null) {
+                asyncFailure = cause;
+            }
+        }
+    }
+
+    private void throwAsyncFailure() {
+        Throwable failure;
+        synchronized (lock) {
+            failure = asyncFailure;
+        }
+        if (failure != null) {
+            Throwables.throwIfUnchecked(failure);
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private void closeOpenStreams() {
+        CompositeAutoCloseable streams = new CompositeAutoCloseable();
+        synchronized (lock) {
+            openStreams.forEach(streams::add);
+            openStreams.clear();
+        }
+        streams.close();
+    }
+
+    private void awaitPending() {
+        CompletableFuture<?> current;
+        synchronized (lock) {
+            current = pending;
+        }
+        current.handle((x, e) -> null).join();
+    }
+
+    private boolean cachingStatements() {
+        return statementCache.maxSize() > 0;
+    }
 }
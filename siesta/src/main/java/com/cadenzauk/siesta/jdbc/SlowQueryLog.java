@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.core.concurrent.ExecutorUtil;
+import com.cadenzauk.siesta.Database;
+import com.google.common.io.BaseEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class SlowQueryLog implements ExecutionListener {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long thresholdNanos;
+    private final int maxPerSecond;
+    private final Executor executor;
+    private final Consumer<String> sink;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+    private volatile Optional<Database> database = Optional.empty();
+
+    private SlowQueryLog(Builder builder) {
+        thresholdNanos = builder.threshold.toNanos();
+        maxPerSecond = builder.maxPerSecond;
+        executor = builder.executor;
+        sink = builder.sink;
+    }
+
+    public SlowQueryLog renderLiteralsWith(Database val) {
+        database = Optional.of(val);
+        return this;
+    }
+
+    public long suppressed() {
+        return suppressed.get();
+    }
+
+    @Override
+    public void closed(StatementExecution execution) {
+        if (execution.databaseNanos() < thresholdNanos) {
+            return;
+        }
+        if (!permit()) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        long suppressedSoFar = suppressed.getAndSet(0);
+        executor.execute(() -> sink.accept(message(execution, suppressedSoFar)));
+    }
+
+    String message(StatementExecution execution, long suppressedSoFar) {
+        StringBuilder message = new StringBuilder()
+            .append("Slow ").append(execution.type().name().toLowerCase())
+            .append(" [").append(execution.fingerprint()).append("] took ")
+            .append(TimeUnit.NANOSECONDS.toMillis(execution.databaseNanos())).append(" ms, ")
+            .append(execution.rows()).append(" rows, ")
+            .append(TimeUnit.NANOSECONDS.toMillis(execution.elapsedNanos())).append(" ms until closed");
+        execution.failure().ifPresent(e -> message.append(", failed with ").append(e));
+        if (suppressedSoFar > 0) {
+            message.append(" (").append(suppressedSoFar).append(" more suppressed)");
+        }
+        return message
+            .append(": ").append(render(execution.sql(), execution.args()))
+            .append(" [normalized: ").append(StatementExecution.normalize(execution.sql())).append("]")
+            .toString();
+    }
+
+    String render(String sql, List<Object> args) {
+        StringBuilder result = new StringBuilder(sql.length() + 16 * args.size());
+        Iterator<Object> values = args.iterator();
+        boolean inString = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inString = !inString;
+            }
+            if (c == '?' && !inString && values.hasNext()) {
+                result.append(literal(values.next()));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private boolean permit() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    private String literal(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return database
+            .flatMap(d -> dialectLiteral(d, value))
+            .orElseGet(() -> defaultLiteral(value));
+    }
+
+    private static <T> Optional<String> dialectLiteral(Database database, T value) {
+        try {
+            return Optional.of(database.getDataTypeOf(value).literal(database, value));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String defaultLiteral(Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof byte[]) {
+            return "X'" + BaseEncoding.base16().encode((byte[]) value) + "'";
+        }
+        if (value instanceof java.sql.Date) {
+            return "DATE '" + value + "'";
+        }
+        if (value instanceof java.sql.Time) {
+            return "TIME '" + value + "'";
+        }
+        if (value instanceof java.sql.Timestamp) {
+            return "TIMESTAMP '" + value + "'";
+        }
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Duration threshold = Duration.ofSeconds(1);
+        private int maxPerSecond = 10;
+        private Executor executor = ExecutorUtil.blockingExecutor();
+        private Consumer<String> sink = LOG::warn;
+
+        private Builder() {
+        }
+
+        public Builder threshold(Duration val) {
+            if (val.isNegative()) {
+                throw new IllegalArgumentException("The slow query threshold cannot be negative.");
+            }
+            threshold = val;
+            return this;
+        }
+
+        public Builder maxPerSecond(int val) {
+            if (val < 1) {
+                throw new IllegalArgumentException("The slow query log rate must be at least 1 per second.");
+            }
+            maxPerSecond = val;
+            return this;
+        }
+
+        public Builder executor(Executor val) {
+            executor = val;
+            return this;
+        }
+
+        public Builder sink(Consumer<String> val) {
+            sink = val;
+            return this;
+        }
+
+        public SlowQueryLog build() {
+            return new SlowQueryLog(this);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.core.lang.CompositeAutoCloseable;
+import com.cadenzauk.core.lang.UncheckedAutoCloseable;
+import com.cadenzauk.core.sql.ConnectionUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StatementCache implements UncheckedAutoCloseable {
+    private final Object lock = new Object[0];
+    private final Connection connection;
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Set<PreparedStatement> discarded = Collections.newSetFromMap(new IdentityHashMap<>());
+    private LinkedHashMap<String,PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(Connection connection, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The statement cache size cannot be negative.");
+        }
+        this.connection = connection;
+        this.maxSize = maxSize;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return statements == null ? 0 : statements.size();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() {
+        List<PreparedStatement> toClose;
+        synchronized (lock) {
+            if (statements == null) {
+                return;
+            }
+            toClose = new ArrayList<>(statements.values());
+            statements = null;
+        }
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            toClose.forEach(closeable::add);
+        }
+    }
+
+    Connection connection() {
+        return connection;
+    }
+
+    PreparedStatement prepare(String sql, CompositeAutoCloseable closeable) {
+        PreparedStatement statement = borrow(sql);
+        if (statement == null) {
+            misses.incrementAndGet();
+            statement = ConnectionUtil.prepare(connection, sql);
+        } else {
+            hits.incrementAndGet();
+        }
+        return closeable.add(statement, s -> release(sql, s));
+    }
+
+    void discard(PreparedStatement statement) {
+        synchronized (lock) {
+            discarded.add(statement);
+        }
+    }
+
+    private PreparedStatement borrow(String sql) {
+        synchronized (lock) {
+            return statements == null ? null : statements.remove(sql);
+        }
+    }
+
+    private void release(String sql, PreparedStatement statement) throws SQLException {
+        boolean wasDiscarded;
+        synchronized (lock) {
+            wasDiscarded = discarded.remove(statement);
+        }
+        if (maxSize == 0 || wasDiscarded) {
+            statement.close();
+            return;
+        }
+        List<PreparedStatement> toClose = new ArrayList<>();
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        synchronized (lock) {
+            if (statements == null) {
+                toClose.add(statement);
+            } else {
+                PreparedStatement displaced = statements.put(sql, statement);
+                if (displaced != null) {
+                    toClose.add(displaced);
+                }
+                Iterator<Map.Entry<String,PreparedStatement>> eldest = statements.entrySet().iterator();
+                while (statements.size() > maxSize) {
+                    toClose.add(eldest.next().getValue());
+                    eldest.remove();
+                }
+            }
+        }
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            toClose.forEach(closeable::add);
+        }
+    }
+}
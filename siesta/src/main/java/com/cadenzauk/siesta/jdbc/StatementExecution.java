@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class StatementExecution {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])[-+]?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_MEMOISED = 1024;
+    private static final ConcurrentMap<String,String> NORMALIZED = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String,String> FINGERPRINTS = new ConcurrentHashMap<>();
+
+    private final Type type;
+    private final String sql;
+    private final Object[] args;
+    private final long startNanos = System.nanoTime();
+    private String fingerprint;
+    private long rows;
+    private long endNanos;
+    private long databaseNanos;
+    private long fetchStartNanos;
+    private boolean fetching;
+    private Optional<RuntimeException> failure = Optional.empty();
+
+    StatementExecution(Type type, String sql, Object[] args) {
+        this.type = type;
+        this.sql = sql;
+        this.args = args;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public String fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = fingerprint(sql);
+        }
+        return fingerprint;
+    }
+
+    public int argCount() {
+        return args.length;
+    }
+
+    public List<Object> args() {
+        return Collections.unmodifiableList(Arrays.asList(args));
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long elapsedNanos() {
+        return (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos;
+    }
+
+    public long databaseNanos() {
+        return databaseNanos;
+    }
+
+    public Optional<RuntimeException> failure() {
+        return failure;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void addDatabaseNanos(long nanos) {
+        databaseNanos += nanos;
+    }
+
+    void startFetch() {
+        fetchStartNanos = System.nanoTime();
+        fetching = true;
+    }
+
+    void stopFetch() {
+        if (fetching) {
+            databaseNanos += System.nanoTime() - fetchStartNanos;
+            fetching = false;
+        }
+    }
+
+    void failed(RuntimeException exception) {
+        failure = Optional.of(exception);
+    }
+
+    void end() {
+        endNanos = System.nanoTime();
+    }
+
+    public static String normalize(String sql) {
+        return memoised(NORMALIZED, sql, StatementExecution::normalizeUncached);
+    }
+
+    public static String fingerprint(String sql) {
+        return memoised(FINGERPRINTS, sql, StatementExecution::fingerprintUncached);
+    }
+
+    private static String normalizeUncached(String sql) {
+        String withoutLiterals = NUMERIC_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?");
+        return WHITESPACE.matcher(IN_LIST.matcher(withoutLiterals).replaceAll("in (?)")).replaceAll(" ").trim();
+    }
+
+    private static String fingerprintUncached(String sql) {
+        return Hashing.murmur3_128()
+            .hashString(normalize(sql), StandardCharsets.UTF_8)
+            .toString()
+            .substring(0, 16);
+    }
+
+    private static String memoised(ConcurrentMap<String,String> cache, String sql, Function<String,String> function) {
+        String value = cache.get(sql);
+        if (value == null) {
+            value = function.apply(sql);
+            if (cache.size() >= MAX_MEMOISED) {
+                cache.clear();
+            }
+            cache.put(sql, value);
+        }
+        return value;
+    }
+
+    public enum Type {
+        QUERY,
+        UPDATE,
+        BATCH,
+        EXECUTE
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.core.concurrent.ConcurrentHistogram;
+
+public class StatementStatistics {
+    private final String fingerprint;
+    private final String sql;
+    private final ConcurrentHistogram.Snapshot elapsed;
+    private final ConcurrentHistogram.Snapshot firstRow;
+    private final long rows;
+    private final long failures;
+
+    StatementStatistics(String fingerprint, String sql, ConcurrentHistogram.Snapshot elapsed, ConcurrentHistogram.Snapshot firstRow, long rows, long failures) {
+        this.fingerprint = fingerprint;
+        this.sql = sql;
+        this.elapsed = elapsed;
+        this.firstRow = firstRow;
+        this.rows = rows;
+        this.failures = failures;
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public long count() {
+        return elapsed.count();
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long totalNanos() {
+        return elapsed.total();
+    }
+
+    public double meanNanos() {
+        return elapsed.mean();
+    }
+
+    public long maxNanos() {
+        return elapsed.max();
+    }
+
+    public long percentileNanos(double percentile) {
+        return elapsed.valueAtPercentile(percentile);
+    }
+
+    public long firstRowPercentileNanos(double percentile) {
+        return firstRow.valueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s count=%d failures=%d rows=%d mean=%.0fns p50=%dns p99=%dns max=%dns %s",
+            fingerprint, count(), failures, rows, meanNanos(), percentileNanos(50), percentileNanos(99), maxNanos(), sql);
+    }
+}
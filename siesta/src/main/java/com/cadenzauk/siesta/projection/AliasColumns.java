@@ -28,6 +28,7 @@ import com.cadenzauk.siesta.ColumnSpecifier;
 import com.cadenzauk.siesta.Projection;
 import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.collect.ImmutableList;
 
 import java.util.List;
@@ -48,6 +49,14 @@ public class AliasColumns<R> implements Projection<R> {
         return (distinct ? "distinct " : "") + alias.inSelectClauseSql(outer);
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope outer) {
+        if (distinct) {
+            writer.append("distinct ");
+        }
+        writer.append(alias.inSelectClauseSql(outer));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return Stream.empty();
@@ -27,6 +27,7 @@ import com.cadenzauk.siesta.ColumnSpecifier;
 import com.cadenzauk.siesta.Projection;
 import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.cadenzauk.siesta.grammar.expression.TypedExpression;
 import com.google.common.collect.ImmutableList;
 
@@ -51,6 +52,14 @@ public class ExpressionProjection<T> implements Projection<T> {
         return (distinct ? "distinct " : "") + projectionColumn.columnSql();
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        if (distinct) {
+            writer.append("distinct ");
+        }
+        writer.append(projectionColumn(scope).columnSql()).args(expression.args(scope));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return expression.args(scope);
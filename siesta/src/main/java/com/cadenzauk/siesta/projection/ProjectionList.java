@@ -28,6 +28,7 @@ import com.cadenzauk.siesta.ColumnSpecifier;
 import com.cadenzauk.siesta.Projection;
 import com.cadenzauk.siesta.ProjectionColumn;
 import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.grammar.SqlWriter;
 import com.google.common.collect.ImmutableList;
 
 import java.util.List;
@@ -55,6 +56,14 @@ public class ProjectionList<R> implements Projection<R> {
             .collect(joining(", "));
     }
 
+    @Override
+    public void render(SqlWriter writer, Scope scope) {
+        if (distinct) {
+            writer.append("distinct ");
+        }
+        writer.join(components, ", ", (c, w) -> c.render(w, scope));
+    }
+
     @Override
     public Stream<Object> args(Scope scope) {
         return components.stream().flatMap(x -> x.args(scope));
@@ -39,4 +39,14 @@ public class BooleanAsTinyInt extends DefaultDbType<Boolean> {
     public String literal(Database database, Boolean value) {
         return value ? "1" : "0";
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
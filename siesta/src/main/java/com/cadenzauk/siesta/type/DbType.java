@@ -74,4 +74,12 @@ public interface DbType<T> {
     default String castParameter(Database database, Optional<T> value) {
         return "cast(? as " + sqlTypeOf(database, value) + ")";
     }
+
+    default boolean parameterDependsOnValue(Database database) {
+        return true;
+    }
+
+    default boolean castParameterDependsOnValue(Database database) {
+        return true;
+    }
 }
@@ -72,7 +72,17 @@ public class DbTypeAdapter<T, D> implements DbType<T> {
         return type(database).parameter(database, value.map(toDatabase));
     }
 
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return type(database).parameterDependsOnValue(database);
+    }
+
     private DbType<D> type(Database database) {
         return database.dialect().type(databaseType);
     }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
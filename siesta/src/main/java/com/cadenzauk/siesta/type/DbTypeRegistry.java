@@ -28,8 +28,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class DbTypeRegistry {
     private final Map<DbTypeId<?>,DbType<?>> types = new ConcurrentHashMap<>();
+    private final Optional<DbTypeRegistry> parent;
 
     public DbTypeRegistry() {
+        parent = Optional.empty();
         this
             .register(DbTypeId.BOOLEAN, new DefaultBoolean())
             .register(DbTypeId.DECIMAL, new DefaultDecimal())
@@ -53,15 +55,26 @@ public class DbTypeRegistry {
         ;
     }
 
+    public DbTypeRegistry(DbTypeRegistry parent) {
+        this.parent = Optional.of(parent);
+    }
+
     public <T> DbTypeRegistry register(DbTypeId<T> dbTypeId, DbType<T> type) {
         types.put(dbTypeId, type);
         return this;
     }
 
-    @SuppressWarnings("unchecked")
     public <T> DbType<T> get(DbTypeId<T> dbTypeId) {
-        return Optional.ofNullable(types.get(dbTypeId))
-            .map(dt -> (DbType<T>) dt)
+        return find(dbTypeId)
             .orElseThrow(() -> new IllegalArgumentException("No dialect type for " + dbTypeId + " registered"));
     }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<DbType<T>> find(DbTypeId<T> dbTypeId) {
+        DbType<?> type = types.get(dbTypeId);
+        if (type != null) {
+            return Optional.of((DbType<T>) type);
+        }
+        return parent.flatMap(p -> p.find(dbTypeId));
+    }
 }
@@ -22,10 +22,22 @@
 
 package com.cadenzauk.siesta.type;
 
+import com.cadenzauk.siesta.Database;
+
 import java.sql.ResultSet;
 
 public class DefaultBigint extends DefaultDbType<Long> {
     public DefaultBigint() {
         super("bigint", ResultSet::getLong, ResultSet::getLong);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
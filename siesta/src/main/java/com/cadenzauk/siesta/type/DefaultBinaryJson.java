@@ -56,4 +56,14 @@ public class DefaultBinaryJson extends DefaultDbType<BinaryJson> {
         String json = rs.getString(colNo);
         return json == null ? null : new BinaryJson(json);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
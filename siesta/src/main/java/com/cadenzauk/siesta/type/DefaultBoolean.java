@@ -22,6 +22,8 @@
 
 package com.cadenzauk.siesta.type;
 
+import com.cadenzauk.siesta.Database;
+
 import java.sql.ResultSet;
 
 public class DefaultBoolean extends DefaultDbType<Boolean> {
@@ -32,4 +34,14 @@ public class DefaultBoolean extends DefaultDbType<Boolean> {
     public DefaultBoolean(String sqlType) {
         super(sqlType, ResultSet::getBoolean, ResultSet::getBoolean);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -66,4 +66,14 @@ public class DefaultDate implements DbType<LocalDate> {
     public String parameter(Database database, Optional<LocalDate> value) {
         return "cast(? as date)";
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
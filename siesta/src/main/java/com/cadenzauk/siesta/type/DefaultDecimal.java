@@ -22,6 +22,8 @@
 
 package com.cadenzauk.siesta.type;
 
+import com.cadenzauk.siesta.Database;
+
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 
@@ -29,4 +31,14 @@ public class DefaultDecimal extends DefaultDbType<BigDecimal> {
     public DefaultDecimal() {
         super("decimal", ResultSet::getBigDecimal, ResultSet::getBigDecimal);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
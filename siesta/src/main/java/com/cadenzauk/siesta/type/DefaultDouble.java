@@ -22,10 +22,22 @@
 
 package com.cadenzauk.siesta.type;
 
+import com.cadenzauk.siesta.Database;
+
 import java.sql.ResultSet;
 
 public class DefaultDouble extends DefaultDbType<Double> {
     public DefaultDouble() {
         super("double precision", ResultSet::getDouble, ResultSet::getDouble);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
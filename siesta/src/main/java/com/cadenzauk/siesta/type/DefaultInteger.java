@@ -22,10 +22,22 @@
 
 package com.cadenzauk.siesta.type;
 
+import com.cadenzauk.siesta.Database;
+
 import java.sql.ResultSet;
 
 public class DefaultInteger extends DefaultDbType<Integer> {
     public DefaultInteger() {
         super("integer", ResultSet::getInt, ResultSet::getInt);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -57,4 +57,14 @@ public class DefaultJson extends DefaultDbType<Json> {
         String json = rs.getString(colNo);
         return json == null ? null : new Json(json);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -35,4 +35,14 @@ public class DefaultReal extends DefaultDbType<Float> {
     public String literal(Database database, Float value) {
         return String.format("cast(%s as %s)", value, castType(database));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -35,4 +35,14 @@ public class DefaultSmallint extends DefaultDbType<Short> {
     public String literal(Database database, Short value) {
         return String.format("cast(%d as %s)", value, castType(database));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -65,4 +65,14 @@ public class DefaultTime implements DbType<LocalTime> {
     public String sqlType(Database database) {
         return "time";
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -65,4 +65,14 @@ public class DefaultTimestamp implements DbType<LocalDateTime> {
     public String parameter(Database database, Optional<LocalDateTime> value) {
         return "cast(? as timestamp)";
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
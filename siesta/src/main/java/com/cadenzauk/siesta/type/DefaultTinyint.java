@@ -39,4 +39,14 @@ public class DefaultTinyint extends DefaultDbType<Byte> {
     public String literal(Database database, Byte value) {
         return String.format("cast(%d as %s)", value, castType(database));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
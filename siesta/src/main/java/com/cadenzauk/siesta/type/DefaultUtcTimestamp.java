@@ -76,4 +76,14 @@ public class DefaultUtcTimestamp implements DbType<ZonedDateTime> {
     private static Timestamp getTimestamp(ResultSet resultSet, int columnNo, Database db) throws SQLException {
         return resultSet.getTimestamp(columnNo, new GregorianCalendar(TimeZone.getTimeZone(db.databaseTimeZone())));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
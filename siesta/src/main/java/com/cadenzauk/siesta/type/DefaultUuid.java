@@ -128,6 +128,11 @@ public class DefaultUuid implements DbType<UUID> {
         }
     }
 
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return !useUuid(database) && binaryType(database).parameterDependsOnValue(database);
+    }
+
     private DbType<byte[]> binaryType(Database database) {
         return database.dialect().type(DbTypeId.BINARY);
     }
@@ -149,4 +154,9 @@ public class DefaultUuid implements DbType<UUID> {
     private boolean useUuid(Database database) {
         return uuidIsSupported && database.isNotSet(DatabaseOptions.Option.UuidAsBinary);
     }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
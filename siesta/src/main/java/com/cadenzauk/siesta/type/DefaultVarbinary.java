@@ -41,4 +41,14 @@ public class DefaultVarbinary extends DefaultDbType<byte[]> {
     public String literal(Database database, byte[] value) {
         return String.format("X'%s'", hex(value));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -45,4 +45,9 @@ public class DefaultVarchar extends DefaultDbType<String> {
     public String sqlTypeOf(Database database, Optional<String> value) {
         return String.format("%s(%d)", sqlType(database), Integer.max(1, value.map(String::length).orElse(1)));
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
 }
@@ -70,4 +70,14 @@ public class EnumByName<T extends Enum<T>> implements DbType<T> {
     public static <T extends Enum<T>> DbTypeId<T> id(Class<T> javaClass) {
         return DbTypeId.of(javaClass);
     }
+
+    @Override
+    public boolean parameterDependsOnValue(Database database) {
+        return false;
+    }
+
+    @Override
+    public boolean castParameterDependsOnValue(Database database) {
+        return false;
+    }
 }
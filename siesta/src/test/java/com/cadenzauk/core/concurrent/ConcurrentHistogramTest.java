@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ConcurrentHistogramTest {
+    @Test
+    void emptyHistogram() {
+        ConcurrentHistogram.Snapshot snapshot = new ConcurrentHistogram().snapshot();
+
+        assertThat(snapshot.count(), is(0L));
+        assertThat(snapshot.valueAtPercentile(99), is(0L));
+        assertThat(snapshot.mean(), is(0.0));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        ConcurrentHistogram sut = new ConcurrentHistogram();
+        IntStream.rangeClosed(1, 20).forEach(sut::record);
+
+        ConcurrentHistogram.Snapshot snapshot = sut.snapshot();
+
+        assertThat(snapshot.count(), is(20L));
+        assertThat(snapshot.total(), is(210L));
+        assertThat(snapshot.max(), is(20L));
+        assertThat(snapshot.valueAtPercentile(50), is(10L));
+        assertThat(snapshot.valueAtPercentile(100), is(20L));
+    }
+
+    @Test
+    void largeValuesAreWithinBucketPrecision() {
+        ConcurrentHistogram sut = new ConcurrentHistogram();
+        IntStream.rangeClosed(1, 1000).forEach(i -> sut.record(i * 1_000_000L));
+
+        ConcurrentHistogram.Snapshot snapshot = sut.snapshot();
+
+        assertThat(snapshot.valueAtPercentile(50), allOf(greaterThanOrEqualTo(500_000_000L), lessThanOrEqualTo(516_000_000L)));
+        assertThat(snapshot.valueAtPercentile(99), allOf(greaterThanOrEqualTo(990_000_000L), lessThanOrEqualTo(1_000_000_000L)));
+        assertThat(snapshot.max(), is(1_000_000_000L));
+    }
+
+    @Test
+    void recordsLongMaxValue() {
+        ConcurrentHistogram sut = new ConcurrentHistogram();
+
+        sut.record(Long.MAX_VALUE);
+
+        assertThat(sut.snapshot().valueAtPercentile(50), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    void negativeValuesAreRejected() {
+        calling(() -> new ConcurrentHistogram().record(-1))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("Cannot record a negative value in a histogram."));
+    }
+
+    @Test
+    void percentileMustBeInRange() {
+        calling(() -> new ConcurrentHistogram().snapshot().valueAtPercentile(101))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The percentile must be between 0 and 100."));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class MergingSpliteratorTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private static Supplier<Stream<Integer>> range(int from, int to) {
+        return () -> IntStream.rangeClosed(from, to).boxed();
+    }
+
+    @Test
+    void orderedMergePreservesSourceOrder() {
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(range(1, 3), range(4, 4), range(5, 9));
+
+        List<Integer> result = MergingSpliterator.merge(sources, true, 2, executor).collect(toList());
+
+        assertThat(result, contains(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void unorderedMergeReturnsEveryItem() {
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(range(1, 3), range(4, 4), range(5, 9));
+
+        List<Integer> result = MergingSpliterator.merge(sources, false, 2, executor).collect(toList());
+
+        assertThat(result, containsInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void nullItemsArePassedThrough() {
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(() -> Stream.of(1, null, 3));
+
+        List<Integer> result = MergingSpliterator.merge(sources, true, 1, executor).collect(toList());
+
+        assertThat(result, contains(1, null, 3));
+    }
+
+    @Test
+    void noSourcesGivesAnEmptyStream() {
+        List<Integer> result = MergingSpliterator.<Integer>merge(ImmutableList.of(), true, 1, executor).collect(toList());
+
+        assertThat(result, empty());
+    }
+
+    @Test
+    void sourcesAreNotStartedUntilTheStreamIsConsumed() {
+        AtomicBoolean opened = new AtomicBoolean();
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(() -> {
+            opened.set(true);
+            return Stream.of(1);
+        });
+
+        Stream<Integer> result = MergingSpliterator.merge(sources, true, 1, Runnable::run);
+
+        assertThat(opened.get(), is(false));
+        assertThat(result.collect(toList()), contains(1));
+        assertThat(opened.get(), is(true));
+    }
+
+    @Test
+    void sourceFailureIsRethrown() {
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(range(1, 2), () -> {
+            throw new IllegalStateException("Boom");
+        });
+
+        calling(() -> MergingSpliterator.merge(sources, true, 1, executor).collect(toList()))
+            .shouldThrow(IllegalStateException.class)
+            .withMessage(is("Boom"));
+    }
+
+    @Test
+    void sourceErrorIsRethrown() {
+        List<Supplier<Stream<Integer>>> sources = ImmutableList.of(range(1, 2), () -> {
+            throw new NoClassDefFoundError("Bang");
+        });
+
+        calling(() -> MergingSpliterator.merge(sources, true, 1, executor).collect(toList()))
+            .shouldThrow(NoClassDefFoundError.class)
+            .withMessage(is("Bang"));
+    }
+
+    @Test
+    void closingTheStreamClosesTheSources() throws InterruptedException {
+        AtomicBoolean closed = new AtomicBoolean();
+        List<Supplier<Stream<Integer>>> sources = Arrays.asList(() -> IntStream.iterate(1, i -> i + 1).boxed().onClose(() -> closed.set(true)));
+
+        try (Stream<Integer> stream = MergingSpliterator.merge(sources, true, 1, executor)) {
+            assertThat(stream.limit(3).collect(toList()), contains(1, 2, 3));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void bufferSizeMustBePositive() {
+        calling(() -> MergingSpliterator.merge(ImmutableList.of(range(1, 2)), true, 0, executor))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The buffer size must be at least 1."));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class StreamPublisherTest {
+    private final AtomicInteger pulled = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Stream<Integer> source(int count) {
+        return IntStream.rangeClosed(1, count)
+            .boxed()
+            .peek(i -> pulled.incrementAndGet())
+            .onClose(() -> closed.set(true));
+    }
+
+    @Test
+    void doesNotOpenTheStreamUntilRequested() {
+        AtomicBoolean opened = new AtomicBoolean();
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> {
+            opened.set(true);
+            return source(5);
+        }, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+
+        assertThat(opened.get(), is(false));
+        assertThat(subscriber.items, empty());
+    }
+
+    @Test
+    void fetchesOnlyWhatIsRequested() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(5), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.items, contains(1, 2));
+        assertThat(pulled.get(), is(2));
+        assertThat(subscriber.completed, is(false));
+        assertThat(closed.get(), is(false));
+    }
+
+    @Test
+    void completesAndClosesWhenExhausted() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(3), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items, contains(1, 2, 3));
+        assertThat(subscriber.completed, is(true));
+        assertThat(subscriber.error, nullValue());
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void cancelClosesTheStreamWithoutSignalling() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(5), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items, contains(1));
+        assertThat(pulled.get(), is(1));
+        assertThat(closed.get(), is(true));
+        assertThat(subscriber.completed, is(false));
+        assertThat(subscriber.error, nullValue());
+    }
+
+    @Test
+    void canRequestMoreFromOnNext() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(4), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items, contains(1, 2, 3, 4));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    void nonPositiveRequestSignalsError() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(5), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.items, contains(1));
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void failureToOpenSignalsError() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> {
+            throw new IllegalStateException("Failed");
+        }, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items, empty());
+        assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void errorFromTheStreamIsSignalledAndTheStreamClosed() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(5).peek(i -> {
+            if (i == 2) {
+                throw new NoClassDefFoundError("Bang");
+            }
+        }), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.items, contains(1));
+        assertThat(subscriber.error, instanceOf(NoClassDefFoundError.class));
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void failureInOnNextCancelsWithoutSignalling() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(5), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                throw new IllegalStateException("Subscriber failed");
+            }
+        };
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.items, contains(1));
+        assertThat(pulled.get(), is(1));
+        assertThat(closed.get(), is(true));
+        assertThat(subscriber.completed, is(false));
+        assertThat(subscriber.error, nullValue());
+    }
+
+    @Test
+    void failureInOnCompleteStillClosesTheStream() {
+        StreamPublisher<Integer> sut = new StreamPublisher<>(() -> source(2), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onComplete() {
+                throw new IllegalStateException("Subscriber failed");
+            }
+        };
+        sut.subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        subscriber.subscription.cancel();
+
+        assertThat(subscriber.items, contains(1, 2));
+        assertThat(closed.get(), is(true));
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        protected Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.core.reflect;
+
+import com.cadenzauk.core.lang.RuntimeInstantiationException;
+import com.cadenzauk.core.reflect.util.ClassUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+class AccessorTest {
+    @Test
+    void cannotInstantiate() {
+        calling(() -> Factory.forClass(Accessor.class).get())
+            .shouldThrow(RuntimeException.class)
+            .withCause(InvocationTargetException.class)
+            .withCause(RuntimeInstantiationException.class);
+    }
+
+    @Test
+    void getterForMethod() throws NoSuchMethodException {
+        Function<AccessorTestClass,Object> getter = Accessor.getter(AccessorTestClass.class.getDeclaredMethod("count"));
+        AccessorTestClass target = new AccessorTestClass();
+        target.count = 42;
+
+        Object result = getter.apply(target);
+
+        assertThat(result, is(42));
+    }
+
+    @Test
+    void setterForMethod() throws NoSuchMethodException {
+        BiConsumer<AccessorTestClass,Object> setter = Accessor.setter(AccessorTestClass.class.getDeclaredMethod("withCount", int.class));
+        AccessorTestClass target = new AccessorTestClass();
+
+        setter.accept(target, 99);
+
+        assertThat(target.count, is(99));
+    }
+
+    @Test
+    void setterForMethodThatThrows() throws NoSuchMethodException {
+        BiConsumer<AccessorTestClass,Object> setter = Accessor.setter(AccessorTestClass.class.getDeclaredMethod("setName", String.class));
+        AccessorTestClass target = new AccessorTestClass();
+
+        calling(() -> setter.accept(target, null))
+            .shouldThrow(RuntimeException.class)
+            .withCause(InvocationTargetException.class)
+            .withCause(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getterForField() {
+        Function<AccessorTestClass,Object> getter = Accessor.getter(ClassUtil.getDeclaredField(AccessorTestClass.class, "name"));
+        AccessorTestClass target = new AccessorTestClass();
+        target.name = "Marion";
+
+        Object result = getter.apply(target);
+
+        assertThat(result, is("Marion"));
+    }
+
+    @Test
+    void setterForField() {
+        BiConsumer<AccessorTestClass,Object> setter = Accessor.setter(ClassUtil.getDeclaredField(AccessorTestClass.class, "count"));
+        AccessorTestClass target = new AccessorTestClass();
+
+        setter.accept(target, 17);
+
+        assertThat(target.count, is(17));
+    }
+
+    @Test
+    void constructor() throws NoSuchMethodException {
+        Supplier<AccessorTestClass> factory = Accessor.constructor(AccessorTestClass.class.getDeclaredConstructor());
+
+        AccessorTestClass result = factory.get();
+
+        assertThat(result, notNullValue());
+        assertThat(result.name, is("Unnamed"));
+    }
+
+    @SuppressWarnings("unused")
+    private static class AccessorTestClass {
+        private int count;
+        private String name;
+
+        private AccessorTestClass() {
+            name = "Unnamed";
+        }
+
+        private int count() {
+            return count;
+        }
+
+        private AccessorTestClass withCount(int count) {
+            this.count = count;
+            return this;
+        }
+
+        private void setName(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name");
+            }
+            this.name = name;
+        }
+    }
+}
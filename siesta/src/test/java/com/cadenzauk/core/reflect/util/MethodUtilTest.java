@@ -38,6 +38,7 @@ import java.util.stream.Stream;
 
 import static com.cadenzauk.core.testutil.FluentAssert.calling;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -121,6 +122,16 @@ class MethodUtilTest {
         assertThat(method.getDeclaringClass().getCanonicalName(), is(TestClass.class.getCanonicalName()));
     }
 
+    @Test
+    void fromReferenceIsCachedPerCallSite() {
+        Method[] methods = Stream.of(1, 2)
+            .map(i -> MethodUtil.fromReference(TestDerivedClass::derivedMethod))
+            .toArray(Method[]::new);
+
+        assertThat(methods[1], sameInstance(methods[0]));
+        assertThat(MethodUtil.referringClass(TestDerivedClass::derivedMethod), is(TestDerivedClass.class));
+    }
+
     @Test
     void annotationsPresent() {
         Method method = MethodUtil.fromReference(TestClass::method2);
@@ -47,8 +47,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.Column;
 import javax.persistence.Table;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.cadenzauk.core.testutil.FluentAssert.calling;
@@ -59,9 +62,11 @@ import static com.cadenzauk.siesta.grammar.expression.olap.Olap.rowNumber;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -82,6 +87,9 @@ class DatabaseTest {
     @Captor
     private ArgumentCaptor<Object[]> argCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgsCaptor;
+
     @SuppressWarnings("unused")
     @Table(name = "CUSTOMER")
     public static class Person {
@@ -255,7 +263,7 @@ class DatabaseTest {
     }
 
     @Test
-    void insertMultipleInOneStatement() {
+    void insertMultipleInOneBatch() {
         Database database = Database.newBuilder()
             .defaultSqlExecutor(sqlExecutor)
             .dialect(new H2Dialect())
@@ -266,19 +274,20 @@ class DatabaseTest {
 
         database.insert(salespersons);
 
-        verify(sqlExecutor).update(sqlCaptor.capture(), argCaptor.capture());
+        verify(sqlExecutor).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture(), eq(1000));
         verifyNoMoreInteractions(sqlExecutor);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
-            "values (?, ?, ?, ?, ?, ?), " +
-            "(?, ?, ?, ?, ?, ?)"));
-        assertThat(argCaptor.getValue(), arrayContaining(
+            "values (?, ?, ?, ?, ?, ?)"));
+        assertThat(batchArgsCaptor.getValue().get(0), arrayContaining(
             salespersons[0].salespersonId(),
             salespersons[0].firstName(),
             salespersons[0].middleNames().orElse(null),
             salespersons[0].surname(),
             salespersons[0].numberOfSales(),
-            salespersons[0].commission().orElse(null),
+            salespersons[0].commission().orElse(null)
+        ));
+        assertThat(batchArgsCaptor.getValue().get(1), arrayContaining(
             salespersons[1].salespersonId(),
             salespersons[1].firstName(),
             salespersons[1].middleNames().orElse(null),
@@ -289,7 +298,7 @@ class DatabaseTest {
     }
 
     @Test
-    void insertMultipleInOneStatementSqlExecutor() {
+    void insertMultipleInOneBatchSqlExecutor() {
         Database database = Database.newBuilder()
             .defaultSqlExecutor(sqlExecutor)
             .dialect(new H2Dialect())
@@ -300,19 +309,20 @@ class DatabaseTest {
 
         database.insert(sqlExecutor, salespersons);
 
-        verify(sqlExecutor).update(sqlCaptor.capture(), argCaptor.capture());
+        verify(sqlExecutor).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture(), eq(1000));
         verifyNoMoreInteractions(sqlExecutor);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
-            "values (?, ?, ?, ?, ?, ?), " +
-            "(?, ?, ?, ?, ?, ?)"));
-        assertThat(argCaptor.getValue(), arrayContaining(
+            "values (?, ?, ?, ?, ?, ?)"));
+        assertThat(batchArgsCaptor.getValue().get(0), arrayContaining(
             salespersons[0].salespersonId(),
             salespersons[0].firstName(),
             salespersons[0].middleNames().orElse(null),
             salespersons[0].surname(),
             salespersons[0].numberOfSales(),
-            salespersons[0].commission().orElse(null),
+            salespersons[0].commission().orElse(null)
+        ));
+        assertThat(batchArgsCaptor.getValue().get(1), arrayContaining(
             salespersons[1].salespersonId(),
             salespersons[1].firstName(),
             salespersons[1].middleNames().orElse(null),
@@ -323,7 +333,7 @@ class DatabaseTest {
     }
 
     @Test
-    void insertMultipleInOneStatementTransaction() {
+    void insertMultipleInOneBatchTransaction() {
         Database database = Database.newBuilder()
             .dialect(new H2Dialect())
             .build();
@@ -333,20 +343,23 @@ class DatabaseTest {
 
         database.insert(transaction, salespersons);
 
-        verify(transaction).update(sqlCaptor.capture(), argCaptor.capture());
+        verify(transaction).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture(), eq(1000));
         verifyNoMoreInteractions(sqlExecutor);
+        verify(transaction).afterCommit(any());
+        verify(transaction).afterRollback(any());
         verifyNoMoreInteractions(transaction);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
-            "values (?, ?, ?, ?, ?, ?), " +
-            "(?, ?, ?, ?, ?, ?)"));
-        assertThat(argCaptor.getValue(), arrayContaining(
+            "values (?, ?, ?, ?, ?, ?)"));
+        assertThat(batchArgsCaptor.getValue().get(0), arrayContaining(
             salespersons[0].salespersonId(),
             salespersons[0].firstName(),
             salespersons[0].middleNames().orElse(null),
             salespersons[0].surname(),
             salespersons[0].numberOfSales(),
-            salespersons[0].commission().orElse(null),
+            salespersons[0].commission().orElse(null)
+        ));
+        assertThat(batchArgsCaptor.getValue().get(1), arrayContaining(
             salespersons[1].salespersonId(),
             salespersons[1].firstName(),
             salespersons[1].middleNames().orElse(null),
@@ -356,6 +369,42 @@ class DatabaseTest {
         ));
     }
 
+    @Test
+    void insertAllInChunksTransaction() {
+        Database database = Database.newBuilder()
+            .dialect(new H2Dialect())
+            .batchSize(2)
+            .build();
+        List<SalespersonRow> salespersons = IntStream.range(0, 5)
+            .mapToObj(i -> IntegrationTest.aRandomSalesperson())
+            .collect(Collectors.toList());
+        when(transaction.batchUpdate(any(), any(), eq(2))).thenReturn(2);
+        when(transaction.update(any(), any())).thenReturn(1);
+
+        long result = database.insertAll(transaction, salespersons.stream());
+
+        assertThat(result, is(5L));
+        verify(transaction, times(2)).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture(), eq(2));
+        verify(transaction).update(sqlCaptor.capture(), argCaptor.capture());
+        verify(transaction).afterCommit(any());
+        verify(transaction).afterRollback(any());
+        verifyNoMoreInteractions(transaction);
+        assertThat(batchArgsCaptor.getAllValues().get(1).get(0)[0], is(salespersons.get(2).salespersonId()));
+        assertThat(argCaptor.getValue()[0], is(salespersons.get(4).salespersonId()));
+    }
+
+    @Test
+    void insertAllEmptyStream() {
+        Database database = Database.newBuilder()
+            .dialect(new H2Dialect())
+            .build();
+
+        long result = database.insertAll(transaction, Stream.empty());
+
+        assertThat(result, is(0L));
+        verifyNoInteractions(transaction);
+    }
+
     @Test
     void insertMultipleInOneStatementTransactionAsync() {
         Database database = Database.newBuilder()
@@ -370,6 +419,8 @@ class DatabaseTest {
 
         verify(transaction).updateAsync(sqlCaptor.capture(), argCaptor.capture());
         verifyNoMoreInteractions(sqlExecutor);
+        verify(transaction).afterCommit(any());
+        verify(transaction).afterRollback(any());
         verifyNoMoreInteractions(transaction);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
@@ -392,7 +443,7 @@ class DatabaseTest {
     }
 
     @Test
-    void insertMultipleInMultipleStatements() {
+    void insertMultipleInOneBatchWithoutMultiInsert() {
         Database database = Database.newBuilder()
             .defaultSqlExecutor(sqlExecutor)
             .dialect(new AnsiDialect())
@@ -403,12 +454,12 @@ class DatabaseTest {
 
         database.insert(salespersons);
 
-        verify(sqlExecutor, times(2)).update(sqlCaptor.capture(), argCaptor.capture());
+        verify(sqlExecutor).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture(), eq(1000));
         verifyNoMoreInteractions(sqlExecutor);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
             "values (?, ?, ?, ?, ?, ?)"));
-        assertThat(argCaptor.getAllValues().get(0), arrayContaining(
+        assertThat(batchArgsCaptor.getValue().get(0), arrayContaining(
             salespersons[0].salespersonId(),
             salespersons[0].firstName(),
             salespersons[0].middleNames().orElse(null),
@@ -416,7 +467,7 @@ class DatabaseTest {
             salespersons[0].numberOfSales(),
             salespersons[0].commission().orElse(null)
         ));
-        assertThat(argCaptor.getAllValues().get(1), arrayContaining(
+        assertThat(batchArgsCaptor.getValue().get(1), arrayContaining(
             salespersons[1].salespersonId(),
             salespersons[1].firstName(),
             salespersons[1].middleNames().orElse(null),
@@ -442,6 +493,8 @@ class DatabaseTest {
 
         assertThat(rowsUpdated, equalTo(2));
         verify(transaction, times(2)).updateAsync(sqlCaptor.capture(), argCaptor.capture());
+        verify(transaction).afterCommit(any());
+        verify(transaction).afterRollback(any());
         verifyNoMoreInteractions(transaction);
         assertThat(sqlCaptor.getValue(), is("insert into SIESTA.SALESPERSON " +
             "(SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, SURNAME, NUMBER_OF_SALES, COMMISSION) " +
@@ -487,6 +540,29 @@ class DatabaseTest {
         ));
     }
 
+    @Test
+    void updateTwiceReusesSql() {
+        Database database = Database.newBuilder()
+            .defaultSqlExecutor(sqlExecutor)
+            .build();
+        SalespersonRow first = IntegrationTest.aRandomSalesperson();
+        SalespersonRow second = IntegrationTest.aRandomSalesperson();
+
+        database.updateRow(first);
+        database.updateRow(second);
+
+        verify(sqlExecutor, times(2)).update(sqlCaptor.capture(), argCaptor.capture());
+        assertThat(sqlCaptor.getAllValues().get(0), sameInstance(sqlCaptor.getAllValues().get(1)));
+        assertThat(argCaptor.getAllValues().get(1), arrayContaining(
+            second.firstName(),
+            second.middleNames().orElse(null),
+            second.surname(),
+            second.numberOfSales(),
+            second.commission().orElse(null),
+            second.salespersonId()
+        ));
+    }
+
     @Test
     void updateSqlExecutor() {
         Database database = Database.newBuilder().build();
@@ -32,10 +32,19 @@ import com.cadenzauk.siesta.dialect.MySqlDialect;
 import com.cadenzauk.siesta.dialect.OracleDialect;
 import com.cadenzauk.siesta.dialect.PostgresDialect;
 import com.cadenzauk.siesta.dialect.SqlServerDialect;
+import com.cadenzauk.siesta.grammar.SqlWriter;
+import com.cadenzauk.siesta.json.BinaryJson;
+import com.cadenzauk.siesta.json.Json;
+import com.cadenzauk.siesta.type.DbType;
+import com.cadenzauk.siesta.type.DbTypeId;
+import com.cadenzauk.siesta.type.DefaultDbType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.sql.ResultSet;
+import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.stream.Stream;
 
@@ -81,6 +90,25 @@ class DialectTest {
         assertThat(result, is(expectedSql));
     }
 
+    @ParameterizedTest
+    @MethodSource("parametersForFetchFirst")
+    void fetchFirstIntoWriter(Dialect dialect, String expectedSql) {
+        SqlWriter writer = new SqlWriter().append("select * from invoices");
+
+        dialect.fetchFirst(writer, 0, 10, OptionalLong.empty());
+
+        assertThat(writer.sql(), is(expectedSql));
+    }
+
+    @Test
+    void sqlServerFetchFirstInsertsTopAtTheSelectStart() {
+        SqlWriter writer = new SqlWriter().append("with x as (select 1 as a) select distinct * from x");
+
+        new SqlServerDialect().fetchFirst(writer, 26, 10, OptionalLong.empty());
+
+        assertThat(writer.sql(), is("with x as (select 1 as a) select distinct top 10 * from x"));
+    }
+
     private static Stream<Arguments> parametersForFetchFirstWithOffset() {
         return Stream.of(
             testCase(new AnsiDialect(), "select * from invoices offset 20 rows fetch next 10 rows only"),
@@ -192,4 +220,46 @@ class DialectTest {
             expectSql);
         assertThat(sql, is(expectedResult));
     }
+
+    @Test
+    void db2JsonParameterIsSizedFromTheValue() {
+        Database database = Database.newBuilder().dialect(new Db2Dialect()).build();
+        DbType<Json> json = database.dialect().type(DbTypeId.JSON);
+
+        assertThat(json.parameterDependsOnValue(database), is(true));
+        assertThat(json.castParameterDependsOnValue(database), is(true));
+        assertThat(json.parameter(database, Optional.of(new Json("{\"a\":1}"))), is("cast(? as varchar(7))"));
+        assertThat(json.castParameter(database, Optional.of(new Json("[]"))), is("cast(? as varchar(2))"));
+    }
+
+    @Test
+    void db2BinaryJsonParameterIsSizedFromTheValue() {
+        Database database = Database.newBuilder().dialect(new Db2Dialect()).build();
+        DbType<BinaryJson> json = database.dialect().type(DbTypeId.JSONB);
+
+        assertThat(json.parameterDependsOnValue(database), is(true));
+        assertThat(json.castParameterDependsOnValue(database), is(true));
+        assertThat(json.parameter(database, Optional.of(new BinaryJson("{\"a\":1}"))), is("cast(? as varchar(7))"));
+    }
+
+    @Test
+    void customTypeParameterDependsOnValueByDefault() {
+        Database database = Database.newBuilder().dialect(new AnsiDialect()).build();
+        DbType<String> custom = new DefaultDbType<String>("text", ResultSet::getString, ResultSet::getString) {};
+
+        assertThat(custom.parameterDependsOnValue(database), is(true));
+        assertThat(custom.castParameterDependsOnValue(database), is(true));
+    }
+
+    @Test
+    void builtInTypesDependOnValueOnlyWhereTheirSqlDoes() {
+        Database database = Database.newBuilder().dialect(new AnsiDialect()).build();
+        DbType<Long> bigint = database.dialect().type(DbTypeId.BIGINT);
+        DbType<String> varchar = database.dialect().type(DbTypeId.VARCHAR);
+
+        assertThat(bigint.parameterDependsOnValue(database), is(false));
+        assertThat(bigint.castParameterDependsOnValue(database), is(false));
+        assertThat(varchar.parameterDependsOnValue(database), is(false));
+        assertThat(varchar.castParameterDependsOnValue(database), is(true));
+    }
 }
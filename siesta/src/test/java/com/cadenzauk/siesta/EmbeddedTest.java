@@ -26,6 +26,7 @@ import com.cadenzauk.siesta.dialect.AnsiDialect;
 import com.cadenzauk.siesta.grammar.expression.Aggregates;
 import com.cadenzauk.siesta.model.MoneyAmount;
 import com.cadenzauk.siesta.model.PartRow;
+import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -39,6 +40,10 @@ import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 
 import static com.cadenzauk.siesta.grammar.expression.TypedExpression.column;
@@ -51,6 +56,11 @@ import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
 class EmbeddedTest {
+    private static final List<String> PART_LABELS = ImmutableList.of(
+        "p_PART_ID", "p_WIDGET_ID", "p_DESCRIPTION",
+        "p_PURCHASE_PRICE_AMOUNT", "p_PURCHASE_PRICE_CCY",
+        "p_RETAIL_PRICE_AMOUNT", "p_RETAIL_PRICE_CCY");
+
     @Mock
     private SqlExecutor sqlExecutor;
 
@@ -128,6 +138,25 @@ class EmbeddedTest {
             "from CUSTOMER CUSTOMER"));
     }
 
+    @Test
+    void embeddedRowsAreMappedByOrdinal() throws SQLException {
+        Database database = testDatabase(new AnsiDialect());
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.findColumn(any())).thenAnswer(invocation -> PART_LABELS.indexOf(invocation.<String>getArgument(0)) + 1);
+        Mockito.when(resultSet.getLong(1)).thenReturn(4L);
+        Mockito.when(resultSet.getLong(2)).thenReturn(5L);
+        Mockito.when(resultSet.getString(3)).thenReturn("Nut");
+        Mockito.when(resultSet.getBigDecimal(4)).thenReturn(new BigDecimal("1.50"));
+        Mockito.when(resultSet.getString(5)).thenReturn("GBP");
+
+        PartRow result = database.table(PartRow.class).as("p").rowMapperFactory().rowMapper(Optional.empty()).mapRow(resultSet);
+
+        assertThat(result.partId(), is(4L));
+        assertThat(result.description(), is("Nut"));
+        assertThat(result.purchasePrice(), is(new MoneyAmount(new BigDecimal("1.50"), "GBP")));
+        assertThat(result.retailPrice(), is(Optional.empty()));
+    }
+
     @Embeddable
     private static class Address {
         private final String line1;
@@ -30,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.times;
@@ -119,4 +120,53 @@ class HiLoGeneratorTest {
         verify(sequence, times(3)).single();
         verifyNoMoreInteractions(sequence);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reserveSpansBlocks() {
+        when(sequence.single()).thenReturn(3L, 4L, 5L);
+        when(sequence.name()).thenReturn("BOB");
+        HiLoGenerator sut = HiLoGenerator.newBuilder(sequence)
+            .loSize(4)
+            .threshold(4)
+            .build();
+
+        long first = sut.single();
+        long[] result = sut.reserve(8).toArray();
+        long last = sut.single();
+
+        assertThat(first, is(9L));
+        assertThat(result, is(LongStream.range(10, 18).toArray()));
+        assertThat(last, is(18L));
+        verify(sequence, times(3)).single();
+        verifyNoMoreInteractions(sequence);
+    }
+
+    @Test
+    void reserveMultithreaded() {
+        when(sequence.single()).thenReturn(12L, 16L, 20L, 24L, 28L, 32L);
+        when(sequence.name()).thenReturn("BOB");
+        HiLoGenerator sut = HiLoGenerator.newBuilder(sequence)
+            .loSize(4)
+            .hiMultiplier(1)
+            .threshold(4)
+            .build();
+
+        long[] result = IntStream.range(0, 10)
+            .parallel()
+            .mapToObj(x -> sut.reserve(2))
+            .flatMapToLong(x -> x)
+            .sorted()
+            .toArray();
+
+        assertThat(result, is(LongStream.range(12, 32).toArray()));
+    }
+
+    @Test
+    void reserveNegative() {
+        HiLoGenerator sut = HiLoGenerator.newBuilder(sequence).build();
+
+        calling(() -> sut.reserve(-1))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("Cannot reserve a negative number of ids."));
+    }
+}
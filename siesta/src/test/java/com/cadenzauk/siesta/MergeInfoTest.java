@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta;
+
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.dialect.merge.MergeSpec;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+
+class MergeInfoTest {
+    private MergeSpec.Builder stagedSpec() {
+        return MergeSpec.newBuilder()
+            .targetTableName("SIESTA.WIDGET")
+            .targetAlias("w")
+            .columnNames(ImmutableList.of("WIDGET_ID", "NAME", "DESCRIPTION"))
+            .idColumnNames(ImmutableList.of("WIDGET_ID"))
+            .insertColumnNames(ImmutableList.of("WIDGET_ID", "NAME", "DESCRIPTION"))
+            .updateColumnNames(ImmutableList.of("NAME", "DESCRIPTION"))
+            .sourceAlias("s")
+            .sourceTableName("WIDGET_STAGE1")
+            .selectArgs(ImmutableList.of())
+            .insertArgs(ImmutableList.of());
+    }
+
+    @Test
+    void mergeSqlFromStagingTable() {
+        MergeInfo sut = new MergeInfo(new AnsiDialect());
+
+        String result = sut.mergeSql(stagedSpec().build());
+
+        assertThat(result, is("merge into SIESTA.WIDGET w using WIDGET_STAGE1 s on (w.WIDGET_ID = s.WIDGET_ID) " +
+            "when matched then update set NAME = s.NAME, DESCRIPTION = s.DESCRIPTION " +
+            "when not matched then insert(WIDGET_ID, NAME, DESCRIPTION) values(s.WIDGET_ID, s.NAME, s.DESCRIPTION)"));
+    }
+
+    @Test
+    void mergeArgsFromStagingTableIsEmpty() {
+        MergeInfo sut = new MergeInfo(new AnsiDialect());
+
+        Object[] result = sut.mergeArgs(stagedSpec().build());
+
+        assertThat(result, emptyArray());
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCacheTest {
+    private static final Set<String> WIDGET = ImmutableSet.of("SIESTA.WIDGET");
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Mock
+    private Transaction transaction;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<Consumer<Transaction>> afterCommit = ArgumentCaptor.forClass(Consumer.class);
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<Consumer<Transaction>> afterRollback = ArgumentCaptor.forClass(Consumer.class);
+
+    private List<String> query(String... rows) {
+        executions.incrementAndGet();
+        return ImmutableList.copyOf(rows);
+    }
+
+    @Test
+    void negativeSizeIsRejected() {
+        calling(() -> new QueryCache(-1))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage("The query cache size cannot be negative.");
+    }
+
+    @Test
+    void secondQueryIsServedFromTheCache() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+
+        List<String> first = sut.get("select 1", new Object[]{1L}, WIDGET, MINUTE, () -> query("A"));
+        List<String> second = sut.get("select 1", new Object[]{1L}, WIDGET, MINUTE, () -> query("B"));
+
+        assertThat(first, contains("A"));
+        assertThat(second, contains("A"));
+        assertThat(executions.get(), is(1));
+        assertThat(sut.hits(), is(1L));
+        assertThat(sut.misses(), is(1L));
+    }
+
+    @Test
+    void keyIncludesTheArguments() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+
+        sut.get("select 1", new Object[]{new byte[]{1}}, WIDGET, MINUTE, () -> query("A"));
+        List<String> same = sut.get("select 1", new Object[]{new byte[]{1}}, WIDGET, MINUTE, () -> query("B"));
+        List<String> different = sut.get("select 1", new Object[]{new byte[]{2}}, WIDGET, MINUTE, () -> query("C"));
+
+        assertThat(same, contains("A"));
+        assertThat(different, contains("C"));
+    }
+
+    @Test
+    void entriesExpire() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("A"));
+        ticker.addAndGet(MINUTE.toNanos());
+        List<String> result = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("B"));
+
+        assertThat(result, contains("B"));
+        assertThat(executions.get(), is(2));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        QueryCache sut = new QueryCache(2, ticker::get);
+
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("1"));
+        sut.get("select 2", new Object[0], WIDGET, MINUTE, () -> query("2"));
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("X"));
+        sut.get("select 3", new Object[0], WIDGET, MINUTE, () -> query("3"));
+        List<String> one = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("X"));
+        List<String> two = sut.get("select 2", new Object[0], WIDGET, MINUTE, () -> query("2 again"));
+
+        assertThat(one, contains("1"));
+        assertThat(two, contains("2 again"));
+        assertThat(sut.size(), is(2));
+    }
+
+    @Test
+    void invalidateRemovesEntriesForTheTable() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("A"));
+        sut.get("select 2", new Object[0], ImmutableSet.of("SIESTA.PART"), MINUTE, () -> query("B"));
+
+        sut.invalidate("SIESTA.WIDGET");
+
+        assertThat(sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("C")), contains("C"));
+        assertThat(sut.get("select 2", new Object[0], ImmutableSet.of("SIESTA.PART"), MINUTE, () -> query("D")), contains("B"));
+    }
+
+    @Test
+    void resultOfQueryOverlappingAnInvalidationIsNotCached() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> {
+            sut.invalidate("SIESTA.WIDGET");
+            return query("Stale");
+        });
+        List<String> result = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("Fresh"));
+
+        assertThat(result, contains("Fresh"));
+        assertThat(sut.size(), is(1));
+    }
+
+    @Test
+    void transactionInvalidationsApplyOnCommit() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("A"));
+
+        sut.invalidate(transaction, "SIESTA.WIDGET");
+        List<String> outside = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("B"));
+        List<String> inside = sut.get(transaction, "select 1", new Object[0], WIDGET, MINUTE, () -> query("C"));
+        verify(transaction).afterCommit(afterCommit.capture());
+        afterCommit.getValue().accept(transaction);
+        List<String> afterwards = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("D"));
+
+        assertThat(outside, contains("A"));
+        assertThat(inside, contains("C"));
+        assertThat(afterwards, contains("D"));
+    }
+
+    @Test
+    void transactionInvalidationsAreDiscardedOnRollback() {
+        QueryCache sut = new QueryCache(10, ticker::get);
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("A"));
+
+        sut.invalidate(transaction, "SIESTA.WIDGET");
+        verify(transaction).afterRollback(afterRollback.capture());
+        afterRollback.getValue().accept(transaction);
+        List<String> inside = sut.get(transaction, "select 1", new Object[0], WIDGET, MINUTE, () -> query("B"));
+
+        assertThat(inside, contains("A"));
+    }
+
+    @Test
+    void zeroSizeDisablesCaching() {
+        QueryCache sut = new QueryCache(0, ticker::get);
+
+        sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("A"));
+        List<String> result = sut.get("select 1", new Object[0], WIDGET, MINUTE, () -> query("B"));
+
+        assertThat(result, contains("B"));
+        assertThat(sut.size(), is(0));
+    }
+}
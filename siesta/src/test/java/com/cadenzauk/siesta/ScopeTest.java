@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta;
+
+import com.cadenzauk.siesta.model.ManufacturerRow;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.cadenzauk.siesta.model.WidgetRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ScopeTest {
+    private final Database database = Database.newBuilder().defaultSchema("SIESTA").build();
+    private final Alias<WidgetRow> w1 = database.table(WidgetRow.class).as("w1");
+    private final Alias<WidgetRow> w2 = database.table(WidgetRow.class).as("w2");
+    private final Alias<ManufacturerRow> m = database.table(ManufacturerRow.class).as("m");
+    private final ColumnSpecifier<String> widgetName = ColumnSpecifier.of(WidgetRow::name);
+
+    @Test
+    void findAliasByColumnOfUniqueClass() {
+        Scope sut = new Scope(database, m, w1);
+
+        Alias<?> result = sut.findAlias(widgetName, Optional.empty());
+
+        assertThat(result, sameInstance(w1));
+    }
+
+    @Test
+    void findAliasByColumnInOuterScope() {
+        Scope sut = new Scope(database, w1).plus(m);
+
+        Alias<?> result = sut.findAlias(widgetName, Optional.empty());
+
+        assertThat(result, sameInstance(w1));
+    }
+
+    @Test
+    void findAliasByColumnAmbiguous() {
+        Scope sut = new Scope(database, w1, w2, m);
+
+        calling(() -> sut.findAlias(widgetName, Optional.empty()))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("Ambiguous"));
+    }
+
+    @Test
+    void findAliasByColumnAndAliasName() {
+        Scope sut = new Scope(database, w1, w2, m);
+
+        Alias<?> result = sut.findAlias(widgetName, Optional.of("w2"));
+
+        assertThat(result, sameInstance(w2));
+    }
+
+    @Test
+    void findAliasByColumnAndAliasOfWrongClass() {
+        Scope sut = new Scope(database, w1, w2, m);
+
+        calling(() -> sut.findAlias(widgetName, Optional.of("m")))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("Alias m is an alias for com.cadenzauk.siesta.model.ManufacturerRow and not class com.cadenzauk.siesta.model.WidgetRow."));
+    }
+
+    @Test
+    void findAliasByColumnAndUnknownAliasName() {
+        Scope sut = new Scope(database, w1, w2, m);
+
+        calling(() -> sut.findAlias(widgetName, Optional.of("zz")))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("The aliases for com.cadenzauk.siesta.model.WidgetRow are w1, w2 and not 'zz'."));
+    }
+
+    @Test
+    void findAliasByColumnWithNoAliasForClass() {
+        Scope sut = new Scope(database, m);
+
+        calling(() -> sut.findAlias(widgetName, Optional.empty()))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("There is no alias for com.cadenzauk.siesta.model.WidgetRow in scope."));
+    }
+
+    @Test
+    void findAliasByClassAndName() {
+        Scope sut = new Scope(database, w1, w2).plus(m);
+
+        Alias<WidgetRow> result = sut.findAlias(WidgetRow.class, "w2");
+
+        assertThat(result, sameInstance(w2));
+    }
+
+    @Test
+    void findAliasByClassAndUnknownName() {
+        Scope sut = new Scope(database, w1, m);
+
+        calling(() -> sut.findAlias(WidgetRow.class, "q"))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("No such alias as q in scope."));
+    }
+
+    @Test
+    void findAliasByClass() {
+        Scope sut = new Scope(database, w1, m);
+
+        Alias<ManufacturerRow> result = sut.findAlias(ManufacturerRow.class);
+
+        assertThat(result, sameInstance(m));
+    }
+
+    @Test
+    void findAliasByClassAmbiguous() {
+        Scope sut = new Scope(database, w1, w2, m);
+
+        calling(() -> sut.findAlias(WidgetRow.class))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("More than one alias for class com.cadenzauk.siesta.model.WidgetRow in scope."));
+    }
+
+    @Test
+    void findAliasByClassNotInScope() {
+        Scope sut = new Scope(database, w1, m);
+
+        calling(() -> sut.findAlias(SalespersonRow.class))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("No alias for class com.cadenzauk.siesta.model.SalespersonRow in scope."));
+    }
+}
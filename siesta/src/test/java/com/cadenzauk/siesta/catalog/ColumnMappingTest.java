@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.catalog;
+
+import com.cadenzauk.siesta.Alias;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.model.WidgetRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnMappingTest {
+    @Mock
+    private ResultSet resultSet;
+
+    private Alias<WidgetRow> alias;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Database database = Database.newBuilder().defaultSchema("SIESTA").build();
+        alias = database.table(WidgetRow.class).as("w");
+        when(resultSet.findColumn("w_WIDGET_ID")).thenReturn(1);
+        when(resultSet.findColumn("w_NAME")).thenReturn(2);
+        when(resultSet.findColumn("w_MANUFACTURER_ID")).thenReturn(3);
+        when(resultSet.findColumn("w_DESCRIPTION")).thenReturn(4);
+    }
+
+    @Test
+    void rowFromOuterJoinWithNoMatchMapsToNull() throws SQLException {
+        when(resultSet.wasNull()).thenReturn(true);
+
+        WidgetRow result = alias.rowMapperFactory().rowMapper(Optional.empty()).mapRow(resultSet);
+
+        assertThat(result, nullValue());
+    }
+
+    @Test
+    void rowWithValuesIsBuilt() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(5L);
+        when(resultSet.getString(2)).thenReturn("Bolt");
+        when(resultSet.getLong(3)).thenReturn(7L);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        WidgetRow result = alias.rowMapperFactory().rowMapper(Optional.empty()).mapRow(resultSet);
+
+        assertThat(result.widgetId(), is(5L));
+        assertThat(result.name(), is("Bolt"));
+        assertThat(result.manufacturerId(), is(7L));
+        assertThat(result.description(), is(Optional.empty()));
+    }
+}
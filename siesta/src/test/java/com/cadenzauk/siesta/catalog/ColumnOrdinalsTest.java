@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.catalog;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnOrdinalsTest {
+    @Mock
+    private ResultSet resultSet1;
+
+    @Mock
+    private ResultSet resultSet2;
+
+    @Test
+    void ordinalsAreResolvedOncePerResultSet() throws SQLException {
+        when(resultSet1.findColumn("s_NAME")).thenReturn(2);
+        when(resultSet1.findColumn("s_ID")).thenReturn(1);
+        ColumnOrdinals sut = new ColumnOrdinals(ImmutableList.of("s_NAME", "s_ID"));
+
+        int[] first = sut.of(resultSet1);
+        int[] second = sut.of(resultSet1);
+
+        assertThat(first, is(new int[]{2, 1}));
+        assertThat(second, is(new int[]{2, 1}));
+        verify(resultSet1).findColumn("s_NAME");
+        verify(resultSet1).findColumn("s_ID");
+        verifyNoMoreInteractions(resultSet1);
+    }
+
+    @Test
+    void ordinalsAreResolvedAgainForANewResultSet() throws SQLException {
+        when(resultSet1.findColumn("s_NAME")).thenReturn(2);
+        when(resultSet2.findColumn("s_NAME")).thenReturn(5);
+        ColumnOrdinals sut = new ColumnOrdinals(ImmutableList.of("s_NAME"));
+
+        int[] first = sut.of(resultSet1);
+        int[] second = sut.of(resultSet2);
+
+        assertThat(first, is(new int[]{2}));
+        assertThat(second, is(new int[]{5}));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.catalog;
+
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.Dialect;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.dialect.DerbyDialect;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.cadenzauk.siesta.model.TestDatabase;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TableTest {
+    @Mock
+    private Transaction transaction;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgs;
+
+    private static Database database(Dialect dialect) {
+        return TestDatabase.testDatabaseBuilder()
+            .dialect(dialect)
+            .table(SalespersonRow.class, t -> t.column(SalespersonRow::surname, "LAST_NAME"))
+            .build();
+    }
+
+    private static List<SalespersonRow> rows() {
+        return ImmutableList.of(
+            SalespersonRow.newBuilder().salespersonId(1L).firstName("Joe").surname("Bloggs").build(),
+            SalespersonRow.newBuilder().salespersonId(2L).firstName("Jane").surname("Doe").build());
+    }
+
+    @Test
+    void upsertStagedStagesTheColumnsOfTheTable() {
+        Database database = database(new AnsiDialect());
+
+        database.upsertRowsStaged(transaction, rows());
+
+        verify(transaction).execute(sql.capture(), any());
+        assertThat(sql.getValue(), is("create temporary table SALESPERSON_STAGE1(LAST_NAME varchar(255), SALESPERSON_ID bigint, " +
+            "FIRST_NAME varchar(100), MIDDLE_NAMES varchar(100), NUMBER_OF_SALES integer, COMMISSION decimal(10,5))"));
+        verify(transaction).batchUpdate(sql.capture(), batchArgs.capture(), anyInt());
+        assertThat(sql.getValue(), is("insert into SALESPERSON_STAGE1 (LAST_NAME, SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, NUMBER_OF_SALES, COMMISSION) " +
+            "values (?, ?, ?, ?, ?, ?)"));
+        assertThat(batchArgs.getValue(), hasSize(2));
+        verify(transaction).update(sql.capture(), any());
+        assertThat(sql.getValue(), is("merge into SIESTA.SALESPERSON t using SALESPERSON_STAGE1 s on (t.SALESPERSON_ID = s.SALESPERSON_ID) " +
+            "when matched then update set LAST_NAME = s.LAST_NAME, FIRST_NAME = s.FIRST_NAME, MIDDLE_NAMES = s.MIDDLE_NAMES, NUMBER_OF_SALES = s.NUMBER_OF_SALES, COMMISSION = s.COMMISSION " +
+            "when not matched then insert(LAST_NAME, SALESPERSON_ID, FIRST_NAME, MIDDLE_NAMES, NUMBER_OF_SALES, COMMISSION) " +
+            "values(s.LAST_NAME, s.SALESPERSON_ID, s.FIRST_NAME, s.MIDDLE_NAMES, s.NUMBER_OF_SALES, s.COMMISSION)"));
+    }
+
+    @Test
+    void upsertStagedFallsBackToUpsertWhenTheDialectCannotUpsert() {
+        Database database = database(new DerbyDialect());
+
+        database.upsertRowsStaged(transaction, rows());
+
+        verify(transaction, never()).execute(anyString(), any());
+        verify(transaction, never()).batchUpdate(anyString(), any(), anyInt());
+        verify(transaction).update(sql.capture(), any());
+        assertThat(sql.getValue(), startsWith("merge into SIESTA.SALESPERSON t using (select * from (values "));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.dialect.merge;
+
+import com.cadenzauk.siesta.dialect.MySqlDialect;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+
+class MySqlMergeInfoTest {
+    private MergeSpec.Builder stagedSpec() {
+        return MergeSpec.newBuilder()
+            .targetTableName("SIESTA.WIDGET")
+            .targetAlias("w")
+            .columnNames(ImmutableList.of("WIDGET_ID", "NAME", "DESCRIPTION"))
+            .idColumnNames(ImmutableList.of("WIDGET_ID"))
+            .insertColumnNames(ImmutableList.of("WIDGET_ID", "NAME", "DESCRIPTION"))
+            .sourceAlias("s")
+            .sourceTableName("WIDGET_STAGE1")
+            .selectArgs(ImmutableList.of())
+            .insertArgs(ImmutableList.of());
+    }
+
+    @Test
+    void mergeSqlFromStagingTable() {
+        MySqlMergeInfo sut = new MySqlMergeInfo(new MySqlDialect());
+
+        String result = sut.mergeSql(stagedSpec().updateColumnNames(ImmutableList.of("NAME", "DESCRIPTION")).build());
+
+        assertThat(result, is("insert into SIESTA.WIDGET(WIDGET_ID, NAME, DESCRIPTION) " +
+            "select s.WIDGET_ID, s.NAME, s.DESCRIPTION from WIDGET_STAGE1 s " +
+            "on duplicate key update SIESTA.WIDGET.NAME = values(NAME), SIESTA.WIDGET.DESCRIPTION = values(DESCRIPTION)"));
+    }
+
+    @Test
+    void mergeSqlFromStagingTableWithNoUpdateColumns() {
+        MySqlMergeInfo sut = new MySqlMergeInfo(new MySqlDialect());
+
+        String result = sut.mergeSql(stagedSpec().updateColumnNames(ImmutableList.of()).build());
+
+        assertThat(result, is("insert into SIESTA.WIDGET(WIDGET_ID, NAME, DESCRIPTION) " +
+            "select s.WIDGET_ID, s.NAME, s.DESCRIPTION from WIDGET_STAGE1 s " +
+            "on duplicate key update SIESTA.WIDGET.WIDGET_ID = SIESTA.WIDGET.WIDGET_ID"));
+    }
+
+    @Test
+    void mergeArgsFromStagingTableIsEmpty() {
+        MySqlMergeInfo sut = new MySqlMergeInfo(new MySqlDialect());
+
+        Object[] result = sut.mergeArgs(stagedSpec().updateColumnNames(ImmutableList.of()).build());
+
+        assertThat(result, emptyArray());
+    }
+}
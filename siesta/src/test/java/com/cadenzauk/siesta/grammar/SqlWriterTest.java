@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cadenzauk.siesta.grammar;
+
+import com.cadenzauk.siesta.Alias;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.grammar.expression.BooleanExpression;
+import com.cadenzauk.siesta.grammar.expression.TypedExpression;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.siesta.grammar.expression.StringFunctions.upper;
+import static com.cadenzauk.siesta.model.TestDatabase.testDatabase;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class SqlWriterTest {
+    private static Arguments testCase(Function<Alias<SalespersonRow>,BooleanExpression> expression) {
+        return arguments(expression);
+    }
+
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> argsForRenderMatchesSqlAndArgs() {
+        return Stream.of(
+            testCase(s -> s.column(SalespersonRow::firstName).isEqualTo("Fred")),
+            testCase(s -> s.column(SalespersonRow::firstName).isEqualTo("Fred").and(SalespersonRow::surname).isNotEqualTo("Bloggs")),
+            testCase(s -> s.column(SalespersonRow::firstName).isEqualTo("Fred").or(SalespersonRow::surname).isEqualTo("Bloggs").and(SalespersonRow::numberOfSales).isGreaterThan(3)),
+            testCase(s -> s.column(SalespersonRow::salespersonId).isIn(1L, 2L, 3L)),
+            testCase(s -> s.column(SalespersonRow::numberOfSales).isBetween(1).and(5)),
+            testCase(s -> s.column(SalespersonRow::middleNames).isNull().and(upper(SalespersonRow::surname)).isLike("B%")),
+            testCase(s -> s.column(SalespersonRow::numberOfSales).isEqualTo(TypedExpression.value(2).plus(3).times(4)))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("argsForRenderMatchesSqlAndArgs")
+    void renderMatchesSqlAndArgs(Function<Alias<SalespersonRow>,BooleanExpression> expression) {
+        Database database = testDatabase(new AnsiDialect());
+        Alias<SalespersonRow> alias = database.table(SalespersonRow.class).as("s");
+        BooleanExpression sut = expression.apply(alias);
+        SqlWriter writer = new SqlWriter();
+
+        sut.render(writer, new Scope(database, alias));
+
+        assertThat(writer.sql(), is(sut.sql(new Scope(database, alias))));
+        assertThat(writer.args(), is(sut.args(new Scope(database, alias)).toArray()));
+    }
+
+    @Test
+    void emptyWriter() {
+        SqlWriter sut = new SqlWriter();
+
+        assertThat(sut.sql(), is(""));
+        assertThat(sut.args(), emptyArray());
+        assertThat(sut.length(), is(0));
+    }
+
+    @Test
+    void appendAndArg() {
+        SqlWriter sut = new SqlWriter(4);
+
+        sut.append("select ").append('?').arg(1).append(", ?").arg("two");
+
+        assertThat(sut.sql(), is("select ?, ?"));
+        assertThat(sut.args(), arrayContaining(1, "two"));
+    }
+
+    @Test
+    void joinCollection() {
+        SqlWriter sut = new SqlWriter();
+
+        sut.append("(").join(ImmutableList.of(1, 2, 3), ", ", (v, w) -> w.append("?").arg(v)).append(")");
+
+        assertThat(sut.sql(), is("(?, ?, ?)"));
+        assertThat(sut.args(), arrayContaining(1, 2, 3));
+    }
+
+    @Test
+    void joinArray() {
+        SqlWriter sut = new SqlWriter();
+
+        sut.join(new String[] {"a", "b"}, " and ", (v, w) -> w.append(v));
+
+        assertThat(sut.sql(), is("a and b"));
+        assertThat(sut.args(), emptyArray());
+    }
+
+    @Test
+    void appendWriter() {
+        SqlWriter inner = new SqlWriter().append("x = ?").arg(5);
+        SqlWriter sut = new SqlWriter().append("where ");
+
+        sut.append(inner);
+
+        assertThat(sut.sql(), is("where x = ?"));
+        assertThat(sut.args(), arrayContaining(5));
+    }
+
+    @Test
+    void insertAtOffset() {
+        SqlWriter sut = new SqlWriter().append("select * from x").arg("a");
+
+        sut.insert(7, "top 5 ");
+
+        assertThat(sut.sql(), is("select top 5 * from x"));
+        assertThat(sut.args(), arrayContaining("a"));
+    }
+
+    @Test
+    void startsWithAtOffset() {
+        SqlWriter sut = new SqlWriter().append("select distinct a");
+
+        assertThat(sut.startsWith("distinct ", 7), is(true));
+        assertThat(sut.startsWith("distinct ", 0), is(false));
+        assertThat(sut.startsWith("a ", 16), is(false));
+    }
+
+    @Test
+    void transformReplacesSql() {
+        SqlWriter sut = new SqlWriter().append("select 1").arg("a");
+
+        sut.transform(s -> s + " for update");
+
+        assertThat(sut.sql(), is("select 1 for update"));
+        assertThat(sut.args(), arrayContaining("a"));
+    }
+}
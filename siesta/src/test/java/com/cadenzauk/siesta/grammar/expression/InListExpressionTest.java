@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cadenzauk.siesta.grammar.expression;
+
+import com.cadenzauk.core.sql.SqlArray;
+import com.cadenzauk.siesta.Alias;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.Dialect;
+import com.cadenzauk.siesta.Scope;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.dialect.H2Dialect;
+import com.cadenzauk.siesta.dialect.OracleDialect;
+import com.cadenzauk.siesta.dialect.PostgresDialect;
+import com.cadenzauk.siesta.dialect.SqlServerDialect;
+import com.cadenzauk.siesta.grammar.SqlWriter;
+import com.cadenzauk.siesta.grammar.select.InWhereExpectingAnd;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static com.cadenzauk.siesta.grammar.expression.TypedExpression.literal;
+import static com.cadenzauk.siesta.grammar.expression.TypedExpression.value;
+import static com.cadenzauk.siesta.model.TestDatabase.testDatabaseBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InListExpressionTest {
+    @Mock
+    private Transaction transaction;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<Object[]> args;
+
+    private static Arguments testCase(Dialect dialect, Function<InWhereExpectingAnd<Long>,InWhereExpectingAnd<Long>> where, String expectedWhere, Object... expectedArgs) {
+        return arguments(dialect, where, expectedWhere, expectedArgs);
+    }
+
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> argsForLargeInList() {
+        return Stream.of(
+            testCase(new AnsiDialect(), w -> w, "s.SALESPERSON_ID in (?, ?)", 1L, 2L),
+            testCase(new AnsiDialect(), w -> w.and(SalespersonRow::surname).isNotIn("A", "B", "C"),
+                "s.SALESPERSON_ID in (?, ?) and (s.SURNAME not in (?, ?) and s.SURNAME not in (?))", 1L, 2L, "A", "B", "C"),
+            testCase(new OracleDialect(), w -> w.or(SalespersonRow::surname).isIn("A", "B", "C"),
+                "s.SALESPERSON_ID in (?, ?) or (s.SURNAME in (?, ?) or s.SURNAME in (?))", 1L, 2L, "A", "B", "C"),
+            testCase(new PostgresDialect(), w -> w.and(SalespersonRow::surname).isIn("A", "B", "C"),
+                "s.SALESPERSON_ID in (?, ?) and s.SURNAME = any(?)", 1L, 2L, new SqlArray("varchar", new Object[]{"A", "B", "C"})),
+            testCase(new H2Dialect(), w -> w.and(SalespersonRow::surname).isNotIn("A", "B", "C"),
+                "s.SALESPERSON_ID in (?, ?) and s.SURNAME <> all(?)", 1L, 2L, new SqlArray("varchar", new Object[]{"A", "B", "C"})),
+            testCase(new H2Dialect(), w -> w.and(SalespersonRow::surname).isIn(value("A"), literal("B"), value("C")),
+                "s.SALESPERSON_ID in (?, ?) and (s.SURNAME in (?, 'B') or s.SURNAME in (?))", 1L, 2L, "A", "C"),
+            testCase(new SqlServerDialect(), w -> w.and(SalespersonRow::surname).isIn("A", "B'C", "D"),
+                "s.SALESPERSON_ID in (?, ?) and (s.SURNAME in ('A', 'B''C') or s.SURNAME in ('D'))", 1L, 2L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("argsForLargeInList")
+    void largeInList(Dialect dialect, Function<InWhereExpectingAnd<Long>,InWhereExpectingAnd<Long>> where, String expectedWhere, Object[] expectedArgs) {
+        Database database = testDatabaseBuilder(dialect)
+            .largeInListThreshold(2)
+            .build();
+
+        where.apply(database.from(SalespersonRow.class, "s")
+                .select(SalespersonRow::salespersonId)
+                .where(SalespersonRow::salespersonId).isIn(1L, 2L))
+            .list(transaction);
+
+        verify(transaction).query(sql.capture(), args.capture(), any());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where " + expectedWhere));
+        assertThat(args.getValue(), is(expectedArgs));
+    }
+
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> argsForArgsMatchRenderedArgs() {
+        return Stream.of(
+            arguments(new AnsiDialect()),
+            arguments(new PostgresDialect()),
+            arguments(new H2Dialect()),
+            arguments(new SqlServerDialect())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("argsForArgsMatchRenderedArgs")
+    void argsMatchRenderedArgs(Dialect dialect) {
+        Database database = testDatabaseBuilder(dialect)
+            .largeInListThreshold(2)
+            .build();
+        Alias<SalespersonRow> alias = database.table(SalespersonRow.class).as("s");
+        Scope scope = new Scope(database, alias);
+        List<BooleanExpression> expressions = ImmutableList.of(
+            alias.column(SalespersonRow::surname).isIn("A", "B"),
+            alias.column(SalespersonRow::surname).isIn("A", "B", "C"),
+            alias.column(SalespersonRow::surname).isNotIn(value("A"), literal("B"), value("C")));
+
+        for (BooleanExpression expression : expressions) {
+            SqlWriter writer = new SqlWriter();
+            expression.render(writer, scope);
+
+            assertThat(expression.args(scope).toArray(), is(writer.args()));
+        }
+    }
+
+    @Test
+    void thresholdMustBePositive() {
+        Database.Builder builder = Database.newBuilder();
+
+        calling(() -> builder.largeInListThreshold(0))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The large IN list threshold must be at least 1."));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.ResultSetUtil;
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.SqlExecutor;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.cadenzauk.siesta.model.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarResultTest {
+    @Mock
+    private SqlExecutor sqlExecutor;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ColumnarResult sut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(sqlExecutor.stream(any(), any(), any())).thenAnswer(invocation -> ResultSetUtil.stream(resultSet, invocation.<RowMapper<?>>getArgument(2)));
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        when(resultSet.getString(2)).thenReturn("Ann", "Bob", "Ann");
+        when(resultSet.getString(3)).thenReturn(null, "J", null);
+        when(resultSet.getString(4)).thenReturn("Smith", "Smith", "Jones");
+        when(resultSet.getInt(5)).thenReturn(5, 7, 0);
+        when(resultSet.getBigDecimal(6)).thenReturn(new BigDecimal("1.5"), null, new BigDecimal("2.25"));
+        when(resultSet.wasNull()).thenReturn(false);
+
+        Database database = TestDatabase.testDatabaseBuilder()
+            .dialect(new AnsiDialect())
+            .build();
+        sut = database.from(SalespersonRow.class, "s").fetchColumnar(sqlExecutor);
+    }
+
+    @Test
+    void hasOneColumnPerProjectedColumn() {
+        assertThat(sut.rowCount(), is(3));
+        assertThat(sut.labels(), contains("s_SALESPERSON_ID", "s_FIRST_NAME", "s_MIDDLE_NAMES", "s_SURNAME", "s_NUMBER_OF_SALES", "s_COMMISSION"));
+    }
+
+    @Test
+    void longColumnsAreReadIntoLongArray() {
+        assertThat(sut.longColumn("s_SALESPERSON_ID").values(), is(new long[]{1L, 2L, 3L}));
+    }
+
+    @Test
+    void intColumnsAreReadIntoIntArray() {
+        assertThat(sut.intColumn("s_NUMBER_OF_SALES").values(), is(new int[]{5, 7, 0}));
+    }
+
+    @Test
+    void stringColumnsAreDictionaryEncoded() {
+        ColumnarResult.StringColumn firstNames = sut.stringColumn("s_FIRST_NAME");
+
+        assertThat(firstNames.codes(), is(new int[]{0, 1, 0}));
+        assertThat(firstNames.dictionary(), is(new String[]{"Ann", "Bob"}));
+        assertThat(firstNames.get(2), is("Ann"));
+    }
+
+    @Test
+    void nullsAreRecordedInBitmap() {
+        ColumnarResult.StringColumn middleNames = sut.stringColumn("s_MIDDLE_NAMES");
+
+        assertThat(middleNames.nullCount(), is(2));
+        assertThat(middleNames.isNull(0), is(true));
+        assertThat(middleNames.isNull(1), is(false));
+        assertThat(middleNames.get(0), nullValue());
+    }
+
+    @Test
+    void otherTypesAreReadThroughTheirDataType() {
+        ColumnarResult.ObjectColumn<BigDecimal> commission = sut.objectColumn("s_COMMISSION", BigDecimal.class);
+
+        assertThat(commission.get(2), is(new BigDecimal("2.25")));
+        assertThat(commission.isNull(1), is(true));
+    }
+
+    @Test
+    void columnOfWrongKindThrows() {
+        calling(() -> sut.doubleColumn("s_FIRST_NAME"))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("Column s_FIRST_NAME is not a double column."));
+    }
+
+    @Test
+    void unknownColumnThrows() {
+        calling(() -> sut.column("s_BOB"))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("There is no column labelled s_BOB in the result."));
+    }
+}
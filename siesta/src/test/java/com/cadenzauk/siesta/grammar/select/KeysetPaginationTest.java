@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InvalidQueryException;
+import com.cadenzauk.siesta.Order;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.dialect.OracleDialect;
+import com.cadenzauk.siesta.dialect.PostgresDialect;
+import com.cadenzauk.siesta.dialect.SqlServerDialect;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static com.cadenzauk.siesta.model.TestDatabase.testDatabase;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetPaginationTest {
+    @Mock
+    private Transaction transaction;
+    @Captor
+    private ArgumentCaptor<String> sql;
+    @Captor
+    private ArgumentCaptor<Object[]> args;
+    @Captor
+    private ArgumentCaptor<RowMapper<Long>> rowMapper;
+
+    @Test
+    void seekAfterUsesRowValueComparisonWhenSupported() {
+        Database database = testDatabase(new PostgresDialect());
+
+        database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::numberOfSales).isGreaterThan(10)
+            .orderBy(SalespersonRow::surname).then(SalespersonRow::salespersonId)
+            .seekAfter("Smith", 17L)
+            .list(transaction);
+
+        verify(transaction).query(sql.capture(), args.capture(), rowMapper.capture());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s " +
+            "where s.NUMBER_OF_SALES > ? and ((s.SURNAME, s.SALESPERSON_ID) > (?, ?)) " +
+            "order by s.SURNAME asc, s.SALESPERSON_ID asc"));
+        assertThat(args.getValue(), arrayContaining(10, "Smith", 17L));
+    }
+
+    @Test
+    void seekAfterExpandsComparisonWhenRowValuesNotSupported() {
+        Database database = testDatabase(new SqlServerDialect());
+
+        database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::surname).then(SalespersonRow::salespersonId)
+            .seekAfter("Smith", 17L)
+            .list(transaction);
+
+        verify(transaction).query(sql.capture(), args.capture(), rowMapper.capture());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s " +
+            "where (s.SURNAME > ? or (s.SURNAME = ? and s.SALESPERSON_ID > ?)) " +
+            "order by s.SURNAME asc, s.SALESPERSON_ID asc"));
+        assertThat(args.getValue(), arrayContaining("Smith", "Smith", 17L));
+    }
+
+    @Test
+    void seekAfterExpandsComparisonOnOracle() {
+        Database database = testDatabase(new OracleDialect());
+
+        database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::surname).then(SalespersonRow::salespersonId)
+            .seekAfter("Smith", 17L)
+            .list(transaction);
+
+        verify(transaction).query(sql.capture(), args.capture(), rowMapper.capture());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s " +
+            "where (s.SURNAME > ? or (s.SURNAME = ? and s.SALESPERSON_ID > ?)) " +
+            "order by s.SURNAME asc, s.SALESPERSON_ID asc"));
+        assertThat(args.getValue(), arrayContaining("Smith", "Smith", 17L));
+    }
+
+    @Test
+    void seekAfterExpandsComparisonForMixedDirections() {
+        Database database = testDatabase(new AnsiDialect());
+
+        database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::surname, Order.DESC).then(SalespersonRow::salespersonId)
+            .seekAfter("Smith", 17L)
+            .list(transaction);
+
+        verify(transaction).query(sql.capture(), args.capture(), rowMapper.capture());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s " +
+            "where (s.SURNAME < ? or (s.SURNAME = ? and s.SALESPERSON_ID > ?)) " +
+            "order by s.SURNAME desc, s.SALESPERSON_ID asc"));
+    }
+
+    @Test
+    void seekAfterRequiresOneValuePerOrderByClause() {
+        Database database = testDatabase(new AnsiDialect());
+        InOrderByExpectingThen<Long> select = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::surname).then(SalespersonRow::salespersonId);
+
+        calling(() -> select.seekAfter("Smith"))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage("Expected 2 key values to seek after but got 1.");
+    }
+
+    @Test
+    void seekAfterRequiresOrderByExpressions() {
+        Database database = testDatabase(new AnsiDialect());
+        InOrderByExpectingThen<Long> select = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(1);
+
+        calling(() -> select.seekAfter(17L))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage("Keyset pagination requires the order by clauses to be expressions rather than column numbers.");
+    }
+
+    @Test
+    void pagesSeekAfterTheLastRowOfEachPage() {
+        Database database = testDatabase(new AnsiDialect());
+        when(transaction.query(any(), any(), any()))
+            .thenReturn(ImmutableList.of(1L, 2L))
+            .thenReturn(ImmutableList.of(3L, 4L))
+            .thenReturn(ImmutableList.of(5L));
+
+        List<List<Long>> result = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::salespersonId)
+            .pages(transaction, 2, id -> ImmutableList.of(id))
+            .collect(Collectors.toList());
+
+        assertThat(result, contains(ImmutableList.of(1L, 2L), ImmutableList.of(3L, 4L), ImmutableList.of(5L)));
+        verify(transaction, times(3)).query(sql.capture(), args.capture(), rowMapper.capture());
+        assertThat(sql.getAllValues(), contains(
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s order by s.SALESPERSON_ID asc fetch first 2 rows only",
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.SALESPERSON_ID > ? order by s.SALESPERSON_ID asc fetch first 2 rows only",
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.SALESPERSON_ID > ? order by s.SALESPERSON_ID asc fetch first 2 rows only"));
+        assertThat(args.getAllValues().get(2), arrayContaining(4L));
+    }
+
+    @Test
+    void pagesStopsOnAnEmptyPage() {
+        Database database = testDatabase(new AnsiDialect());
+        when(transaction.query(any(), any(), any()))
+            .thenReturn(ImmutableList.of(1L, 2L))
+            .thenReturn(ImmutableList.of());
+
+        List<List<Long>> result = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::salespersonId)
+            .pages(transaction, 2, id -> ImmutableList.of(id))
+            .collect(Collectors.toList());
+
+        assertThat(result, contains(ImmutableList.of(1L, 2L)));
+    }
+
+    @Test
+    void pagesLeavesTheSelectUnchanged() {
+        Database database = testDatabase(new AnsiDialect());
+        when(transaction.query(any(), any(), any()))
+            .thenReturn(ImmutableList.of(1L, 2L))
+            .thenReturn(ImmutableList.of(3L));
+        InOrderByExpectingThen<Long> select = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .orderBy(SalespersonRow::salespersonId);
+
+        select.pages(transaction, 2, id -> ImmutableList.of(id)).collect(Collectors.toList());
+
+        assertThat(select.sql(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s order by s.SALESPERSON_ID asc"));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.core.tuple.Tuple;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InvalidQueryException;
+import com.cadenzauk.siesta.SqlExecutor;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static com.cadenzauk.siesta.model.TestDatabase.testDatabase;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelSelectTest {
+    @Mock
+    private SqlExecutor sqlExecutor;
+    @Captor
+    private ArgumentCaptor<String> sql;
+    @Captor
+    private ArgumentCaptor<Object[]> args;
+    @Captor
+    private ArgumentCaptor<RowMapper<?>> rowMappers;
+
+    @Test
+    void splitsTheKeyRangeIntoPartitions() {
+        Database database = testDatabase(new AnsiDialect());
+        doReturn(ImmutableList.of(Tuple.of(Optional.of(1L), Optional.of(10L)))).when(sqlExecutor).query(any(), any(), any());
+        when(sqlExecutor.stream(any(), any(), any())).thenReturn(Stream.of(1L, 2L, 3L), Stream.of(4L, 5L, 6L), Stream.of(7L, 8L, 9L, 10L), Stream.of());
+
+        List<Long> result = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::numberOfSales).isGreaterThan(10)
+            .parallel(3, SalespersonRow::salespersonId)
+            .executor(Runnable::run)
+            .list(sqlExecutor);
+
+        assertThat(result, contains(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+        verify(sqlExecutor).query(sql.capture(), args.capture(), any());
+        assertThat(sql.getValue(), is("select min(s.SALESPERSON_ID) as MIN_KEY, max(s.SALESPERSON_ID) as MAX_KEY " +
+            "from SIESTA.SALESPERSON s where s.NUMBER_OF_SALES > ?"));
+        assertThat(args.getValue(), arrayContaining(10));
+        verify(sqlExecutor, times(4)).stream(sql.capture(), args.capture(), any());
+        assertThat(sql.getAllValues().subList(1, 5), contains(
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.NUMBER_OF_SALES > ? and s.SALESPERSON_ID between ? and ?",
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.NUMBER_OF_SALES > ? and s.SALESPERSON_ID between ? and ?",
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.NUMBER_OF_SALES > ? and s.SALESPERSON_ID between ? and ?",
+            "select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.NUMBER_OF_SALES > ? and s.SALESPERSON_ID is null"));
+        assertThat(args.getAllValues().get(1), arrayContaining(10, 1L, 3L));
+        assertThat(args.getAllValues().get(2), arrayContaining(10, 4L, 6L));
+        assertThat(args.getAllValues().get(3), arrayContaining(10, 7L, 10L));
+        assertThat(args.getAllValues().get(4), arrayContaining(10));
+    }
+
+    @Test
+    void eachPartitionHasItsOwnRowMapper() {
+        Database database = testDatabase(new AnsiDialect());
+        doReturn(ImmutableList.of(Tuple.of(Optional.of(1L), Optional.of(10L)))).when(sqlExecutor).query(any(), any(), any());
+        when(sqlExecutor.stream(any(), any(), any())).thenReturn(Stream.of(), Stream.of(), Stream.of());
+
+        database.from(SalespersonRow.class, "s")
+            .parallel(2, SalespersonRow::salespersonId)
+            .executor(Runnable::run)
+            .list(sqlExecutor);
+
+        verify(sqlExecutor, times(3)).stream(any(), any(), rowMappers.capture());
+        Set<RowMapper<?>> distinct = Sets.newIdentityHashSet();
+        distinct.addAll(rowMappers.getAllValues());
+        assertThat(distinct, hasSize(3));
+    }
+
+    @Test
+    void onlyQueriesForNullKeysWhenThereIsNoRange() {
+        Database database = testDatabase(new AnsiDialect());
+        doReturn(ImmutableList.of(Tuple.of(Optional.empty(), Optional.empty()))).when(sqlExecutor).query(any(), any(), any());
+        when(sqlExecutor.stream(any(), any(), any())).thenReturn(Stream.of());
+
+        List<Long> result = database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .parallel(4, SalespersonRow::salespersonId)
+            .executor(Runnable::run)
+            .list(sqlExecutor);
+
+        assertThat(result, is(ImmutableList.of()));
+        verify(sqlExecutor).stream(sql.capture(), args.capture(), any());
+        assertThat(sql.getValue(), is("select s.SALESPERSON_ID as s_SALESPERSON_ID from SIESTA.SALESPERSON s where s.SALESPERSON_ID is null"));
+    }
+
+    @Test
+    void unsupportedKeyTypeIsRejected() {
+        Database database = testDatabase(new AnsiDialect());
+
+        calling(() -> database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .parallel(2, SalespersonRow::surname)
+            .list(sqlExecutor))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("Cannot partition a query on a key of type java.lang.String."));
+    }
+
+    @Test
+    void partitionsMustBePositive() {
+        Database database = testDatabase(new AnsiDialect());
+
+        calling(() -> database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .parallel(0, SalespersonRow::salespersonId)
+            .list(sqlExecutor))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The number of partitions must be at least 1."));
+    }
+
+    @Test
+    void fetchFirstIsRejected() {
+        Database database = testDatabase(new AnsiDialect());
+
+        calling(() -> database.from(SalespersonRow.class, "s")
+            .select(SalespersonRow::salespersonId)
+            .fetchFirst(10)
+            .parallel(2, SalespersonRow::salespersonId)
+            .list(sqlExecutor))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("Parallel execution is not supported for queries with group by, having, unions, offset or fetch first."));
+    }
+
+    @Test
+    void keyRangesSkipEmptyPartitions() {
+        KeyRanges<Integer> keyRanges = KeyRanges.forClass(Integer.class).orElseThrow();
+
+        assertThat(keyRanges.split(5, 6, 4), contains(Tuple.of(5, 5), Tuple.of(6, 6)));
+    }
+
+    @Test
+    void keyRangesSplitDates() {
+        KeyRanges<LocalDate> keyRanges = KeyRanges.forClass(LocalDate.class).orElseThrow();
+
+        assertThat(keyRanges.split(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 4), 2), contains(
+            Tuple.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2)),
+            Tuple.of(LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 4))));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.RowMapper;
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.SqlExecutor;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.grammar.expression.Parameter;
+import com.cadenzauk.siesta.model.SalespersonRow;
+import com.cadenzauk.siesta.model.TestDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PreparedSelectTest {
+    @Mock
+    private SqlExecutor sqlExecutor;
+
+    @Mock
+    private Transaction transaction;
+
+    @Captor
+    private ArgumentCaptor<String> sqlCaptor;
+
+    @Captor
+    private ArgumentCaptor<Object[]> argsCaptor;
+
+    @Captor
+    private ArgumentCaptor<RowMapper<Long>> rowMapperCaptor;
+
+    @Test
+    void prepareRendersSqlWithPlaceholders() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class))
+            .and(SalespersonRow::numberOfSales).isGreaterThan(10)
+            .prepare();
+
+        assertThat(sut.sql(), is("select p.SALESPERSON_ID as p_SALESPERSON_ID from SIESTA.SALESPERSON p where p.SURNAME = ? and p.NUMBER_OF_SALES > ?"));
+        assertThat(sut.parameterNames(), contains("surname"));
+    }
+
+    @Test
+    void executeWithBoundValues() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class))
+            .and(SalespersonRow::numberOfSales).isGreaterThan(10)
+            .prepare();
+
+        sut.bind("surname", "Kirk").list(sqlExecutor);
+        sut.bind("surname", "Picard").list(sqlExecutor);
+
+        verify(sqlExecutor, times(2)).query(sqlCaptor.capture(), argsCaptor.capture(), rowMapperCaptor.capture());
+        List<Object[]> args = argsCaptor.getAllValues();
+        assertThat(args.get(0), arrayContaining("Kirk", 10));
+        assertThat(args.get(1), arrayContaining("Picard", 10));
+        assertThat(sqlCaptor.getAllValues().get(1), sameInstance(sqlCaptor.getAllValues().get(0)));
+        assertThat(rowMapperCaptor.getAllValues().get(1), sameInstance(rowMapperCaptor.getAllValues().get(0)));
+    }
+
+    @Test
+    void executeWithTransaction() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::firstName).isEqualTo(Parameter.of("name", String.class))
+            .or(SalespersonRow::surname).isEqualTo(Parameter.of("name", String.class))
+            .prepare();
+
+        sut.bind("name", "James").list(transaction);
+
+        verify(transaction).query(sqlCaptor.capture(), argsCaptor.capture(), rowMapperCaptor.capture());
+        assertThat(argsCaptor.getValue(), arrayContaining("James", "James"));
+    }
+
+    @Test
+    void executeWithUnboundParameterThrows() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class))
+            .prepare();
+
+        calling(() -> sut.list(sqlExecutor))
+            .shouldThrow(IllegalStateException.class)
+            .withMessage(is("No value bound for parameter surname."));
+
+        verifyNoInteractions(sqlExecutor);
+    }
+
+    @Test
+    void bindUnknownParameterThrows() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class))
+            .prepare();
+
+        calling(() -> sut.bind("firstName", "James"))
+            .shouldThrow(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bindWrongTypeThrows() {
+        PreparedSelect<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class))
+            .prepare();
+
+        calling(() -> sut.bind("surname", 42))
+            .shouldThrow(IllegalArgumentException.class);
+    }
+
+    @Test
+    void executeUnpreparedSelectWithParameterThrows() {
+        Select<Long> sut = database().from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::surname).isEqualTo(Parameter.of("surname", String.class));
+
+        calling(() -> sut.list(sqlExecutor))
+            .shouldThrow(IllegalStateException.class);
+
+        verifyNoInteractions(sqlExecutor);
+    }
+
+    private Database database() {
+        return TestDatabase.testDatabaseBuilder()
+            .dialect(new AnsiDialect())
+            .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.select;
+
+import com.cadenzauk.core.sql.ResultSetUtil;
+import com.cadenzauk.siesta.NullPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.LongStream;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrimitiveRowsTest {
+    @Mock
+    private ResultSet resultSet;
+
+    private void givenLongsWithNullInMiddle() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 0L, 3L);
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+    }
+
+    @Test
+    void longStreamSkipsNulls() throws SQLException {
+        givenLongsWithNullInMiddle();
+
+        long[] result = PrimitiveRows.longStream(NullPolicy.SKIP, reader -> ResultSetUtil.stream(resultSet, reader)).toArray();
+
+        assertThat(result, is(new long[]{1L, 3L}));
+    }
+
+    @Test
+    void longStreamZerosNulls() throws SQLException {
+        givenLongsWithNullInMiddle();
+
+        long[] result = PrimitiveRows.longStream(NullPolicy.ZERO, reader -> ResultSetUtil.stream(resultSet, reader)).toArray();
+
+        assertThat(result, is(new long[]{1L, 0L, 3L}));
+    }
+
+    @Test
+    void longStreamKeepsEachValueWhenRowsAreMappedEagerly() throws SQLException {
+        givenLongsWithNullInMiddle();
+
+        long[] result = PrimitiveRows.longStream(NullPolicy.ZERO, reader -> ResultSetUtil.stream(resultSet, reader).collect(toList()).stream()).toArray();
+
+        assertThat(result, is(new long[]{1L, 0L, 3L}));
+    }
+
+    @Test
+    void longStreamFailsOnNull() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+
+        calling(() -> PrimitiveRows.longStream(NullPolicy.FAIL, reader -> ResultSetUtil.stream(resultSet, reader)).toArray())
+            .shouldThrow(IllegalStateException.class)
+            .withMessage(is("The select returned a null value; use onNull() to skip or zero nulls."));
+    }
+
+    @Test
+    void closingLongStreamClosesResultSet() throws SQLException {
+        try (LongStream ignored = PrimitiveRows.longStream(NullPolicy.FAIL, reader -> ResultSetUtil.stream(resultSet, reader))) {
+            verify(resultSet, never()).close();
+        }
+
+        verify(resultSet).close();
+    }
+
+    @Test
+    void intStreamReadsFirstColumn() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(7, 11);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        int[] result = PrimitiveRows.intStream(NullPolicy.FAIL, reader -> ResultSetUtil.stream(resultSet, reader)).toArray();
+
+        assertThat(result, is(new int[]{7, 11}));
+    }
+
+    @Test
+    void doubleStreamReadsFirstColumn() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getDouble(1)).thenReturn(1.5, 2.25);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        double[] result = PrimitiveRows.doubleStream(NullPolicy.FAIL, reader -> ResultSetUtil.stream(resultSet, reader)).toArray();
+
+        assertThat(result, is(new double[]{1.5, 2.25}));
+    }
+}
@@ -32,6 +32,7 @@ import com.cadenzauk.core.sql.RuntimeSqlException;
 import com.cadenzauk.core.tuple.Tuple2;
 import com.cadenzauk.core.tuple.Tuple3;
 import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.InvalidQueryException;
 import com.cadenzauk.siesta.IsolationLevel;
 import com.cadenzauk.siesta.LockLevel;
 import com.cadenzauk.siesta.Order;
@@ -62,6 +63,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -77,11 +79,13 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.RandomUtils.nextLong;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -98,8 +102,7 @@ class SelectTest {
     @Mock
     private Transaction transaction;
 
-    @Mock
-    private CompletableFuture<List<Long>> future;
+    private final CompletableFuture<List<Long>> future = new CompletableFuture<>();
 
     @Mock
     private RuntimeSqlException exception;
@@ -268,6 +271,22 @@ class SelectTest {
         verify(database).translateException(any(), eq(exception));
     }
 
+    @Test
+    void listAsyncWithSqlExecutorCommitsAfterTheQueryCompletes() {
+        Select<Long> sut = database().from(SalespersonRow.class, "q").select(SalespersonRow::salespersonId);
+        when(sqlExecutor.beginTransaction()).thenReturn(transaction);
+        when(transaction.queryAsync(any(), any(), anyRowMapper())).thenReturn(future);
+
+        CompletableFuture<List<Long>> result = sut.listAsync(sqlExecutor);
+        verify(transaction, never()).commit();
+        verify(transaction, never()).close();
+        future.complete(ImmutableList.of(1L));
+
+        assertThat(result.join(), contains(1L));
+        verify(transaction).commit();
+        verify(transaction).close();
+    }
+
     @Test
     void listAsyncWithTransactionUsesThatAndNotTheDefaultSqlExecutor() {
         Select<Long> sut = database().from(SalespersonRow.class, "r").select(SalespersonRow::salespersonId).where(SalespersonRow::middleNames).isEqualTo("Tiberius");
@@ -1421,6 +1440,84 @@ class SelectTest {
         assertThat(result.sql(), is("with cte(col) as (select 1 as col from DUAL) select bob.VALUE as bob_VALUE from cte bob"));
     }
 
+    @Test
+    void toLongArrayWithoutArgsUsesTheDefaultSqlExecutor() {
+        Select<Long> sut = database().from(SalespersonRow.class, "p").select(SalespersonRow::salespersonId).where(SalespersonRow::firstName).isEqualTo("James");
+        when(defaultSqlExecutor.stream(any(), any(), any())).thenReturn(Stream.empty());
+
+        long[] result = sut.toLongArray();
+
+        assertThat(result.length, is(0));
+        verify(defaultSqlExecutor).stream(sqlCaptor.capture(), argsCaptor.capture(), any());
+        assertThat(sqlCaptor.getValue(), is("select p.SALESPERSON_ID as p_SALESPERSON_ID from SIESTA.SALESPERSON p where p.FIRST_NAME = ?"));
+        assertThat(argsCaptor.getValue(), arrayContaining("James"));
+    }
+
+    @Test
+    void longStreamWithTransactionUsesTransaction() {
+        Select<Long> sut = database().from(SalespersonRow.class, "p").select(SalespersonRow::salespersonId);
+        when(transaction.stream(any(), any(), any())).thenReturn(Stream.empty());
+
+        long result = sut.longStream(transaction).count();
+
+        assertThat(result, is(0L));
+        verify(transaction).stream(sqlCaptor.capture(), any(), any());
+        assertThat(sqlCaptor.getValue(), is("select p.SALESPERSON_ID as p_SALESPERSON_ID from SIESTA.SALESPERSON p"));
+        verifyNoInteractions(defaultSqlExecutor);
+    }
+
+    @Test
+    void toLongArrayRequiresSingleColumnProjection() {
+        Select<SalespersonRow> sut = database().from(SalespersonRow.class, "p");
+
+        calling(() -> sut.toLongArray(sqlExecutor))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("Primitive results require a projection of exactly one column."));
+    }
+
+    @Test
+    void toLongArrayRejectsNonNumericColumn() {
+        Select<String> sut = database().from(SalespersonRow.class, "p").select(SalespersonRow::firstName);
+
+        calling(() -> sut.toLongArray(sqlExecutor))
+            .shouldThrow(InvalidQueryException.class)
+            .withMessage(is("Primitive results require a numeric column but the column is of type java.lang.String."));
+        verifyNoInteractions(sqlExecutor);
+    }
+
+    @Test
+    void cachedSelectIsInvalidatedByChangesToTablesInSubqueries() {
+        Database database = database();
+        when(transaction.query(any(), any(), anyRowMapper())).thenReturn(ImmutableList.of(1L), ImmutableList.of(2L));
+        Select<Long> sut = database.from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .where(SalespersonRow::salespersonId).isIn(database.from(SalesAreaRow.class, "a").select(SalesAreaRow::salespersonId))
+            .cached(Duration.ofMinutes(1));
+
+        List<Long> first = sut.list(transaction);
+        database.queryCache().invalidate("SIESTA.SALES_AREA");
+        List<Long> second = sut.list(transaction);
+
+        assertThat(first, contains(1L));
+        assertThat(second, contains(2L));
+    }
+
+    @Test
+    void uncommittedReadIsNotCached() {
+        Database database = database();
+        when(transaction.query(any(), any(), anyRowMapper())).thenReturn(ImmutableList.of(1L), ImmutableList.of(2L));
+        Select<Long> sut = database.from(SalespersonRow.class, "p")
+            .select(SalespersonRow::salespersonId)
+            .withIsolation(IsolationLevel.UNCOMMITTED_READ)
+            .cached(Duration.ofMinutes(1));
+
+        sut.list(transaction);
+        List<Long> second = sut.list(transaction);
+
+        assertThat(second, contains(2L));
+        assertThat(database.queryCache().size(), is(0));
+    }
+
     private Database database() {
         return Mockito.spy(TestDatabase.testDatabaseBuilder()
             .dialect(new AnsiDialect())
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.grammar.temp;
+
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.Transaction;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.cadenzauk.siesta.dialect.FirebirdDialect;
+import com.cadenzauk.siesta.model.TestDatabase;
+import com.cadenzauk.siesta.model.WidgetRow;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocalTempTableTest {
+    @Mock
+    private Transaction transaction;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> args;
+
+    private static List<WidgetRow> rows() {
+        return ImmutableList.of(aWidget(1L, "A"), aWidget(2L, "B"), aWidget(3L, "CC"));
+    }
+
+    private static WidgetRow aWidget(long id, String name) {
+        return WidgetRow.newBuilder()
+            .widgetId(id)
+            .manufacturerId(2L)
+            .name(name)
+            .build();
+    }
+
+    @Test
+    void insertAllBatchesRowsWithTheSameSql() {
+        Database database = TestDatabase.testDatabase(new AnsiDialect());
+        TempTable<WidgetRow> sut = LocalTempTable.newBuilder(database, WidgetRow.class).tableName("WIDGET_STAGE").build();
+        when(transaction.batchUpdate(anyString(), any(), anyInt())).thenAnswer(i -> i.<List<?>>getArgument(1).size());
+
+        int result = sut.insertAll(transaction, rows());
+
+        assertThat(result, is(3));
+        verify(transaction).batchUpdate(sql.capture(), args.capture(), anyInt());
+        assertThat(sql.getAllValues(), contains("insert into WIDGET_STAGE (WIDGET_ID, NAME, MANUFACTURER_ID, DESCRIPTION) values (?, ?, ?, ?)"));
+        assertThat(args.getValue(), hasSize(3));
+    }
+
+    @Test
+    void insertAllSplitsBatchesWhenTheSqlDependsOnTheValues() {
+        Database database = TestDatabase.testDatabase(new FirebirdDialect());
+        TempTable<WidgetRow> sut = LocalTempTable.newBuilder(database, WidgetRow.class).tableName("WIDGET_STAGE").build();
+        when(transaction.batchUpdate(anyString(), any(), anyInt())).thenAnswer(i -> i.<List<?>>getArgument(1).size());
+
+        int result = sut.insertAll(transaction, rows());
+
+        assertThat(result, is(3));
+        verify(transaction, times(2)).batchUpdate(sql.capture(), args.capture(), anyInt());
+        assertThat(sql.getAllValues(), contains(
+            "insert into WIDGET_STAGE (WIDGET_ID, NAME, MANUFACTURER_ID, DESCRIPTION) values (?, cast(? as varchar(1)), ?, cast(? as varchar(1)))",
+            "insert into WIDGET_STAGE (WIDGET_ID, NAME, MANUFACTURER_ID, DESCRIPTION) values (?, cast(? as varchar(2)), ?, cast(? as varchar(1)))"));
+        assertThat(args.getAllValues().get(0), hasSize(2));
+        assertThat(args.getAllValues().get(1), hasSize(1));
+    }
+
+    @Test
+    void insertAllOfNoRowsDoesNothing() {
+        Database database = TestDatabase.testDatabase(new AnsiDialect());
+        TempTable<WidgetRow> sut = LocalTempTable.newBuilder(database, WidgetRow.class).tableName("WIDGET_STAGE").build();
+
+        int result = sut.insertAll(transaction, ImmutableList.of());
+
+        assertThat(result, is(0));
+        verifyNoInteractions(transaction);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ExecutionStatisticsTest {
+    @Test
+    void fingerprintIgnoresLiteralsAndWhitespace() {
+        assertThat(StatementExecution.fingerprint("select * from foo where id = 1 and name = 'Fred'"),
+            is(StatementExecution.fingerprint("select *  from foo\nwhere id = 42 and name = 'Barney'")));
+        assertThat(StatementExecution.fingerprint("select * from foo where id = 1"),
+            not(StatementExecution.fingerprint("select * from bar where id = 1")));
+        assertThat(StatementExecution.fingerprint("select * from foo1"),
+            not(StatementExecution.fingerprint("select * from foo2")));
+    }
+
+    @Test
+    void fingerprintIsMemoisedPerStatement() {
+        String sql = "select * from foo where id = 1 and name = 'Fred'";
+
+        assertThat(StatementExecution.fingerprint(sql), sameInstance(StatementExecution.fingerprint(sql)));
+        assertThat(StatementExecution.normalize(sql), sameInstance(StatementExecution.normalize(sql)));
+    }
+
+    @Test
+    void aggregatesByFingerprint() {
+        ExecutionStatistics sut = new ExecutionStatistics();
+
+        sut.closed(execution("select * from foo where id = ?", 3, null));
+        sut.closed(execution("select * from foo where id = ?", 1, new RuntimeException()));
+        sut.closed(execution("select * from bar", 5, null));
+
+        List<StatementStatistics> snapshot = sut.snapshot();
+        StatementStatistics foo = sut.statistics(StatementExecution.fingerprint("select * from foo where id = ?")).orElseThrow();
+        assertThat(snapshot.size(), is(2));
+        assertThat(foo.count(), is(2L));
+        assertThat(foo.rows(), is(4L));
+        assertThat(foo.failures(), is(1L));
+        assertThat(foo.sql(), is("select * from foo where id = ?"));
+    }
+
+    @Test
+    void resetClearsStatistics() {
+        ExecutionStatistics sut = new ExecutionStatistics();
+        sut.closed(execution("select * from bar", 5, null));
+
+        sut.reset();
+
+        assertThat(sut.snapshot().isEmpty(), is(true));
+    }
+
+    private static StatementExecution execution(String sql, long rows, RuntimeException failure) {
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.QUERY, sql, new Object[] {1});
+        execution.addRows(rows);
+        if (failure != null) {
+            execution.failed(failure);
+        }
+        execution.end();
+        return execution;
+    }
+}
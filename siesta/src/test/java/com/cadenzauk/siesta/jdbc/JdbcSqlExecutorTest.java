@@ -25,6 +25,9 @@ package com.cadenzauk.siesta.jdbc;
 import com.cadenzauk.core.lang.CompositeAutoCloseable;
 import com.cadenzauk.core.sql.RowMapper;
 import com.cadenzauk.core.sql.RuntimeSqlException;
+import com.cadenzauk.siesta.Dialect;
+import com.cadenzauk.siesta.dialect.HSqlDialect;
+import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +41,8 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
@@ -46,7 +51,9 @@ import java.util.stream.Stream;
 import static com.cadenzauk.core.testutil.FluentAssert.calling;
 import static org.apache.commons.lang3.ArrayUtils.toArray;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.any;
@@ -295,6 +302,68 @@ class JdbcSqlExecutorTest {
         verifyNoMoreInteractions(connection, preparedStatement, resultSet, rowMapper);
     }
 
+    @Test
+    void batchUpdate() throws SQLException {
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1}).thenReturn(new int[] {Statement.SUCCESS_NO_INFO});
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource);
+        String sql = "insert into foo (num) values (?)";
+
+        int result = sut.batchUpdate(connection, sql, ImmutableList.of(toArray(1), toArray(2), toArray(3)), 2);
+
+        verify(connection).prepareStatement(sql);
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement).setObject(1, 3);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).close();
+        verifyNoMoreInteractions(connection, preparedStatement, resultSet, rowMapper);
+        assertThat(result, is(3));
+    }
+
+    @Test
+    void batchUpdateWhenExecuteThrows() throws SQLException {
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("Batch failed."));
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource);
+        String sql = "insert into foo (num) values (?)";
+
+        calling(() -> sut.batchUpdate(connection, sql, ImmutableList.of(toArray(1), toArray(2)), 10))
+            .shouldThrow(RuntimeSqlException.class)
+            .withCause(SQLException.class)
+            .withMessage(is("Batch failed."));
+
+        verify(connection).prepareStatement(sql);
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement).close();
+        verifyNoMoreInteractions(connection, preparedStatement, resultSet, rowMapper);
+    }
+
+    @Test
+    void batchUpdateWhenExecuteThrowsDoesNotReuseCachedStatement() throws SQLException {
+        PreparedStatement secondStatement = Mockito.mock(PreparedStatement.class);
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("Batch failed."));
+        when(secondStatement.executeBatch()).thenReturn(new int[] {1});
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource);
+        StatementCache statements = new StatementCache(connection, 2);
+        String sql = "insert into foo (num) values (?)";
+
+        calling(() -> sut.batchUpdate(statements, sql, ImmutableList.of(toArray(1), toArray(2)), 10))
+            .shouldThrow(RuntimeSqlException.class)
+            .withMessage(is("Batch failed."));
+        Mockito.doReturn(secondStatement).when(connection).prepareStatement(sql);
+        int result = sut.batchUpdate(statements, sql, ImmutableList.of(toArray(3)), 10);
+
+        assertThat(result, is(1));
+        assertThat(statements.misses(), is(2L));
+        verify(preparedStatement).close();
+        verify(secondStatement).addBatch();
+        verify(secondStatement).executeBatch();
+        verify(secondStatement).clearBatch();
+    }
+
     @Test
     void metadata() throws SQLException {
         Mockito.reset(connection);
@@ -333,4 +402,131 @@ class JdbcSqlExecutorTest {
         verify(updateExecutor).execute(any());
         verifyNoMoreInteractions(updateExecutor, queryExecutor);
     }
+
+    @Test
+    void dialectIsDetectedOncePerExecutor() throws SQLException {
+        Mockito.reset(connection);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metadata);
+        when(metadata.getDatabaseProductName()).thenReturn("HSQL Database Engine");
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource);
+
+        Dialect first = sut.dialect();
+        Dialect second = sut.withStatementCacheSize(10).dialect();
+
+        assertThat(first, instanceOf(HSqlDialect.class));
+        assertThat(second, instanceOf(HSqlDialect.class));
+        assertThat(second, not(sameInstance(first)));
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).close();
+    }
+
+    @Test
+    void negativeStatementCacheSizeIsRejected() {
+        Mockito.reset(connection);
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource);
+
+        calling(() -> sut.withStatementCacheSize(-1))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The statement cache size cannot be negative."));
+    }
+
+    @Test
+    void executionListenerSeesQueryLifecycle() throws SQLException {
+        RecordingListener listener = new RecordingListener();
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true).thenReturn(true).thenReturn(false);
+        when(rowMapper.mapRow(resultSet)).thenReturn("Fred").thenReturn("Barney");
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource).withExecutionListener(listener);
+        String sql = "select name from foo where bar = ?";
+
+        sut.query(connection, sql, toArray(2L), rowMapper);
+
+        assertThat(listener.events, contains("prepared", "executed", "firstRow", "closed"));
+        assertThat(listener.closed.sql(), is(sql));
+        assertThat(listener.closed.type(), is(StatementExecution.Type.QUERY));
+        assertThat(listener.closed.argCount(), is(1));
+        assertThat(listener.closed.rows(), is(2L));
+        assertThat(listener.closed.failure().isPresent(), is(false));
+    }
+
+    @Test
+    void executionListenerSeesUpdateFailure() throws SQLException {
+        RecordingListener listener = new RecordingListener();
+        when(preparedStatement.executeUpdate()).thenThrow(new SQLException("Update failed."));
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource).withExecutionListener(listener);
+
+        calling(() -> sut.update(connection, "update foo set bar = ?", toArray(1)))
+            .shouldThrow(RuntimeSqlException.class);
+
+        assertThat(listener.events, contains("prepared", "closed"));
+        assertThat(listener.closed.type(), is(StatementExecution.Type.UPDATE));
+        assertThat(listener.closed.failure().isPresent(), is(true));
+    }
+
+    @Test
+    void executionListenerSeesEachBatch() throws SQLException {
+        RecordingListener listener = new RecordingListener();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1}).thenReturn(new int[] {1});
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource).withExecutionListener(listener);
+
+        sut.batchUpdate(connection, "insert into foo (num) values (?)", ImmutableList.of(toArray(1), toArray(2), toArray(3)), 2);
+
+        assertThat(listener.events, contains("prepared", "batch 2", "batch 1", "closed"));
+        assertThat(listener.closed.type(), is(StatementExecution.Type.BATCH));
+        assertThat(listener.closed.rows(), is(3L));
+    }
+
+    @Test
+    void executionListenerFailureDoesNotFailTheStatement() throws SQLException {
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public void executed(StatementExecution execution, long nanos) {
+                throw new IllegalStateException("Listener failed.");
+            }
+
+            @Override
+            public void closed(StatementExecution execution) {
+                throw new IllegalStateException("Listener failed.");
+            }
+        };
+        when(preparedStatement.executeUpdate()).thenReturn(5);
+        JdbcSqlExecutor sut = JdbcSqlExecutor.of(dataSource).withExecutionListener(listener);
+
+        int result = sut.update(connection, "update foo set num = ?", toArray(3));
+
+        assertThat(result, is(5));
+        verify(preparedStatement).close();
+    }
+
+    private static class RecordingListener implements ExecutionListener {
+        private final List<String> events = new ArrayList<>();
+        private StatementExecution closed;
+
+        @Override
+        public void prepared(StatementExecution execution, long nanos) {
+            events.add("prepared");
+        }
+
+        @Override
+        public void executed(StatementExecution execution, long nanos) {
+            events.add("executed");
+        }
+
+        @Override
+        public void firstRow(StatementExecution execution, long nanos) {
+            events.add("firstRow");
+        }
+
+        @Override
+        public void batchExecuted(StatementExecution execution, int rows, long nanos) {
+            events.add("batch " + rows);
+        }
+
+        @Override
+        public void closed(StatementExecution execution) {
+            events.add("closed");
+            closed = execution;
+        }
+    }
 }
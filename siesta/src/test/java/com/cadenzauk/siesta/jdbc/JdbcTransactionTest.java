@@ -23,24 +23,33 @@
 package com.cadenzauk.siesta.jdbc;
 
 import com.cadenzauk.core.RandomValues;
+import com.cadenzauk.core.lang.CompositeAutoCloseable;
 import com.cadenzauk.core.sql.RowMapper;
 import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -80,6 +89,25 @@ class JdbcTransactionTest {
         verifyNoMoreInteractions(sqlExecutor, connection);
     }
 
+    @Test
+    void afterCommitHooksRunOnceAfterTheCommit() throws SQLException {
+        when(sqlExecutor.connect()).thenReturn(connection);
+        JdbcTransaction sut = new JdbcTransaction(sqlExecutor);
+        List<String> calls = new ArrayList<>();
+        sut.beforeCommit(t -> calls.add("before"));
+        sut.afterCommit(t -> calls.add("after"));
+        sut.afterRollback(t -> calls.add("rollback"));
+
+        sut.commit();
+        sut.commit();
+        sut.rollback();
+
+        assertThat(calls, contains("before", "after"));
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection, times(2)).commit();
+        inOrder.verify(connection).rollback();
+    }
+
     @Test
     void rollback() throws SQLException {
         when(sqlExecutor.connect()).thenReturn(connection);
@@ -148,6 +176,74 @@ class JdbcTransactionTest {
         verifyNoMoreInteractions(sqlExecutor, connection);
     }
 
+    @Test
+    void asyncUpdatesRunInSubmissionOrderBeforeCommit() throws SQLException {
+        List<Runnable> tasks = new ArrayList<>();
+        when(sqlExecutor.connect()).thenReturn(connection);
+        when(sqlExecutor.updateExecutor()).thenReturn(tasks::add);
+        when(sqlExecutor.update(connection, "first", new Object[0])).thenReturn(1);
+        when(sqlExecutor.update(connection, "second", new Object[0])).thenReturn(2);
+        JdbcTransaction sut = new JdbcTransaction(sqlExecutor);
+
+        CompletableFuture<Integer> first = sut.updateAsync("first", new Object[0]);
+        CompletableFuture<Integer> second = sut.updateAsync("second", new Object[0]);
+        assertThat(tasks.size(), is(1));
+        tasks.remove(0).run();
+        assertThat(tasks.size(), is(1));
+        tasks.remove(0).run();
+        sut.commit();
+
+        assertThat(first.join(), is(1));
+        assertThat(second.join(), is(2));
+        InOrder inOrder = inOrder(sqlExecutor, connection);
+        inOrder.verify(sqlExecutor).update(connection, "first", new Object[0]);
+        inOrder.verify(sqlExecutor).update(connection, "second", new Object[0]);
+        inOrder.verify(connection).commit();
+    }
+
+    @Test
+    void commitRethrowsFailureOfAsyncUpdate() throws SQLException {
+        when(sqlExecutor.connect()).thenReturn(connection);
+        when(sqlExecutor.updateExecutor()).thenReturn(Runnable::run);
+        when(sqlExecutor.update(connection, "first", new Object[0])).thenThrow(new IllegalStateException("Bang."));
+        when(sqlExecutor.update(connection, "second", new Object[0])).thenReturn(2);
+        JdbcTransaction sut = new JdbcTransaction(sqlExecutor);
+
+        CompletableFuture<Integer> first = sut.updateAsync("first", new Object[0]);
+        CompletableFuture<Integer> second = sut.updateAsync("second", new Object[0]);
+
+        calling(sut::commit)
+            .shouldThrow(IllegalStateException.class)
+            .withMessage("Bang.");
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(second.join(), is(2));
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    void asyncUpdateWaitsForOpenStreamToClose() throws SQLException {
+        List<Runnable> tasks = new ArrayList<>();
+        when(sqlExecutor.connect()).thenReturn(connection);
+        when(sqlExecutor.updateExecutor()).thenReturn(tasks::add);
+        when(sqlExecutor.update(connection, "update", new Object[0])).thenReturn(1);
+        RowMapper<String> rowMapper = s -> "Hello";
+        List<CompositeAutoCloseable> closeables = new ArrayList<>();
+        when(sqlExecutor.stream(eq(connection), eq("query"), eq(new Object[0]), eq(rowMapper), any())).thenAnswer(invocation -> {
+            closeables.add(invocation.getArgument(4));
+            return stream;
+        });
+        JdbcTransaction sut = new JdbcTransaction(sqlExecutor);
+
+        sut.stream("query", new Object[0], rowMapper);
+        CompletableFuture<Integer> result = sut.updateAsync("update", new Object[0]);
+        assertThat(tasks.size(), is(0));
+        closeables.get(0).close();
+        assertThat(tasks.size(), is(1));
+        tasks.remove(0).run();
+
+        assertThat(result.join(), is(1));
+    }
+
     @Test
     void update() throws SQLException {
         when(sqlExecutor.connect()).thenReturn(connection);
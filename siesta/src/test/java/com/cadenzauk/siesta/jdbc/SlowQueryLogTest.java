@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.siesta.Database;
+import com.cadenzauk.siesta.dialect.AnsiDialect;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+class SlowQueryLogTest {
+    private final List<String> logged = new ArrayList<>();
+
+    private SlowQueryLog.Builder builder() {
+        return SlowQueryLog.newBuilder()
+            .executor(Runnable::run)
+            .sink(logged::add);
+    }
+
+    private static StatementExecution execution(String sql, Object... args) {
+        StatementExecution execution = new StatementExecution(StatementExecution.Type.QUERY, sql, args);
+        execution.addRows(2);
+        execution.end();
+        return execution;
+    }
+
+    @Test
+    void fastStatementsAreNotLogged() {
+        SlowQueryLog sut = builder().threshold(Duration.ofHours(1)).build();
+
+        sut.closed(execution("select * from foo"));
+
+        assertThat(logged, empty());
+    }
+
+    @Test
+    void slowStatementsAreLoggedWithBoundValues() {
+        SlowQueryLog sut = builder().threshold(Duration.ZERO).build();
+        String sql = "select * from foo where name = ? and note = '?' and id = ?";
+
+        sut.closed(execution(sql, "O'Brien", 42));
+
+        assertThat(logged.size(), is(1));
+        assertThat(logged.get(0), startsWith("Slow query [" + StatementExecution.fingerprint(sql) + "] took "));
+        assertThat(logged.get(0), endsWith(" ms until closed: select * from foo where name = 'O''Brien' and note = '?' and id = 42" +
+            " [normalized: select * from foo where name = ? and note = ? and id = ?]"));
+    }
+
+    @Test
+    void thresholdAppliesToDatabaseTimeOnly() {
+        SlowQueryLog sut = builder().threshold(Duration.ofMinutes(1)).build();
+        StatementExecution slow = new StatementExecution(StatementExecution.Type.QUERY, "select * from foo", new Object[0]);
+        slow.addDatabaseNanos(TimeUnit.MINUTES.toNanos(2));
+        slow.end();
+
+        sut.closed(slow);
+
+        assertThat(logged.size(), is(1));
+        assertThat(logged.get(0), containsString(" took 120000 ms, 0 rows, "));
+    }
+
+    @Test
+    void literalsAreRenderedByTheDialectWhenADatabaseIsGiven() {
+        Database database = Database.newBuilder().dialect(new AnsiDialect()).build();
+        SlowQueryLog sut = builder().threshold(Duration.ZERO).build().renderLiteralsWith(database);
+
+        assertThat(sut.render("select * from foo where d = ?", ImmutableList.of(LocalDate.of(2026, 10, 18))),
+            is("select * from foo where d = " + database.getDataTypeOf(LocalDate.class).literal(database, LocalDate.of(2026, 10, 18))));
+    }
+
+    @Test
+    void loggingIsRateLimited() {
+        SlowQueryLog sut = builder().threshold(Duration.ZERO).maxPerSecond(2).build();
+
+        sut.closed(execution("select 1"));
+        sut.closed(execution("select 2"));
+        sut.closed(execution("select 3"));
+        sut.closed(execution("select 4"));
+
+        assertThat(logged.size(), is(2));
+        assertThat(sut.suppressed(), is(2L));
+    }
+
+    @Test
+    void fingerprintCollapsesInLists() {
+        assertThat(StatementExecution.normalize("select * from foo where id in (?, ?,?) and x = 'a'"),
+            is("select * from foo where id in (?) and x = ?"));
+        assertThat(StatementExecution.fingerprint("select * from foo where id in (1, 2)"),
+            is(StatementExecution.fingerprint("select * from foo where id IN (?)")));
+    }
+
+    @Test
+    void maxPerSecondMustBePositive() {
+        calling(() -> SlowQueryLog.newBuilder().maxPerSecond(0))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The slow query log rate must be at least 1 per second."));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Cadenza United Kingdom Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cadenzauk.siesta.jdbc;
+
+import com.cadenzauk.core.lang.CompositeAutoCloseable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static com.cadenzauk.core.testutil.FluentAssert.calling;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCacheTest {
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement1;
+
+    @Mock
+    private PreparedStatement statement2;
+
+    @Test
+    void negativeSizeIsRejected() {
+        calling(() -> new StatementCache(connection, -1))
+            .shouldThrow(IllegalArgumentException.class)
+            .withMessage(is("The statement cache size cannot be negative."));
+    }
+
+    @Test
+    void secondPrepareOfSameSqlIsAHit() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        StatementCache sut = new StatementCache(connection, 2);
+
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            assertThat(sut.prepare("SELECT 1", closeable), sameInstance(statement1));
+        }
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            assertThat(sut.prepare("SELECT 1", closeable), sameInstance(statement1));
+        }
+
+        assertThat(sut.hits(), is(1L));
+        assertThat(sut.misses(), is(1L));
+        assertThat(sut.size(), is(1));
+        verify(connection).prepareStatement("SELECT 1");
+        verify(statement1, never()).close();
+    }
+
+    @Test
+    void releaseClearsParametersAndBatch() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        StatementCache sut = new StatementCache(connection, 2);
+
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.prepare("SELECT 1", closeable);
+        }
+
+        verify(statement1).clearParameters();
+        verify(statement1).clearBatch();
+        verify(statement1, never()).close();
+    }
+
+    @Test
+    void discardedStatementIsClosedAndNotReused() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1, statement2);
+        StatementCache sut = new StatementCache(connection, 2);
+
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.discard(sut.prepare("SELECT 1", closeable));
+        }
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            assertThat(sut.prepare("SELECT 1", closeable), sameInstance(statement2));
+        }
+
+        assertThat(sut.misses(), is(2L));
+        assertThat(sut.size(), is(1));
+        verify(statement1).close();
+        verify(statement1, never()).clearBatch();
+        verify(statement2, never()).close();
+    }
+
+    @Test
+    void statementInUseIsNotShared() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1, statement2);
+        StatementCache sut = new StatementCache(connection, 2);
+
+        try (CompositeAutoCloseable outer = new CompositeAutoCloseable();
+             CompositeAutoCloseable inner = new CompositeAutoCloseable()) {
+            assertThat(sut.prepare("SELECT 1", outer), sameInstance(statement1));
+            assertThat(sut.prepare("SELECT 1", inner), sameInstance(statement2));
+        }
+
+        assertThat(sut.misses(), is(2L));
+        assertThat(sut.size(), is(1));
+        verify(statement2).close();
+        verify(statement1, never()).close();
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvicted() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(statement2);
+        StatementCache sut = new StatementCache(connection, 1);
+
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.prepare("SELECT 1", closeable);
+        }
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.prepare("SELECT 2", closeable);
+        }
+
+        assertThat(sut.size(), is(1));
+        verify(statement1).close();
+        verify(statement2, never()).close();
+    }
+
+    @Test
+    void closeClosesCachedStatements() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        StatementCache sut = new StatementCache(connection, 2);
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.prepare("SELECT 1", closeable);
+        }
+
+        sut.close();
+
+        assertThat(sut.size(), is(0));
+        verify(statement1).close();
+    }
+
+    @Test
+    void zeroSizeClosesOnRelease() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        StatementCache sut = new StatementCache(connection, 0);
+
+        try (CompositeAutoCloseable closeable = new CompositeAutoCloseable()) {
+            sut.prepare("SELECT 1", closeable);
+        }
+
+        assertThat(sut.size(), is(0));
+        verify(statement1).close();
+        verify(statement1, never()).clearParameters();
+    }
+}
@@ -271,6 +271,29 @@ public abstract class DatabaseIntegrationTest extends IntegrationTest {
         assertThat(stored2, is(inserted));
     }
 
+    @Test
+    void upsertStagedCanInsertAndUpdate() {
+        assumeTrue(dialect.mergeInfo().supportsUpsert());
+
+        Database database = testDatabase(dataSource, dialect);
+        SalespersonRow original = aRandomSalesperson(s -> s.numberOfSales(20));
+        SalespersonRow updated = aRandomSalesperson(s -> s.numberOfSales(30).salespersonId(original.salespersonId()));
+        SalespersonRow inserted = aRandomSalesperson(s -> s.numberOfSales(40));
+        database.insert(original);
+
+        int result;
+        try (Transaction transaction = database.beginTransaction()) {
+            result = database.upsertRowsStaged(transaction, List.of(updated, inserted));
+            transaction.commit();
+        }
+        SalespersonRow stored1 = database.from(SalespersonRow.class).where(SalespersonRow::salespersonId).isEqualTo(original.salespersonId()).single();
+        SalespersonRow stored2 = database.from(SalespersonRow.class).where(SalespersonRow::salespersonId).isEqualTo(inserted.salespersonId()).single();
+
+        assertThat(result, is(dialect.mergeInfo().insertedAndUpdatedResult()));
+        assertThat(stored1, is(updated));
+        assertThat(stored2, is(inserted));
+    }
+
     @Test
     void upsertCanDoInsertOnlyIfNoColumnsAreUpdateable() {
         assumeTrue(dialect.mergeInfo().supportsUpsert());